@@ -0,0 +1,61 @@
+package com.example.application.dashboard.service;
+
+import com.example.application.config.ScreensConfigService;
+import com.example.application.permissions.service.AuthorizationFixture;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dashboard tile authorization for the benchmark user. The {@code cold} variant drops the tile cache before every
+ * call, so it measures the per-tile permission filtering rather than a cache hit.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DashboardTilesBenchmark {
+
+    private DashboardConfigService dashboardConfigService;
+    private Map<?, ?> tileCache;
+
+    @Setup(Level.Trial)
+    public void setUp(AuthorizationFixture fixture) {
+        var screensConfigService = new ScreensConfigService();
+        ReflectionTestUtils.setField(screensConfigService, "loadDefaultConfig", true);
+        ReflectionTestUtils.setField(screensConfigService, "configFile", "screens-config.json");
+        ReflectionTestUtils.invokeMethod(screensConfigService, "loadConfiguration");
+
+        dashboardConfigService = new DashboardConfigService(fixture.currentUser, screensConfigService,
+                fixture.context.getBean(MeterRegistry.class));
+        ReflectionTestUtils.invokeMethod(dashboardConfigService, "loadConfiguration");
+        tileCache = (Map<?, ?>) ReflectionTestUtils.getField(dashboardConfigService, "tileCache");
+    }
+
+    @Benchmark
+    public List<?> getTilesForDashboard() {
+        return dashboardConfigService.getTilesForDashboard();
+    }
+
+    @Benchmark
+    public List<?> getTilesForDashboardCold() {
+        tileCache.clear();
+        return dashboardConfigService.getTilesForDashboard();
+    }
+}
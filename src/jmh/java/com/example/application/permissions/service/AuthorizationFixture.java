@@ -0,0 +1,196 @@
+package com.example.application.permissions.service;
+
+import com.example.application.permissions.domain.Permission;
+import com.example.application.permissions.repository.PermissionRepository;
+import com.example.application.roles.domain.Role;
+import com.example.application.roles.repository.RoleRepository;
+import com.example.application.security.AppUserInfo;
+import com.example.application.security.AppUserPrincipal;
+import com.example.application.security.CurrentUser;
+import com.example.application.security.ScreenPermissions;
+import com.example.application.security.domain.UserId;
+import com.example.application.users.domain.User;
+import com.example.application.users.repository.UserRepository;
+import com.example.application.users.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Shared JMH state: an H2 database holding a synthetic role/screen matrix of {@link #rows} permission rows, plus the
+ * authorization services wired against it and an authenticated benchmark user.
+ * <p>
+ * Only the persistence layer and {@link PermissionIndex} run inside a Spring context; the services on top are created
+ * directly so the benchmarks measure them without method security or endpoint infrastructure.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class AuthorizationFixture {
+
+    /** Screen titles from {@code screens-config.json}; synthetic screens are added after them. */
+    public static final List<String> APPLICATION_SCREENS = List.of("Task List", "AI Chat", "Reference",
+            "Functional Areas", "Roles", "Permissions", "Users", "Settings", "Analytics", "Reports");
+
+    public static final String USERNAME = "benchmark";
+
+    /** Number of roles the benchmark user holds. */
+    static final int USER_ROLE_COUNT = 3;
+
+    @Param({ "10", "1000", "50000" })
+    public int rows;
+
+    public ConfigurableApplicationContext context;
+    public PermissionIndex permissionIndex;
+    public ScreenPermissionsService screenPermissionsService;
+    public CurrentUser currentUser;
+    public UserPermissionService userPermissionService;
+    public AppUserPrincipal principal;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkConfiguration.class).run(
+                "--spring.main.web-application-type=none", "--spring.main.banner-mode=off",
+                "--spring.datasource.url=jdbc:h2:mem:authorization-benchmark-" + rows + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa", "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop", "--spring.jpa.show-sql=false",
+                "--spring.sql.init.mode=never", "--logging.level.root=warn");
+        loadMatrix(context.getBean(JdbcTemplate.class));
+
+        permissionIndex = context.getBean(PermissionIndex.class);
+        permissionIndex.rebuild();
+        // Not a bean: only findByUsername is used, and it does not need the endpoint infrastructure
+        var userService = new UserService(context.getBean(UserRepository.class), context, null);
+        screenPermissionsService = new ScreenPermissionsService(userService, permissionIndex,
+                context.getBean(PermissionMetrics.class));
+
+        SecurityContextHolder.setStrategyName(SecurityContextHolder.MODE_GLOBAL);
+        currentUser = new CurrentUser(SecurityContextHolder.getContextHolderStrategy(), screenPermissionsService);
+        userPermissionService = new UserPermissionService(currentUser, context.getBean(PermissionMetrics.class));
+
+        principal = new BenchmarkPrincipal();
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities()));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        SecurityContextHolder.clearContext();
+        context.close();
+    }
+
+    /**
+     * Returns the name of a screen the benchmark user has rights on, or of a synthetic screen for larger matrices.
+     */
+    public static String screenName(int index) {
+        return index < APPLICATION_SCREENS.size() ? APPLICATION_SCREENS.get(index) : "Screen %05d".formatted(index);
+    }
+
+    /**
+     * Spreads {@link #rows} permission rows over roughly {@code sqrt(rows) / 4} roles, so both the number of roles and
+     * the number of screens grow with the matrix.
+     */
+    private void loadMatrix(JdbcTemplate jdbcTemplate) {
+        int roleCount = Math.max(USER_ROLE_COUNT, (int) Math.sqrt(rows) / 4);
+        int screensPerRole = (rows + roleCount - 1) / roleCount;
+
+        List<Object[]> roles = new ArrayList<>();
+        for (long roleId = 1; roleId <= roleCount; roleId++) {
+            roles.add(new Object[] { roleId, "ROLE_" + roleId, "Synthetic role " + roleId });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO roles (id, name, description) VALUES (?, ?, ?)", roles);
+
+        jdbcTemplate.update("INSERT INTO users (id, username, full_name, email, active) VALUES (1, ?, ?, ?, TRUE)",
+                USERNAME, "Benchmark User", USERNAME + "@example.com");
+        List<Object[]> userRoles = new ArrayList<>();
+        for (long roleId = 1; roleId <= USER_ROLE_COUNT; roleId++) {
+            userRoles.add(new Object[] { 1L, roleId });
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO user_roles (user_id, role_id) VALUES (?, ?)", userRoles);
+
+        List<Object[]> permissions = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            long roleId = row / screensPerRole + 1;
+            int screen = row % screensPerRole;
+            boolean canRead = screen % 4 != 3;
+            permissions.add(new Object[] { roleId, screenName(screen), canRead, canRead && screen % 2 == 0 });
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO permissions (role_id, screen_name, can_read, can_write) VALUES (?, ?, ?, ?)", permissions);
+    }
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({ DataSourceAutoConfiguration.class, JdbcTemplateAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class, TransactionAutoConfiguration.class })
+    @EntityScan(basePackageClasses = { Permission.class, Role.class, User.class })
+    @EnableJpaRepositories(basePackageClasses = { PermissionRepository.class, RoleRepository.class,
+            UserRepository.class })
+    @Import({ PermissionIndex.class, PermissionMetrics.class })
+    static class BenchmarkConfiguration {
+
+        // Meters are recorded as in production, so their overhead is part of the measurement
+        @Bean
+        SimpleMeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    private static final class BenchmarkPrincipal implements AppUserPrincipal, AppUserInfo {
+
+        private volatile ScreenPermissions screenPermissions;
+
+        @Override
+        public AppUserInfo getAppUser() {
+            return this;
+        }
+
+        @Override
+        public UserId getUserId() {
+            return UserId.of(USERNAME);
+        }
+
+        @Override
+        public String getPreferredUsername() {
+            return USERNAME;
+        }
+
+        @Override
+        public Collection<? extends GrantedAuthority> getAuthorities() {
+            return List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        }
+
+        @Override
+        public ScreenPermissions getScreenPermissions() {
+            return screenPermissions;
+        }
+
+        @Override
+        public void setScreenPermissions(ScreenPermissions screenPermissions) {
+            this.screenPermissions = screenPermissions;
+        }
+    }
+}
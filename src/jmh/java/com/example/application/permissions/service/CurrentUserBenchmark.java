@@ -0,0 +1,36 @@
+package com.example.application.permissions.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access to the current user and their permission snapshot, which every authorization decision starts with.
+ * <p>
+ * Kept next to the other authorization benchmarks rather than in the security package, which must not depend on the
+ * permission feature that provides the fixture.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CurrentUserBenchmark {
+
+    @Benchmark
+    public Object get(AuthorizationFixture fixture) {
+        return fixture.currentUser.get();
+    }
+
+    @Benchmark
+    public Object getScreenPermissions(AuthorizationFixture fixture) {
+        return fixture.currentUser.getScreenPermissions();
+    }
+}
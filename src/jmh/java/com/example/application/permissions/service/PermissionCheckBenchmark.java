@@ -0,0 +1,53 @@
+package com.example.application.permissions.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Screen permission checks as performed by {@code @RequiresScreen} and {@code @PreAuthorize} expressions, plus the two
+ * paths whose cost depends on the size of the permission matrix: resolving a user's snapshot and rebuilding the index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PermissionCheckBenchmark {
+
+    @Benchmark
+    public boolean hasReadPermission(AuthorizationFixture fixture) {
+        return fixture.userPermissionService.hasReadPermission("Task List");
+    }
+
+    @Benchmark
+    public boolean hasWritePermission(AuthorizationFixture fixture) {
+        return fixture.userPermissionService.hasWritePermission("Task List");
+    }
+
+    @Benchmark
+    public void hasReadPermissionForEveryScreen(AuthorizationFixture fixture, Blackhole blackhole) {
+        for (String screen : AuthorizationFixture.APPLICATION_SCREENS) {
+            blackhole.consume(fixture.userPermissionService.hasReadPermission(screen));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object resolveScreenPermissions(AuthorizationFixture fixture) {
+        return fixture.screenPermissionsService.resolve(fixture.principal);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object rebuildPermissionIndex(AuthorizationFixture fixture) {
+        return fixture.permissionIndex.rebuild();
+    }
+}
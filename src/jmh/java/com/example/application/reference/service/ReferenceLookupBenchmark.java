@@ -0,0 +1,111 @@
+package com.example.application.reference.service;
+
+import com.example.application.reference.domain.ReferenceTable;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resolving a page of codes to descriptions over {@link #rows} reference rows in 100 categories.
+ * <p>
+ * {@code scanEntities} is the original path: every entity in one list, as the unpaged {@code ReferenceService.list()}
+ * used to return them, scanned once per code. {@code hashMap} is a map of maps of the same strings, and {@code referenceLookup} is
+ * {@link ReferenceLookup#resolveAll}. A tenth of the requested codes are unknown. The codes are fresh copies, as they
+ * would be after deserialization, so no lookup can succeed on reference equality alone.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ReferenceLookupBenchmark {
+
+    private static final int CATEGORIES = 100;
+    private static final int PAGE_SIZE = 50;
+
+    @Param({ "100000" })
+    public int rows;
+
+    private List<ReferenceTable> entities;
+    private Map<String, Map<String, String>> hashMap;
+    private ReferenceLookup lookup;
+    private String category;
+    private List<String> codes;
+
+    @Setup
+    public void setUp() {
+        entities = new ArrayList<>(rows);
+        hashMap = new HashMap<>();
+        for (int i = 0; i < rows; i++) {
+            var row = new ReferenceTable("CODE-" + i, "Description of reference value " + i);
+            row.setId((long) i);
+            row.setCategory("category-" + i % CATEGORIES);
+            entities.add(row);
+            hashMap.computeIfAbsent(row.getCategory(), key -> new HashMap<>())
+                .putIfAbsent(row.getCode(), row.getDescription());
+        }
+        lookup = ReferenceLookup.of(entities);
+
+        var random = new SplittableRandom(42);
+        category = "category-7";
+        codes = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            codes.add(i % 10 == 0 ? "CODE-MISSING-" + i
+                    : new String("CODE-" + (random.nextInt(rows / CATEGORIES) * CATEGORIES + 7)));
+        }
+    }
+
+    @Benchmark
+    public List<String> scanEntities() {
+        List<String> descriptions = new ArrayList<>(codes.size());
+        for (String code : codes) {
+            String description = null;
+            for (ReferenceTable row : entities) {
+                if (category.equals(row.getCategory()) && code.equals(row.getCode())) {
+                    description = row.getDescription();
+                    break;
+                }
+            }
+            descriptions.add(description);
+        }
+        return descriptions;
+    }
+
+    @Benchmark
+    public List<String> hashMap() {
+        Map<String, String> table = hashMap.get(category);
+        List<String> descriptions = new ArrayList<>(codes.size());
+        for (String code : codes) {
+            descriptions.add(table.get(code));
+        }
+        return descriptions;
+    }
+
+    @Benchmark
+    public List<String> referenceLookup() {
+        return lookup.resolveAll(category, codes);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public ReferenceLookup build() {
+        return ReferenceLookup.of(entities);
+    }
+}
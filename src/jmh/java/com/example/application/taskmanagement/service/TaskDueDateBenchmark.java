@@ -0,0 +1,146 @@
+package com.example.application.taskmanagement.service;
+
+import com.example.application.taskmanagement.domain.ArchivedTaskRepository;
+import com.example.application.taskmanagement.domain.Task;
+import com.example.application.taskmanagement.domain.TaskDueCounts;
+import com.example.application.taskmanagement.domain.TaskRepository;
+import com.example.application.taskmanagement.domain.TaskSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Due-date queries of {@link TaskService} against an H2 database of {@link #rows} tasks. With {@code indexed=false} the
+ * {@code (due_date, creation_date)} index is dropped before measuring, so the two variants show what the index saves.
+ * The query plans are printed during setup to confirm which access path H2 chose.
+ * <p>
+ * Due dates are spread evenly over two years around the benchmark date and one task in ten has none, so a week holds
+ * about 1% of the rows. Half of the tasks are overdue, which {@code countDue} has to count one by one with or without
+ * the index; the range queries read only the rows they return.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class TaskDueDateBenchmark {
+
+    private static final LocalDate TODAY = LocalDate.parse("2025-06-15");
+    private static final int DUE_DATE_DAYS = 730;
+
+    @Param({ "100000", "5000000" })
+    public int rows;
+
+    @Param({ "true", "false" })
+    public boolean indexed;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BenchmarkConfiguration.class).run(
+                "--spring.main.web-application-type=none", "--spring.main.banner-mode=off",
+                // H2 would otherwise return the cached result of an identical query on unchanged tables
+                "--spring.datasource.url=jdbc:h2:mem:task-due-date-benchmark-" + rows
+                        + ";DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=FALSE",
+                "--spring.datasource.username=sa", "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop", "--spring.jpa.show-sql=false",
+                "--spring.sql.init.mode=never", "--logging.level.root=warn");
+        var jdbcTemplate = context.getBean(JdbcTemplate.class);
+        // Building the index once after the load is several times faster than maintaining it row by row
+        jdbcTemplate.execute("DROP INDEX idx_task_due_date_creation_date");
+        loadTasks(jdbcTemplate);
+        if (indexed) {
+            jdbcTemplate.execute(
+                    "CREATE INDEX idx_task_due_date_creation_date ON task (due_date, creation_date)");
+        }
+        jdbcTemplate.execute("ANALYZE");
+        printPlans(jdbcTemplate);
+
+        var repository = context.getBean(TaskRepository.class);
+        var clock = Clock.fixed(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        // Not a bean: created directly so only the queries are measured, without method security
+        taskService = new TaskService(repository, context.getBean(ArchivedTaskRepository.class),
+                new TaskSearchIndex(repository), new TaskEventBroadcaster(0),
+                new TaskGroupCommitter(null, false, 100, 5, 10_000), clock);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TaskDueCounts countDue() {
+        return taskService.countDue();
+    }
+
+    @Benchmark
+    public List<Task> listDueThisWeek() {
+        return taskService.listDueBetween(TODAY, TODAY.plusDays(6), 50);
+    }
+
+    @Benchmark
+    public List<Task> listOverdue() {
+        return taskService.listOverdue(50);
+    }
+
+    /**
+     * Generates the rows inside H2, which loads millions of tasks far faster than batched inserts over JDBC.
+     */
+    private void loadTasks(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                INSERT INTO task (task_id, description, creation_date, due_date)
+                SELECT x, 'Task ' || x, TIMESTAMP '2023-01-01 00:00:00' + x * INTERVAL '1' SECOND,
+                    CASE WHEN MOD(x, 10) = 0 THEN NULL
+                        ELSE DATEADD(DAY, MOD(x * 7919, CAST(? AS INT)) - CAST(? AS INT), CAST(? AS DATE)) END
+                FROM SYSTEM_RANGE(1, CAST(? AS INT))""", DUE_DATE_DAYS, DUE_DATE_DAYS / 2, TODAY, rows);
+    }
+
+    private void printPlans(JdbcTemplate jdbcTemplate) {
+        String count = jdbcTemplate.queryForObject("EXPLAIN SELECT COUNT(*) FROM task WHERE due_date < ?",
+                String.class, TODAY.plusDays(7));
+        String range = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT * FROM task WHERE due_date BETWEEN ? AND ? ORDER BY due_date, creation_date",
+                String.class, TODAY, TODAY.plusDays(6));
+        System.out.printf("%n[rows=%d, indexed=%b] count plan:%n%s%n range plan:%n%s%n", rows, indexed, count, range);
+    }
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({ DataSourceAutoConfiguration.class, JdbcTemplateAutoConfiguration.class,
+            HibernateJpaAutoConfiguration.class, TransactionAutoConfiguration.class })
+    @EntityScan(basePackageClasses = Task.class)
+    @EnableJpaRepositories(basePackageClasses = TaskRepository.class)
+    static class BenchmarkConfiguration {
+    }
+}
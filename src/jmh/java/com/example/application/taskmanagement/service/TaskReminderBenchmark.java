@@ -0,0 +1,110 @@
+package com.example.application.taskmanagement.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link HashedTimingWheel} of {@link TaskReminderScheduler} holding {@link #tasks} synthetic reminders, against a
+ * {@link PriorityQueue} holding the same.
+ * <p>
+ * Reminders are spread evenly over a two day window, the default horizon of the scheduler, on one second ticks. The
+ * churn benchmarks schedule one new reminder per operation and move a virtual clock forward far enough that one
+ * reminder expires per operation on average, so the number of pending reminders stays at {@link #tasks}. The
+ * reschedule benchmark replaces the reminder of a random task, as a reload of the window does for every task. With
+ * fewer buckets than ticks in the window, every bucket holds reminders of later revolutions that each visit has to
+ * step over; {@link #wheelSize} shows that cost.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Thread)
+public class TaskReminderBenchmark {
+
+    private static final long TICK_MILLIS = 1000;
+    private static final long WINDOW_MILLIS = TimeUnit.DAYS.toMillis(2);
+    private static final int OFFSETS = 1 << 20;
+
+    private record Timeout(long deadline, long key) {
+    }
+
+    @Param({ "1000000" })
+    public int tasks;
+
+    @Param({ "4096", "262144" })
+    public int wheelSize;
+
+    private HashedTimingWheel<Long> wheel;
+    private PriorityQueue<Timeout> heap;
+    private final long[] offsets = new long[OFFSETS];
+    private long step;
+    private long now;
+    private long nextKey;
+    private int next;
+    private long expired;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        var random = new SplittableRandom(42);
+        for (int i = 0; i < OFFSETS; i++) {
+            offsets[i] = random.nextLong(WINDOW_MILLIS);
+        }
+        step = WINDOW_MILLIS / tasks;
+        now = 0;
+        wheel = new HashedTimingWheel<>(TICK_MILLIS, wheelSize, 0);
+        heap = new PriorityQueue<>(tasks, Comparator.comparingLong(Timeout::deadline));
+        for (nextKey = 0; nextKey < tasks; nextKey++) {
+            long deadline = offsets[(int) nextKey & OFFSETS - 1];
+            wheel.schedule(nextKey, nextKey, deadline);
+            heap.add(new Timeout(deadline, nextKey));
+        }
+    }
+
+    @Benchmark
+    public long churnWheel() {
+        now += step;
+        wheel.schedule(nextKey, nextKey, now + offset());
+        nextKey++;
+        wheel.advance(now, (key, value) -> expired++);
+        return expired;
+    }
+
+    @Benchmark
+    public long churnHeap() {
+        now += step;
+        heap.add(new Timeout(now + offset(), nextKey++));
+        while (heap.peek().deadline() <= now) {
+            heap.poll();
+            expired++;
+        }
+        return expired;
+    }
+
+    @Benchmark
+    public int rescheduleWheel() {
+        long key = offsets[next & OFFSETS - 1] % tasks;
+        wheel.schedule(key, key, offset());
+        return wheel.size();
+    }
+
+    private long offset() {
+        return offsets[next++ & OFFSETS - 1];
+    }
+}
@@ -0,0 +1,62 @@
+import { useRef, useState } from 'react';
+import { Upload } from 'lucide-react';
+import { toast } from 'sonner';
+import { Button } from './ui/button';
+import { uploadImport } from '../lib/upload';
+import handleError from 'Frontend/views/_ErrorHandler';
+
+interface ImportButtonProps<R> {
+  /** The import endpoint, such as `/api/tasks/import` */
+  url: string;
+  label: string;
+  /** Title of the notification shown when the import has finished */
+  successTitle: string;
+  /** Summarizes the report in the notification */
+  describe: (report: R) => string;
+  onImported?: (report: R) => void;
+  className?: string;
+}
+
+/**
+ * Lets the user pick a CSV or NDJSON file and uploads it to a bulk import endpoint.
+ */
+export function ImportButton<R>({ url, label, successTitle, describe, onImported, className }: ImportButtonProps<R>) {
+  const input = useRef<HTMLInputElement>(null);
+  const [uploading, setUploading] = useState(false);
+
+  const upload = async (file: File) => {
+    setUploading(true);
+    try {
+      const report = await uploadImport<R>(url, file);
+      toast.success(successTitle, { description: describe(report), duration: 5000 });
+      onImported?.(report);
+    } catch (error) {
+      handleError(error);
+    } finally {
+      setUploading(false);
+    }
+  };
+
+  return (
+    <>
+      <input
+        ref={input}
+        type="file"
+        accept=".csv,.ndjson,.jsonl,text/csv,application/x-ndjson"
+        className="hidden"
+        onChange={(event) => {
+          const file = event.target.files?.[0];
+          // Cleared so that picking the same file again triggers another import
+          event.target.value = '';
+          if (file) {
+            void upload(file);
+          }
+        }}
+      />
+      <Button variant="outline" className={className} disabled={uploading} onClick={() => input.current?.click()}>
+        <Upload className="h-4 w-4" />
+        {label}
+      </Button>
+    </>
+  );
+}
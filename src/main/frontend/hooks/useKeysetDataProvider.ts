@@ -0,0 +1,74 @@
+import { useMemo, useRef, useState } from 'react';
+import type { GridDataProviderCallback, GridDataProviderParams } from '@vaadin/react-components/Grid.js';
+
+export interface KeysetWindow<T, C> {
+  items: T[];
+  next?: C | null;
+}
+
+export type KeysetFetch<T, C> = (after: C | undefined, limit: number) => Promise<KeysetWindow<T, C>>;
+
+export type KeysetDataProvider<T> = ((
+  params: GridDataProviderParams<T>,
+  callback: GridDataProviderCallback<T>,
+) => Promise<void>) & { refresh: () => void; update: () => void };
+
+/**
+ * Grid data provider for endpoints paginated by cursor instead of page number.
+ *
+ * The cursor returned with each page is remembered, so the grid's next page request seeks directly to it and costs
+ * the same at any scroll depth. Jumping ahead (e.g. dragging the scrollbar) walks forward from the deepest known
+ * cursor once; those cursors are then remembered too. Grid sorting and filtering are not supported, the order is
+ * defined by the endpoint.
+ *
+ * `refresh()` starts over from the first page. `update()` re-requests the visible pages but keeps the cursors, which
+ * stay valid when rows are added or removed, so applying a pushed change costs the same at any scroll depth.
+ */
+export const useKeysetDataProvider = <T, C>(fetchWindow: KeysetFetch<T, C>): KeysetDataProvider<T> => {
+  const [generation, setGeneration] = useState(0);
+  // cursors.get(page) is the cursor to pass for that page; page 0 starts without one
+  const cursors = useRef(new Map<number, C | undefined>([[0, undefined]]));
+  // Carried over by update(), so the grid does not shrink under the user's scroll position while pages reload
+  const estimatedSize = useRef(0);
+
+  return useMemo(() => {
+    const known = cursors.current;
+    let size = estimatedSize.current;
+    let sizeKnown = false;
+
+    const provider = async (params: GridDataProviderParams<T>, callback: GridDataProviderCallback<T>) => {
+      const { page, pageSize } = params;
+      let start = page;
+      while (!known.has(start)) {
+        start--;
+      }
+      for (let current = start; current <= page; current++) {
+        const window = await fetchWindow(known.get(current), pageSize);
+        if (window.next == null) {
+          size = current * pageSize + window.items.length;
+          sizeKnown = true;
+          estimatedSize.current = size;
+          callback(current === page ? window.items : [], size);
+          return;
+        }
+        known.set(current + 1, window.next);
+        if (current === page) {
+          // Keep one page beyond the deepest loaded one, so the grid keeps asking for more
+          size = sizeKnown ? size : Math.max(size, (page + 2) * pageSize);
+          estimatedSize.current = size;
+          callback(window.items, size);
+        }
+      }
+    };
+
+    return Object.assign(provider, {
+      refresh: () => {
+        cursors.current = new Map<number, C | undefined>([[0, undefined]]);
+        estimatedSize.current = 0;
+        setGeneration((value) => value + 1);
+      },
+      update: () => setGeneration((value) => value + 1),
+    });
+    // eslint-disable-next-line react-hooks/exhaustive-deps
+  }, [generation]);
+};
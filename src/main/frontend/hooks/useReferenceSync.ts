@@ -0,0 +1,247 @@
+import { useCallback, useEffect, useState } from 'react';
+import type { ListService } from '@vaadin/hilla-react-crud';
+import { ReferenceService } from 'Frontend/generated/endpoints';
+import type ReferenceTable from 'Frontend/generated/com/example/application/reference/domain/ReferenceTable';
+import type ReferenceChange from 'Frontend/generated/com/example/application/reference/service/ReferenceChange';
+import type ReferenceSyncCursor from 'Frontend/generated/com/example/application/reference/service/ReferenceSyncCursor';
+import type AndFilter from 'Frontend/generated/com/vaadin/hilla/crud/filter/AndFilter';
+import type OrFilter from 'Frontend/generated/com/vaadin/hilla/crud/filter/OrFilter';
+import type PropertyStringFilter from 'Frontend/generated/com/vaadin/hilla/crud/filter/PropertyStringFilter';
+import Matcher from 'Frontend/generated/com/vaadin/hilla/crud/filter/PropertyStringFilter/Matcher';
+import type Pageable from 'Frontend/generated/com/vaadin/hilla/mappedtypes/Pageable';
+import Direction from 'Frontend/generated/org/springframework/data/domain/Sort/Direction';
+
+const DATABASE_NAME = 'reference-sync';
+const ROWS = 'rows';
+const META = 'meta';
+const CURSOR_KEY = 'cursor';
+
+// One index per sortable column, like ReferenceFilters on the server; ties are broken by ID as there
+const SORT_INDEXES: Record<string, string | string[]> = {
+  code: 'code',
+  description: 'description',
+  category: ['category', 'code'],
+};
+const DEFAULT_SORT = 'category';
+
+type ReferenceListService = ListService<ReferenceTable>;
+type FilterUnion = AndFilter | OrFilter | PropertyStringFilter;
+
+// IndexedDB leaves rows whose index key is null out of the index, so a missing category is stored as ''
+type StoredRow = ReferenceChange & { category: string };
+
+function completion<T>(request: IDBRequest<T>): Promise<T> {
+  return new Promise((resolve, reject) => {
+    request.onsuccess = () => resolve(request.result);
+    request.onerror = () => reject(request.error);
+  });
+}
+
+function committed(transaction: IDBTransaction): Promise<void> {
+  return new Promise((resolve, reject) => {
+    transaction.oncomplete = () => resolve();
+    transaction.onerror = () => reject(transaction.error);
+    transaction.onabort = () => reject(transaction.error);
+  });
+}
+
+function openDatabase(): Promise<IDBDatabase> {
+  const request = indexedDB.open(DATABASE_NAME, 2);
+  request.onupgradeneeded = (event) => {
+    if (event.oldVersion < 1) {
+      request.result.createObjectStore(ROWS, { keyPath: 'id' });
+      request.result.createObjectStore(META);
+    }
+    if (event.oldVersion < 2) {
+      // Rows of version 1 may have a null category, so the copy is loaded again
+      const rows = request.transaction!.objectStore(ROWS);
+      rows.clear();
+      request.transaction!.objectStore(META).delete(CURSOR_KEY);
+      for (const [name, keyPath] of Object.entries(SORT_INDEXES)) {
+        rows.createIndex(name, keyPath);
+      }
+    }
+  };
+  return completion(request);
+}
+
+async function readCursor(database: IDBDatabase): Promise<ReferenceSyncCursor | undefined> {
+  const transaction = database.transaction(META, 'readonly');
+  return completion(transaction.objectStore(META).get(CURSOR_KEY) as IDBRequest<ReferenceSyncCursor | undefined>);
+}
+
+async function writeChanges(
+  database: IDBDatabase,
+  changes: ReferenceChange[],
+  cursor: ReferenceSyncCursor | undefined,
+  reset: boolean,
+): Promise<void> {
+  const transaction = database.transaction([ROWS, META], 'readwrite');
+  const rows = transaction.objectStore(ROWS);
+  if (reset) {
+    rows.clear();
+  }
+  for (const change of changes) {
+    if (change.deleted) {
+      rows.delete(change.id!);
+    } else {
+      rows.put({ ...change, category: change.category ?? '' } satisfies StoredRow);
+    }
+  }
+  transaction.objectStore(META).put(cursor, CURSOR_KEY);
+  return committed(transaction);
+}
+
+function matches(row: StoredRow, filter: FilterUnion | undefined): boolean {
+  if (!filter) {
+    return true;
+  }
+  switch (filter['@type']) {
+    case 'and':
+      return ((filter as AndFilter).children ?? []).every((child) => matches(row, child as FilterUnion));
+    case 'or': {
+      const children = (filter as OrFilter).children ?? [];
+      return children.length === 0 || children.some((child) => matches(row, child as FilterUnion));
+    }
+    case 'propertyString': {
+      const { propertyId, filterValue, matcher } = filter as PropertyStringFilter;
+      const value = String(row[propertyId as keyof StoredRow] ?? '');
+      const wanted = filterValue ?? '';
+      if (matcher === Matcher.EQUALS) {
+        return value === wanted;
+      }
+      if (matcher === Matcher.CONTAINS) {
+        return value.toLowerCase().includes(wanted.toLowerCase());
+      }
+      throw new Error(`Matcher ${matcher} is not supported for ${propertyId}`);
+    }
+    default:
+      throw new Error(`Unsupported filter ${(filter as FilterUnion)['@type']}`);
+  }
+}
+
+function toReferenceTable(row: StoredRow): ReferenceTable {
+  return {
+    id: row.id,
+    code: row.code,
+    description: row.description,
+    category: row.category || undefined,
+    changeVersion: row.version,
+    deleted: false,
+  };
+}
+
+/**
+ * Serves grid pages from the local copy. The rows are walked in the order of the index of the first sort column,
+ * so only the requested page is held in memory, however large the copy is.
+ */
+function localService(database: IDBDatabase): ReferenceListService {
+  return {
+    list(request: Pageable, filter: FilterUnion | undefined): Promise<ReferenceTable[]> {
+      const order = request.sort.orders.find((candidate) => candidate && candidate.property in SORT_INDEXES);
+      const skip = request.pageNumber * request.pageSize;
+      const page: ReferenceTable[] = [];
+      let matched = 0;
+      // Opened inside the promise, so a database closed by a newer sync rejects instead of throwing
+      return new Promise((resolve, reject) => {
+        const cursorRequest = database
+          .transaction(ROWS, 'readonly')
+          .objectStore(ROWS)
+          .index(order?.property ?? DEFAULT_SORT)
+          .openCursor(null, order?.direction === Direction.DESC ? 'prev' : 'next');
+        cursorRequest.onerror = () => reject(cursorRequest.error);
+        cursorRequest.onsuccess = () => {
+          const cursor = cursorRequest.result;
+          if (!cursor || page.length === request.pageSize) {
+            resolve(page);
+            return;
+          }
+          try {
+            const row = cursor.value as StoredRow;
+            if (matches(row, filter)) {
+              if (matched >= skip) {
+                page.push(toReferenceTable(row));
+              }
+              matched++;
+            }
+            cursor.continue();
+          } catch (error) {
+            reject(error);
+          }
+        };
+      });
+    },
+  };
+}
+
+/**
+ * Keeps a copy of the reference table in IndexedDB, brought up to date with `ReferenceService.changesSince`, and
+ * returns a grid service reading from it.
+ *
+ * The first visit loads every row in batches into IndexedDB, and the grid pages through the server meanwhile. Later
+ * visits read the stored copy right away and only fetch the rows changed since the stored cursor, tombstones of
+ * deleted rows included; the service is replaced once they are applied, so the grid reloads. Rows are kept in
+ * IndexedDB rather than in memory, and the grid reads them a page at a time. Without IndexedDB, for example in some
+ * private browsing modes, the grid stays on the server. `refresh()` syncs again.
+ */
+export const useReferenceSync = () => {
+  const [service, setService] = useState<ReferenceListService>(ReferenceService);
+  const [syncing, setSyncing] = useState(true);
+  const [generation, setGeneration] = useState(0);
+
+  useEffect(() => {
+    setSyncing(true);
+    let cancelled = false;
+    let database: IDBDatabase | undefined;
+
+    const sync = async () => {
+      let cursor: ReferenceSyncCursor | undefined;
+      try {
+        database = await openDatabase();
+        cursor = await readCursor(database);
+      } catch (error) {
+        console.warn('Reference copy unavailable, paging through the server:', error);
+        return;
+      }
+      if (cursor && !cancelled) {
+        setService(localService(database));
+      }
+
+      let more = true;
+      let changed = !cursor;
+      while (more && !cancelled) {
+        const batch = await ReferenceService.changesSince(cursor);
+        if (!batch) {
+          break;
+        }
+        const changes = (batch.changes ?? []).filter(
+          (change): change is ReferenceChange => change !== undefined && change.id !== undefined,
+        );
+        await writeChanges(database, changes, batch.cursor, batch.reset);
+        changed = changed || batch.reset || changes.length > 0;
+        cursor = batch.cursor;
+        more = batch.more;
+      }
+      if (!cancelled && !more && changed) {
+        setService(localService(database));
+      }
+    };
+
+    sync()
+      .catch((error) => console.error('Failed to synchronize reference data:', error))
+      .finally(() => {
+        if (!cancelled) {
+          setSyncing(false);
+        }
+      });
+    return () => {
+      cancelled = true;
+      database?.close();
+    };
+  }, [generation]);
+
+  // Fetches the changes made since the last sync, for example by an import from this page
+  const refresh = useCallback(() => setGeneration((value) => value + 1), []);
+
+  return { service, syncing, refresh };
+};
@@ -0,0 +1,30 @@
+/**
+ * Posts a CSV or NDJSON file to one of the bulk import endpoints and returns its JSON report.
+ *
+ * The endpoints are plain Spring MVC controllers rather than Hilla endpoints, so the request carries the session
+ * cookie and the CSRF token from the page's `_csrf` meta tags itself, as the chat view does. The file is sent as the
+ * raw request body, which the server reads while it arrives.
+ */
+export async function uploadImport<R>(url: string, file: File): Promise<R> {
+  const csrfToken = document.querySelector('meta[name="_csrf"]')?.getAttribute('content');
+  const csrfHeader = document.querySelector('meta[name="_csrf_header"]')?.getAttribute('content');
+
+  const headers: Record<string, string> = {
+    'Content-Type': /\.(nd)?jsonl?$/i.test(file.name) ? 'application/x-ndjson' : 'text/csv',
+    Accept: 'application/json',
+  };
+  if (csrfToken && csrfHeader) {
+    headers[csrfHeader] = csrfToken;
+  }
+
+  const response = await fetch(url, {
+    method: 'POST',
+    headers,
+    body: file,
+    credentials: 'same-origin',
+  });
+  if (!response.ok) {
+    throw new Error(`Import failed with status ${response.status}`);
+  }
+  return response.json() as Promise<R>;
+}
@@ -1,5 +1,6 @@
 import { ViewConfig } from '@vaadin/hilla-file-router/types.js';
-import { 
+import { Grid, GridColumn } from '@vaadin/react-components';
+import {
   Breadcrumb,
   BreadcrumbList,
   BreadcrumbItem,
@@ -7,6 +8,10 @@ import {
   BreadcrumbPage,
   BreadcrumbSeparator
 } from '../components/ui/breadcrumb';
+import { Card, CardContent, CardHeader, CardTitle } from '../components/ui/card';
+import { AnalyticsService } from 'Frontend/generated/endpoints';
+import type TaskAnalytics from 'Frontend/generated/com/example/application/analytics/service/TaskAnalytics';
+import { useEffect, useState } from 'react';
 
 export const config: ViewConfig = {
   menu: {
@@ -16,7 +21,32 @@ export const config: ViewConfig = {
   loginRequired: true,
 };
 
+const DAYS_SHOWN = 30;
+
+function isoDate(date: Date) {
+  return date.toISOString().slice(0, 10);
+}
+
 export default function AnalyticsView() {
+  const [analytics, setAnalytics] = useState<TaskAnalytics | undefined>();
+
+  const loadAnalytics = async () => {
+    const to = new Date();
+    const from = new Date(to.getTime() - (DAYS_SHOWN - 1) * 24 * 60 * 60 * 1000);
+    try {
+      setAnalytics(await AnalyticsService.taskAnalytics(isoDate(from), isoDate(to)));
+    } catch (error) {
+      console.error('Failed to load analytics:', error);
+    }
+  };
+
+  useEffect(() => {
+    loadAnalytics();
+  }, []);
+
+  const days = (analytics?.days ?? []).filter((day) => day !== undefined).slice().reverse();
+  const createdInRange = days.reduce((sum, day) => sum + day.created, 0);
+
   return (
     <main className="p-m">
       <Breadcrumb>
@@ -32,6 +62,32 @@ export default function AnalyticsView() {
       </Breadcrumb>
       <h1>Analytics</h1>
       <p>View performance metrics and insights</p>
+      <div className="grid gap-4 md:grid-cols-3 my-4">
+        <Card>
+          <CardHeader>
+            <CardTitle>Tasks</CardTitle>
+          </CardHeader>
+          <CardContent className="text-2xl font-bold">{analytics?.totalTasks ?? '–'}</CardContent>
+        </Card>
+        <Card>
+          <CardHeader>
+            <CardTitle>Overdue</CardTitle>
+          </CardHeader>
+          <CardContent className="text-2xl font-bold">{analytics?.overdueTasks ?? '–'}</CardContent>
+        </Card>
+        <Card>
+          <CardHeader>
+            <CardTitle>Created in the last {DAYS_SHOWN} days</CardTitle>
+          </CardHeader>
+          <CardContent className="text-2xl font-bold">{analytics ? createdInRange : '–'}</CardContent>
+        </Card>
+      </div>
+      <Grid items={days}>
+        <GridColumn path="day" header="Day" />
+        <GridColumn path="created" header="Created" />
+        <GridColumn path="due" header="Due" />
+        <GridColumn path="overdue" header="Overdue" />
+      </Grid>
     </main>
   );
-}
\ No newline at end of file
+}
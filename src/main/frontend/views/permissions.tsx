@@ -94,8 +94,10 @@ export default function PermissionsView() {
     }
 
     try {
-      await PermissionService.savePermission(selectedRole.id, screenName, canRead, canWrite);
-      loadPermissions(selectedRole);
+      const result = await PermissionService.savePermissions(selectedRole.id, [{ screenName, canRead, canWrite }]);
+      if (result) {
+        setPermissions(result);
+      }
     } catch (error) {
       console.error('Failed to save permission:', error);
       alert('Failed to save permission: ' + (error as any).message);
@@ -110,10 +112,13 @@ export default function PermissionsView() {
     }
 
     try {
-      for (const screen of SCREENS) {
-        await PermissionService.savePermission(adminRole.id, screen.name, true, true);
+      const result = await PermissionService.savePermissions(
+        adminRole.id,
+        SCREENS.map(screen => ({ screenName: screen.name, canRead: true, canWrite: true }))
+      );
+      if (result && selectedRole?.id === adminRole.id) {
+        setPermissions(result);
       }
-      loadPermissions(selectedRole);
       alert('Administrator permissions initialized successfully!');
     } catch (error) {
       console.error('Failed to initialize admin permissions:', error);
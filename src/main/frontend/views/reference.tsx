@@ -1,5 +1,4 @@
 import { ViewConfig } from '@vaadin/hilla-file-router/types.js';
-import { ReferenceService } from 'Frontend/generated/endpoints';
 import { 
   Breadcrumb,
   BreadcrumbList,
@@ -8,9 +7,11 @@ import {
   BreadcrumbPage,
   BreadcrumbSeparator
 } from '../components/ui/breadcrumb';
-import { Grid, GridColumn } from '@vaadin/react-components';
-import { useEffect, useState } from 'react';
-import type ReferenceTable from 'Frontend/generated/com/example/application/reference/domain/ReferenceTable';
+import { AutoGrid, type AutoGridRef } from '@vaadin/hilla-react-crud';
+import { useRef } from 'react';
+import ReferenceTableModel from 'Frontend/generated/com/example/application/reference/domain/ReferenceTableModel';
+import { useReferenceSync } from '../hooks/useReferenceSync';
+import { ImportButton } from '../components/import-button';
 
 export const config: ViewConfig = {
   menu: {
@@ -20,16 +21,18 @@ export const config: ViewConfig = {
   loginRequired: true,
 };
 
-export default function ReferenceView() {
-  const [items, setItems] = useState<ReferenceTable[]>([]);
+// The part of the /api/references/import response shown after an import; the endpoint is not a Hilla endpoint, so
+// no type is generated for it
+interface ReferenceImportReport {
+  inserted: number;
+  updated: number;
+  rejected: number;
+}
 
-  useEffect(() => {
-    ReferenceService.list().then(data => {
-      if (data) {
-        setItems(data.filter((item): item is ReferenceTable => item !== undefined));
-      }
-    });
-  }, []);
+export default function ReferenceView() {
+  // Pages come from the local copy once it is in sync; only the rows changed since the last visit are fetched
+  const { service, refresh } = useReferenceSync();
+  const grid = useRef<AutoGridRef>(null);
 
   return (
     <main className="space-y-6">
@@ -44,17 +47,41 @@ export default function ReferenceView() {
           </BreadcrumbItem>
         </BreadcrumbList>
       </Breadcrumb>
-      <div>
-        <h1 className="text-2xl sm:text-3xl font-bold mb-2">Reference Table</h1>
-        <p className="text-muted-foreground">Manage reference data</p>
+      <div className="flex flex-col sm:flex-row gap-4 sm:items-end sm:justify-between">
+        <div>
+          <h1 className="text-2xl sm:text-3xl font-bold mb-2">Reference Table</h1>
+          <p className="text-muted-foreground">Manage reference data</p>
+        </div>
+        <ImportButton<ReferenceImportReport>
+          url="/api/references/import"
+          label="Import CSV"
+          successTitle="Import finished"
+          describe={(report) =>
+            `${report.inserted} added, ${report.updated} updated, ${report.rejected} rejected`
+          }
+          onImported={() => {
+            // Syncing replaces the grid's service once the copy is up to date; without a copy the grid reloads
+            refresh();
+            grid.current?.refresh();
+          }}
+          className="w-full sm:w-auto"
+        />
       </div>
       
       <div className="overflow-x-auto">
-        <Grid items={items} className="min-w-full">
-          <GridColumn path="code" header="Code" className="min-w-[100px]" />
-          <GridColumn path="description" header="Description" className="min-w-[200px]" />
-          <GridColumn path="category" header="Category" className="min-w-[120px]" />
-        </Grid>
+        {/* Pages are fetched as the grid scrolls, with the filters and sorting applied where the rows are read */}
+        <AutoGrid
+          ref={grid}
+          service={service}
+          model={ReferenceTableModel}
+          visibleColumns={['code', 'description', 'category']}
+          columnOptions={{
+            code: { header: 'Code', className: 'min-w-[100px]' },
+            description: { header: 'Description', className: 'min-w-[200px]' },
+            category: { header: 'Category', className: 'min-w-[120px]' },
+          }}
+          className="min-w-full"
+        />
       </div>
     </main>
   );
@@ -28,7 +28,7 @@ export default function RolesView() {
   const [items, setItems] = useState<any[]>([]);
   const [dialogOpen, setDialogOpen] = useState(false);
   const [editItem, setEditItem] = useState<any>(null);
-  const [formData, setFormData] = useState({ name: '', description: '' });
+  const [formData, setFormData] = useState({ name: '', description: '', parentId: '' });
 
   const loadItems = async () => {
     try {
@@ -47,7 +47,7 @@ export default function RolesView() {
 
   const handleAdd = () => {
     setEditItem(null);
-    setFormData({ name: '', description: '' });
+    setFormData({ name: '', description: '', parentId: '' });
     setDialogOpen(true);
   };
 
@@ -55,7 +55,8 @@ export default function RolesView() {
     setEditItem(item);
     setFormData({ 
       name: item.name || '', 
-      description: item.description || ''
+      description: item.description || '',
+      parentId: item.parentId ? String(item.parentId) : ''
     });
     setDialogOpen(true);
   };
@@ -65,7 +66,8 @@ export default function RolesView() {
       const item = {
         id: editItem?.id,
         name: formData.name.toUpperCase(),
-        description: formData.description
+        description: formData.description,
+        parentId: formData.parentId ? Number(formData.parentId) : undefined
       };
       await RoleService.save(item);
       setDialogOpen(false);
@@ -115,6 +117,7 @@ export default function RolesView() {
             <TableRow>
               <TableHead>Name</TableHead>
               <TableHead>Description</TableHead>
+              <TableHead>Inherits From</TableHead>
               <TableHead className="w-[100px]">Actions</TableHead>
             </TableRow>
           </TableHeader>
@@ -123,6 +126,7 @@ export default function RolesView() {
               <TableRow key={item.id}>
                 <TableCell className="font-medium">{item.name}</TableCell>
                 <TableCell>{item.description}</TableCell>
+                <TableCell>{items.find(parent => parent.id === item.parentId)?.name || '-'}</TableCell>
                 <TableCell>
                   <div className="flex gap-2">
                     <Button variant="outline" size="sm" onClick={() => handleEdit(item)}>Edit</Button>
@@ -162,6 +166,22 @@ export default function RolesView() {
                 required
               />
             </div>
+            <div className="grid grid-cols-4 items-center gap-4">
+              <Label htmlFor="parentId" className="text-right">Inherits From</Label>
+              <select
+                id="parentId"
+                value={formData.parentId}
+                onChange={(e) => setFormData({ ...formData, parentId: e.target.value })}
+                className="col-span-3 h-9 rounded-md border border-input bg-transparent px-3 text-sm"
+              >
+                <option value="">None</option>
+                {items
+                  .filter(role => role.id !== editItem?.id)
+                  .map(role => (
+                    <option key={role.id} value={String(role.id)}>{role.name}</option>
+                  ))}
+              </select>
+            </div>
           </div>
           <DialogFooter>
             <Button variant="outline" onClick={() => setDialogOpen(false)}>Cancel</Button>
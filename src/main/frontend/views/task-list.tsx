@@ -13,9 +13,14 @@ import {
 } from '../components/ui/breadcrumb';
 import { TaskService } from 'Frontend/generated/endpoints';
 import { useSignal } from '@vaadin/hilla-react-signals';
+import { useEffect, useRef } from 'react';
+import type Task from 'Frontend/generated/com/example/application/taskmanagement/domain/Task';
+import type TaskCursor from 'Frontend/generated/com/example/application/taskmanagement/service/TaskCursor';
+import TaskEventType from 'Frontend/generated/com/example/application/taskmanagement/service/TaskEventType';
 import handleError from 'Frontend/views/_ErrorHandler';
-import { useGridDataProvider } from '@vaadin/hilla-react-crud';
+import { useKeysetDataProvider } from '../hooks/useKeysetDataProvider';
 import { ScreenHelp } from '../components/screen-help';
+import { ImportButton } from '../components/import-button';
 import { toast } from 'sonner';
 import { CheckCircle, AlertCircle, Info, X } from 'lucide-react';
 import { useTranslation } from '../i18n';
@@ -104,9 +109,57 @@ function TaskEntryForm(props: TaskEntryFormProps) {
   );
 }
 
+const SEARCH_LIMIT = 200;
+
+// The part of the /api/tasks/import response shown after an import; the endpoint is not a Hilla endpoint, so no type
+// is generated for it
+interface TaskImportReport {
+  imported: number;
+  rejected: number;
+}
+
 export default function TaskListView() {
   const { i18n } = useTranslation();
-  const dataProvider = useGridDataProvider(TaskService.list);
+  const dataProvider = useKeysetDataProvider((after: TaskCursor | undefined, limit: number) =>
+    TaskService.listAfter(after, limit, false),
+  );
+  const query = useSignal('');
+  const searchResults = useSignal<Task[] | undefined>(undefined);
+
+  const dataProviderRef = useRef(dataProvider);
+  dataProviderRef.current = dataProvider;
+
+  // Committed changes are pushed by the server; the grid re-reads only its visible pages
+  useEffect(() => {
+    const subscription = TaskService.subscribe().onNext((event) => {
+      if (event.type === TaskEventType.RELOAD) {
+        dataProviderRef.current.refresh();
+      } else {
+        dataProviderRef.current.update();
+      }
+    });
+    return () => subscription.cancel();
+  }, []);
+
+  // Searches the server-side index on every keystroke; stale responses are dropped
+  useEffect(() => {
+    const text = query.value.trim();
+    if (!text) {
+      searchResults.value = undefined;
+      return;
+    }
+    let current = true;
+    TaskService.search(text, SEARCH_LIMIT)
+      .then((tasks) => {
+        if (current) {
+          searchResults.value = tasks;
+        }
+      })
+      .catch(handleError);
+    return () => {
+      current = false;
+    };
+  }, [query.value]);
 
   return (
     <main className="space-y-6">
@@ -164,8 +217,41 @@ export default function TaskListView() {
       <section className="flex flex-col sm:flex-row gap-4 p-4 bg-card rounded-lg border" aria-label="Create new task">
         <TaskEntryForm onTaskCreated={dataProvider.refresh} />
       </section>
+      <div className="flex flex-col sm:flex-row gap-4 sm:items-center sm:justify-between">
+        <TextField
+          placeholder={i18n.tasks.search}
+          aria-label={i18n.tasks.search}
+          clearButtonVisible
+          className="w-full sm:w-[300px]"
+          value={query.value}
+          onValueChanged={(evt) => (query.value = evt.detail.value)}
+        />
+        <div className="flex flex-col sm:flex-row gap-2">
+          <ImportButton<TaskImportReport>
+            url="/api/tasks/import"
+            label={i18n.tasks.import}
+            successTitle={i18n.tasks.importSuccess}
+            describe={(report) =>
+              i18n.tasks.importSummary
+                .replace('{imported}', String(report.imported))
+                .replace('{rejected}', String(report.rejected))
+            }
+            onImported={dataProvider.refresh}
+            className="w-full sm:w-auto"
+          />
+          <Button asChild variant="outline" className="w-full sm:w-auto">
+            <a href="/api/tasks/export?format=csv" download>
+              {i18n.tasks.export}
+            </a>
+          </Button>
+        </div>
+      </div>
       <div className="overflow-x-auto" role="region" aria-label="Tasks table">
-        <Grid dataProvider={dataProvider} className="min-w-full" aria-label="List of tasks">
+        <Grid
+          {...(searchResults.value ? { items: searchResults.value } : { dataProvider })}
+          className="min-w-full"
+          aria-label="List of tasks"
+        >
           <GridColumn path="description" header={i18n.tasks.description} className="min-w-[200px]" />
           <GridColumn path="dueDate" header={i18n.tasks.dueDate} className="min-w-[120px]">
             {({ item }) => (
@@ -0,0 +1,48 @@
+package com.example.application.analytics.service;
+
+import com.example.application.permissions.service.RequiresScreen;
+import com.example.application.taskmanagement.domain.TaskStatistics;
+import com.vaadin.hilla.BrowserCallable;
+import jakarta.annotation.security.PermitAll;
+import org.springframework.security.access.prepost.PreAuthorize;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Serves the analytics dashboards from the pre-aggregated {@link TaskStatistics}, so a request costs time in
+ * proportion to the number of days shown rather than the number of tasks.
+ */
+@BrowserCallable
+@PreAuthorize("isAuthenticated()")
+public class AnalyticsService {
+
+    static final int MAX_DAYS = 731;
+
+    private final TaskStatistics taskStatistics;
+    private final Clock clock;
+
+    AnalyticsService(TaskStatistics taskStatistics, Clock clock) {
+        this.taskStatistics = taskStatistics;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the task totals and the daily task statistics of the given range.
+     *
+     * @param from the first day, inclusive
+     * @param to the last day, inclusive; at most {@value #MAX_DAYS} days after {@code from}
+     * @return the statistics
+     */
+    @PermitAll
+    @RequiresScreen(name = "Analytics")
+    public TaskAnalytics taskAnalytics(LocalDate from, LocalDate to) {
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_DAYS) {
+            throw new IllegalArgumentException("Date range exceeds " + MAX_DAYS + " days");
+        }
+        LocalDate today = LocalDate.now(clock);
+        return new TaskAnalytics(today, taskStatistics.total(), taskStatistics.overdue(today),
+                taskStatistics.daily(from, to));
+    }
+}
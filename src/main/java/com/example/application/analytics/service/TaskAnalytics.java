@@ -0,0 +1,17 @@
+package com.example.application.analytics.service;
+
+import com.example.application.taskmanagement.domain.TaskDayStatistics;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Task statistics for the analytics view.
+ *
+ * @param today the day the totals refer to
+ * @param totalTasks all tasks
+ * @param overdueTasks tasks due before today
+ * @param days the statistics of each day of the requested range
+ */
+public record TaskAnalytics(LocalDate today, long totalTasks, long overdueTasks, List<TaskDayStatistics> days) {
+}
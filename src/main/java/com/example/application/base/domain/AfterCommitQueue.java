@@ -0,0 +1,102 @@
+package com.example.application.base.domain;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Holds back changes made inside a transaction until it commits.
+ * <p>
+ * Changes added while a transaction is active are collected per transaction and handed to the consumer in order once
+ * it commits; the changes of a rolled back transaction are dropped. Outside a transaction a change is handed over
+ * immediately. Changes made in an inner {@code REQUIRES_NEW} transaction are handed over when that transaction
+ * commits, not with the suspended outer one. Used by the in-memory views that follow the database, such as the task search index and statistics,
+ * so they never show a write that did not happen.
+ * </p>
+ *
+ * @param <T> the type of the changes
+ */
+public final class AfterCommitQueue<T> {
+
+    private final Consumer<? super T> consumer;
+    private final @Nullable Function<? super T, ?> key;
+
+    private AfterCommitQueue(Consumer<? super T> consumer, @Nullable Function<? super T, ?> key) {
+        this.consumer = consumer;
+        this.key = key;
+    }
+
+    /**
+     * Creates a queue that hands over every change.
+     */
+    public static <T> AfterCommitQueue<T> of(Consumer<? super T> consumer) {
+        return new AfterCommitQueue<>(consumer, null);
+    }
+
+    /**
+     * Creates a queue that hands over only the last change with each key. Changes are handed over in the order their
+     * keys were first seen.
+     */
+    public static <T> AfterCommitQueue<T> latestBy(Function<? super T, ?> key, Consumer<? super T> consumer) {
+        return new AfterCommitQueue<>(consumer, key);
+    }
+
+    /**
+     * Adds a change, to be handed over when the current transaction commits.
+     */
+    public void add(T change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            consumer.accept(change);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        var pending = (List<T>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<T> changes = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, changes);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                // An inner REQUIRES_NEW or NOT_SUPPORTED scope collects its own changes
+                @Override
+                public void suspend() {
+                    TransactionSynchronizationManager.unbindResource(AfterCommitQueue.this);
+                }
+
+                @Override
+                public void resume() {
+                    TransactionSynchronizationManager.bindResource(AfterCommitQueue.this, changes);
+                }
+
+                @Override
+                public void afterCommit() {
+                    latest(changes).forEach(consumer);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(AfterCommitQueue.this);
+                }
+            });
+            pending = changes;
+        }
+        pending.add(change);
+    }
+
+    private Collection<T> latest(List<T> changes) {
+        if (key == null) {
+            return changes;
+        }
+        Map<Object, T> latest = new LinkedHashMap<>();
+        for (T change : changes) {
+            latest.put(key.apply(change), change);
+        }
+        return latest.values();
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.application.base.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * Version counter of one cache region, shared by all application nodes through the database.
+ */
+@Entity
+@Table(name = "cache_version")
+public class CacheVersion extends AbstractEntity<String> {
+
+    public static final int REGION_MAX_LENGTH = 64;
+
+    @Id
+    @Column(name = "region", length = REGION_MAX_LENGTH)
+    private String region = "";
+
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    protected CacheVersion() { // To keep Hibernate happy
+    }
+
+    public CacheVersion(String region, long version) {
+        this.region = region;
+        this.version = version;
+    }
+
+    @Override
+    public String getId() {
+        return region;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.application.base.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.Optional;
+
+public interface CacheVersionRepository extends JpaRepository<CacheVersion, String> {
+
+    // Bulk update so concurrent writers on different nodes serialize on the row lock instead of losing increments
+    @Modifying
+    @Query("UPDATE CacheVersion c SET c.version = c.version + 1 WHERE c.region = ?1")
+    int increment(String region);
+
+    @Query("SELECT c.version FROM CacheVersion c WHERE c.region = ?1")
+    Optional<Long> findVersion(String region);
+}
@@ -0,0 +1,11 @@
+package com.example.application.base.service;
+
+/**
+ * Groups of cached data that are invalidated together when another node changes them.
+ */
+public enum CacheRegion {
+    PERMISSIONS,
+    ROLES,
+    USERS,
+    REFERENCES
+}
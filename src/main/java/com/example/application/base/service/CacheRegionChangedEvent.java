@@ -0,0 +1,10 @@
+package com.example.application.base.service;
+
+/**
+ * Published on a node when {@link CacheVersionService} detects that a cache region was changed by another node.
+ *
+ * @param region the region whose cached data is stale
+ * @param version the region's version in the {@code cache_version} table
+ */
+public record CacheRegionChangedEvent(CacheRegion region, long version) {
+}
@@ -0,0 +1,33 @@
+package com.example.application.base.service;
+
+import com.example.application.base.domain.CacheVersion;
+import com.example.application.base.domain.CacheVersionRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Creates the {@code cache_version} rows of {@link CacheVersionService} in transactions of their own, so a duplicate
+ * key from another node creating the same row at the same time never rolls back the caller's transaction.
+ */
+@Component
+public class CacheVersionRows {
+
+    private final CacheVersionRepository repository;
+
+    CacheVersionRows(CacheVersionRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Inserts the row of a region at version 0 unless it exists.
+     *
+     * @throws org.springframework.dao.DataIntegrityViolationException if another node inserted it concurrently
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void createIfMissing(CacheRegion region) {
+        if (!repository.existsById(region.name())) {
+            repository.saveAndFlush(new CacheVersion(region.name(), 0));
+        }
+    }
+}
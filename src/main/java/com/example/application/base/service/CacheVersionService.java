@@ -0,0 +1,162 @@
+package com.example.application.base.service;
+
+import com.example.application.base.domain.CacheVersion;
+import com.example.application.base.domain.CacheVersionRepository;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Keeps in-process caches consistent across application nodes.
+ * <p>
+ * Services that change cached data call {@link #bump(CacheRegion)} inside their write transaction, so the version of
+ * the region in the {@code cache_version} table moves if and only if the write commits. Every node polls that table
+ * and publishes a {@link CacheRegionChangedEvent} for each region another node has bumped since the last poll. Caches
+ * listen for the events of their own regions and reload.
+ * </p>
+ * <p>
+ * Bumps made by this node are recorded as seen on commit, because the writing service already refreshes its local
+ * caches itself. If another node bumped the same region in between, the bump is left for the next poll to report.
+ * </p>
+ */
+@Service
+public class CacheVersionService {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheVersionService.class);
+
+    private final CacheVersionRepository repository;
+    private final CacheVersionRows rows;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<CacheRegion, Long> seenVersions = new EnumMap<>(CacheRegion.class);
+
+    public CacheVersionService(CacheVersionRepository repository, CacheVersionRows rows,
+            ApplicationEventPublisher eventPublisher) {
+        this.repository = repository;
+        this.rows = rows;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Creates the row of every region before the application runs, so {@link #bump} only has to update. Published
+     * before command line runners such as the data initializer, which already write.
+     */
+    @EventListener(ApplicationStartedEvent.class)
+    public void createRegions() {
+        for (CacheRegion region : CacheRegion.values()) {
+            createRow(region);
+        }
+    }
+
+    /**
+     * Increments the version of a region as part of the current transaction.
+     *
+     * <p>
+     * The row of the region stays locked until the transaction ends, so concurrent writers of one region are
+     * serialized and commit their versions in increasing order.
+     * </p>
+     *
+     * @param region the region whose data the transaction changes
+     * @return the new version of the region
+     */
+    @Transactional
+    public long bump(CacheRegion region) {
+        if (repository.increment(region.name()) == 0) {
+            // Row removed since startup, or a region added by a newer node that has not started here yet
+            createRow(region);
+            repository.increment(region.name());
+        }
+        long version = repository.findVersion(region.name()).orElseThrow();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    markSeen(region, version);
+                }
+            });
+        } else {
+            markSeen(region, version);
+        }
+        return version;
+    }
+
+    /**
+     * Publishes a {@link CacheRegionChangedEvent} for every region that was changed by another node since the last
+     * poll.
+     */
+    @Scheduled(fixedDelayString = "${app.cache.version-poll-interval-ms:5000}",
+            initialDelayString = "${app.cache.version-poll-interval-ms:5000}")
+    @Transactional(readOnly = true)
+    public void poll() {
+        for (CacheVersion row : repository.findAll()) {
+            CacheRegion region = regionOf(row);
+            if (region == null) {
+                continue;
+            }
+            Long seen;
+            synchronized (seenVersions) {
+                seen = seenVersions.put(region, row.getVersion());
+            }
+            if (seen == null || seen != row.getVersion()) {
+                log.debug("Cache region {} changed remotely: version {}", region, row.getVersion());
+                eventPublisher.publishEvent(new CacheRegionChangedEvent(region, row.getVersion()));
+            }
+        }
+    }
+
+    /**
+     * Records the versions current at startup, so the first poll only reports changes made after this node loaded its
+     * caches.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+        for (CacheVersion row : repository.findAll()) {
+            CacheRegion region = regionOf(row);
+            if (region != null) {
+                synchronized (seenVersions) {
+                    seenVersions.putIfAbsent(region, row.getVersion());
+                }
+            }
+        }
+    }
+
+    private void createRow(CacheRegion region) {
+        try {
+            rows.createIfMissing(region);
+        } catch (DataIntegrityViolationException e) {
+            // Created by another node in the meantime, which is all that was needed
+            log.debug("Cache region {} was created concurrently", region);
+        }
+    }
+
+    private void markSeen(CacheRegion region, long version) {
+        synchronized (seenVersions) {
+            Long seen = seenVersions.get(region);
+            if (seen == null ? version == 1 : seen == version - 1) {
+                seenVersions.put(region, version);
+            }
+        }
+    }
+
+    private static @Nullable CacheRegion regionOf(CacheVersion row) {
+        try {
+            return CacheRegion.valueOf(row.getRegion());
+        } catch (IllegalArgumentException e) {
+            // Written by a node running a newer or older version of the application
+            return null;
+        }
+    }
+}
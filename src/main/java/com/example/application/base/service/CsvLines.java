@@ -0,0 +1,77 @@
+package com.example.application.base.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splitting of CSV records, as read by the bulk imports. A record spans several lines when a quoted field contains a
+ * line break; {@link ImportBatches} joins those lines, asking {@link #isOpen} where a record ends.
+ */
+public final class CsvLines {
+
+    private CsvLines() {
+    }
+
+    /**
+     * Splits one CSV record. Quoted fields may contain commas, doubled quotes and line breaks.
+     *
+     * @throws IllegalArgumentException if a quoted field is not terminated
+     */
+    public static List<String> split(String line) {
+        List<String> fields = new ArrayList<>(4);
+        var field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Returns whether the text ends inside a quoted field, so the record goes on in the next line. Reads the text
+     * exactly as {@link #split} does.
+     */
+    public static boolean isOpen(String text) {
+        boolean quoted = false;
+        boolean fieldEmpty = true;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    fieldEmpty = false;
+                } else if (i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    fieldEmpty = false;
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && fieldEmpty) {
+                quoted = true;
+            } else {
+                fieldEmpty = c == ',';
+            }
+        }
+        return quoted;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.application.base.service;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Outcome of one batch read by {@link ImportBatches}.
+ * <p>
+ * {@code rejected} counts the lines the parser rejected, listed in {@code errors} up to
+ * {@link ImportBatches#MAX_ERRORS_PER_BATCH}, plus every parsed line of the batch if the write failed. {@code written}
+ * is what the writer returned, or {@code null} if the batch had nothing to write or the write failed; {@code failure}
+ * then holds the reason.
+ * </p>
+ *
+ * @param <C> the result of the writer, such as the number of stored rows
+ */
+public record ImportBatchResult<C>(int batch, long firstLine, long lastLine, @Nullable C written, int rejected,
+        List<ImportError> errors, @Nullable String failure) {
+}
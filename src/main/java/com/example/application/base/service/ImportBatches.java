@@ -0,0 +1,184 @@
+package com.example.application.base.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Reads a line based upload, CSV or NDJSON, and writes it in batches, for the bulk imports.
+ * <p>
+ * Only one batch is held in memory at a time, so the heap use does not depend on the size of the upload. A leading
+ * byte order mark and blank lines are skipped. A record may span several lines, as a CSV record does when a quoted
+ * field contains a line break; it is reported at its first line. Lines the parser rejects are counted and reported
+ * individually, and the remaining lines of the batch are still written. The writer is expected to run each batch in its own
+ * transaction, so a failing batch is reported as a whole without undoing the ones before it.
+ * </p>
+ *
+ * @param <T> the type of a parsed line
+ * @param <C> the result of writing a batch
+ */
+public final class ImportBatches<T, C> {
+
+    public static final int MAX_ERRORS_PER_BATCH = 100;
+
+    /**
+     * Length beyond which no further lines are joined to a record, so a stray quote does not swallow the rest of the
+     * upload; the record is then rejected by the parser.
+     */
+    static final int MAX_RECORD_LENGTH = 64 * 1024;
+
+    private static final Logger log = LoggerFactory.getLogger(ImportBatches.class);
+
+    /**
+     * Turns the lines of one upload into values. A parser may keep state, such as the columns named by a header, so
+     * a new one is used for every upload.
+     *
+     * @param <T> the type of a parsed line
+     */
+    public interface LineParser<T> {
+
+        /**
+         * Returns whether the first line is a header, which is then skipped. By default there is no header.
+         */
+        default boolean isHeader(String line) {
+            return false;
+        }
+
+        /**
+         * Returns whether the record goes on in the next line. The lines are then joined with a line feed and parsed
+         * as one. By default every line is a record.
+         */
+        default boolean continues(String record) {
+            return false;
+        }
+
+        /**
+         * Parses one line.
+         *
+         * @throws IllegalArgumentException with the message to report if the line is invalid
+         */
+        T parse(String line);
+    }
+
+    private final String name;
+    private final int batchSize;
+    private final Function<List<T>, C> writer;
+
+    /**
+     * @param name the name of the import in log messages, such as {@code "Task import"}
+     * @param batchSize the number of lines per batch, rejected ones included
+     * @param writer writes the parsed lines of one batch
+     */
+    public ImportBatches(String name, int batchSize, Function<List<T>, C> writer) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Import batch size must be positive");
+        }
+        this.name = name;
+        this.batchSize = batchSize;
+        this.writer = writer;
+    }
+
+    /**
+     * Reads the stream until it ends and writes it in batches, handing the outcome of every batch to the consumer.
+     *
+     * @param input the UTF-8 encoded upload; it is not closed
+     * @param parser the parser of this upload
+     * @param results receives the outcome of each batch, in order
+     */
+    public void read(InputStream input, LineParser<T> parser, Consumer<ImportBatchResult<C>> results) {
+        var reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        Batch<T> batch = new Batch<>(1, 1);
+        long lineNumber = 0;
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (lineNumber == 1 && line.startsWith("\uFEFF")) {
+                    line = line.substring(1);
+                }
+                if (line.isBlank()) {
+                    continue;
+                }
+                long recordLine = lineNumber;
+                String next;
+                while (parser.continues(line) && line.length() <= MAX_RECORD_LENGTH
+                        && (next = reader.readLine()) != null) {
+                    line = line + '\n' + next;
+                    lineNumber++;
+                }
+                if (recordLine == 1 && parser.isHeader(line)) {
+                    continue;
+                }
+                batch.lastLine = lineNumber;
+                try {
+                    batch.items.add(parser.parse(line));
+                } catch (IllegalArgumentException e) {
+                    batch.reject(recordLine, e.getMessage());
+                }
+                if (batch.size() == batchSize) {
+                    results.accept(flush(batch));
+                    batch = new Batch<>(batch.number + 1, lineNumber + 1);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read " + name, e);
+        }
+        if (batch.size() > 0) {
+            results.accept(flush(batch));
+        }
+    }
+
+    private ImportBatchResult<C> flush(Batch<T> batch) {
+        C written = null;
+        int rejected = batch.rejected;
+        String failure = null;
+        if (!batch.items.isEmpty()) {
+            try {
+                written = writer.apply(batch.items);
+            } catch (RuntimeException e) {
+                log.warn("{} batch {} failed", name, batch.number, e);
+                failure = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+                rejected += batch.items.size();
+            }
+        }
+        return new ImportBatchResult<>(batch.number, batch.firstLine, batch.lastLine, written, rejected,
+                List.copyOf(batch.errors), failure);
+    }
+
+    private static final class Batch<T> {
+
+        private final int number;
+        private final long firstLine;
+        private long lastLine;
+        private final List<T> items = new ArrayList<>();
+        private final List<ImportError> errors = new ArrayList<>();
+        private int rejected;
+
+        private Batch(int number, long firstLine) {
+            this.number = number;
+            this.firstLine = firstLine;
+            this.lastLine = firstLine;
+        }
+
+        private void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < MAX_ERRORS_PER_BATCH) {
+                errors.add(new ImportError(line, message));
+            }
+        }
+
+        private int size() {
+            return items.size() + rejected;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.application.base.service;
+
+/**
+ * A rejected line of a bulk import.
+ */
+public record ImportError(long line, String message) {
+}
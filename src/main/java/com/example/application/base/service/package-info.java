@@ -0,0 +1,9 @@
+/**
+ * This package contains reusable application services.
+ */
+@NullMarked
+@NonNullApi // Until https://github.com/vaadin/hilla/issues/2612 has been fixed
+package com.example.application.base.service;
+
+import org.jspecify.annotations.NullMarked;
+import org.springframework.lang.NonNullApi;
@@ -268,6 +268,6 @@ public class DataInitializer implements CommandLineRunner {
         area.setCode(code);
         area.setName(name);
         area.setDescription(description);
-        functionalAreaService.save(area);
+        functionalAreaService.saveInitial(area);
     }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.example.application.config;
+
+import com.example.application.permissions.service.RequiresScreen;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Validates every {@link RequiresScreen} usage against the screens configuration once all singletons exist.
+ * <p>
+ * A screen name that is not defined in {@code screens-config.json} would deny every call at runtime, so it fails the
+ * startup instead.
+ * </p>
+ */
+@Component
+public class RequiresScreenValidator implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(RequiresScreenValidator.class);
+    private static final String BASE_PACKAGE = "com.example.application";
+
+    private final ApplicationContext context;
+    private final ScreensConfigService screensConfigService;
+
+    public RequiresScreenValidator(ApplicationContext context, ScreensConfigService screensConfigService) {
+        this.context = context;
+        this.screensConfigService = screensConfigService;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Set<String> screens = screensConfigService.getScreens().stream()
+            .map(ScreensConfigService.ScreenConfig::getTitle)
+            .collect(Collectors.toSet());
+        if (screens.isEmpty()) {
+            log.warn("Screens configuration is not loaded; skipping @RequiresScreen validation");
+            return;
+        }
+
+        List<String> unknown = new ArrayList<>();
+        int checked = 0;
+        for (String beanName : context.getBeanDefinitionNames()) {
+            Class<?> type = context.getType(beanName, false);
+            if (type == null || !type.getPackageName().startsWith(BASE_PACKAGE)) {
+                continue;
+            }
+            for (var method : ReflectionUtils.getUniqueDeclaredMethods(ClassUtils.getUserClass(type))) {
+                RequiresScreen requirement = AnnotatedElementUtils.findMergedAnnotation(method, RequiresScreen.class);
+                if (requirement == null) {
+                    continue;
+                }
+                checked++;
+                if (!screens.contains(requirement.name())) {
+                    unknown.add(method.getDeclaringClass().getSimpleName() + "." + method.getName() + " -> '"
+                        + requirement.name() + "'");
+                }
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new IllegalStateException(
+                "@RequiresScreen refers to screens missing from the screens configuration: " + String.join(", ", unknown));
+        }
+        log.info("Validated {} @RequiresScreen usages against the screens configuration", checked);
+    }
+}
@@ -1,10 +1,12 @@
 package com.example.application.dashboard.service;
 
 import com.example.application.dashboard.domain.DashboardTile;
-import com.example.application.permissions.service.PermissionService;
-import com.example.application.users.service.UserService;
 import com.example.application.config.ScreensConfigService;
+import com.example.application.security.CurrentUser;
+import com.example.application.security.ScreenPermissions;
 import com.vaadin.hilla.BrowserCallable;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.security.RolesAllowed;
 import org.slf4j.Logger;
@@ -13,8 +15,13 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 
 @Service
 @BrowserCallable
@@ -23,14 +30,43 @@ public class DashboardConfigService {
 
     private static final Logger log = LoggerFactory.getLogger(DashboardConfigService.class);
     private List<DashboardTile> cachedTiles;
-    private final PermissionService permissionService;
-    private final UserService userService;
+    private final Map<TileCacheKey, List<DashboardTile>> tileCache = new ConcurrentHashMap<>();
+    private volatile long tileCacheVersion = Long.MIN_VALUE;
+    private final CurrentUser currentUser;
     private final ScreensConfigService screensConfigService;
+    private final Map<TileView, Counter> cacheHits = new EnumMap<>(TileView.class);
+    private final Map<TileView, Counter> cacheMisses = new EnumMap<>(TileView.class);
 
-    public DashboardConfigService(PermissionService permissionService, UserService userService, ScreensConfigService screensConfigService) {
-        this.permissionService = permissionService;
-        this.userService = userService;
+    public DashboardConfigService(CurrentUser currentUser, ScreensConfigService screensConfigService,
+            MeterRegistry meterRegistry) {
+        this.currentUser = currentUser;
         this.screensConfigService = screensConfigService;
+        for (TileView view : TileView.values()) {
+            cacheHits.put(view, tileRequestCounter(meterRegistry, view, "hit"));
+            cacheMisses.put(view, tileRequestCounter(meterRegistry, view, "miss"));
+        }
+    }
+
+    private static Counter tileRequestCounter(MeterRegistry meterRegistry, TileView view, String cacheResult) {
+        return Counter.builder("dashboard.tiles.requests")
+            .description("Authorized tile lookups, by whether the tile cache answered them")
+            .tag("view", view.name().toLowerCase(Locale.ROOT))
+            .tag("cache", cacheResult)
+            .register(meterRegistry);
+    }
+
+    private enum TileView {
+        DASHBOARD(DashboardTile::isShowInDashboard),
+        MENU(DashboardTile::isShowInMenu);
+
+        private final Predicate<DashboardTile> filter;
+
+        TileView(Predicate<DashboardTile> filter) {
+            this.filter = filter;
+        }
+    }
+
+    private record TileCacheKey(TileView view, boolean admin, ScreenPermissions permissions) {
     }
 
     @PostConstruct
@@ -67,55 +103,50 @@ public class DashboardConfigService {
     
     @RolesAllowed({"ADMIN", "USER"})
     public List<DashboardTile> getTilesForDashboard() {
-        boolean isAdmin = isCurrentUserAdmin();
-        log.debug("Dashboard tiles - isAdmin: {}", isAdmin);
-        
-        List<DashboardTile> result = cachedTiles.stream()
-            .filter(DashboardTile::isEnabled)
-            .filter(DashboardTile::isShowInDashboard)
-            .filter(tile -> {
-                // Check admin-only restriction first
-                if (tile.isAdminOnly() && !isAdmin) {
-                    return false;
-                }
-                
-                // Check permission-based access
-                boolean hasPermission = hasReadPermission(tile.getTitle());
-                log.debug("Tile: {}, adminOnly: {}, hasPermission: {}", tile.getTitle(), tile.isAdminOnly(), hasPermission);
-                return hasPermission;
-            })
-            .sorted((a, b) -> Integer.compare(a.getOrder(), b.getOrder()))
-            .collect(Collectors.toList());
-            
+        List<DashboardTile> result = authorizedTiles(TileView.DASHBOARD);
         log.debug("Returning {} dashboard tiles", result.size());
         return result;
     }
     
     @RolesAllowed({"ADMIN", "USER"})
     public List<DashboardTile> getTilesForMenu() {
-        boolean isAdmin = isCurrentUserAdmin();
-        log.debug("Menu tiles - isAdmin: {}", isAdmin);
-        
-        List<DashboardTile> result = cachedTiles.stream()
-            .filter(DashboardTile::isEnabled)
-            .filter(DashboardTile::isShowInMenu)
-            .filter(tile -> {
-                // Check admin-only restriction first
-                if (tile.isAdminOnly() && !isAdmin) {
-                    return false;
-                }
-                
-                // Check permission-based access
-                boolean hasPermission = hasReadPermission(tile.getTitle());
-                log.debug("Menu Tile: {}, adminOnly: {}, hasPermission: {}", tile.getTitle(), tile.isAdminOnly(), hasPermission);
-                return hasPermission;
-            })
-            .sorted((a, b) -> Integer.compare(a.getOrder(), b.getOrder()))
-            .collect(Collectors.toList());
-            
+        List<DashboardTile> result = authorizedTiles(TileView.MENU);
         log.debug("Returning {} menu tiles", result.size());
         return result;
     }
+
+    /**
+     * Returns the enabled tiles of a view that the current user may read, sorted by order.
+     * <p>
+     * The user's permission snapshot is loaded once and every tile is checked against it in a single pass. Users with
+     * the same rights share one cached result; the cache is dropped whenever the permission version changes.
+     * </p>
+     */
+    private List<DashboardTile> authorizedTiles(TileView view) {
+        ScreenPermissions permissions = currentPermissions();
+        boolean isAdmin = isCurrentUserAdmin();
+        if (permissions.version() != tileCacheVersion) {
+            tileCache.clear();
+            tileCacheVersion = permissions.version();
+        }
+        TileCacheKey cacheKey = new TileCacheKey(view, isAdmin, permissions);
+        List<DashboardTile> cached = tileCache.get(cacheKey);
+        if (cached != null) {
+            cacheHits.get(view).increment();
+            return cached;
+        }
+        cacheMisses.get(view).increment();
+        return tileCache.computeIfAbsent(cacheKey, key -> {
+            log.debug("{} tiles - isAdmin: {}, computing for permission version {}", view, isAdmin, permissions.version());
+            return cachedTiles.stream()
+                .filter(DashboardTile::isEnabled)
+                .filter(view.filter)
+                // Admin-only restriction first, then permission-based access
+                .filter(tile -> (!tile.isAdminOnly() || isAdmin) && permissions.canRead(tile.getTitle()))
+                .sorted(Comparator.comparingInt(DashboardTile::getOrder))
+                .toList();
+        });
+    }
     
     private boolean isCurrentUserAdmin() {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
@@ -128,22 +159,12 @@ public class DashboardConfigService {
             );
     }
     
-    private boolean hasReadPermission(String screenName) {
+    private ScreenPermissions currentPermissions() {
         try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth == null) return false;
-            
-            String username = auth.getName();
-            var user = userService.findByUsername(username);
-            if (user.isEmpty()) return false;
-            
-            // Check permissions for all user roles
-            return user.get().getRoles().stream()
-                .flatMap(role -> permissionService.findByRoleId(role.getId()).stream())
-                .anyMatch(permission -> screenName.equals(permission.getScreenName()) && permission.isCanRead());
+            return currentUser.getScreenPermissions();
         } catch (Exception e) {
-            log.warn("Error checking permission for screen {}: {}", screenName, e.getMessage());
-            return false;
+            log.warn("Error loading screen permissions: {}", e.getMessage());
+            return ScreenPermissions.NONE;
         }
     }
 
@@ -2,10 +2,12 @@ package com.example.application.functionalarea.service;
 
 import com.example.application.functionalarea.domain.FunctionalArea;
 import com.example.application.functionalarea.domain.FunctionalAreaRepository;
-import com.example.application.permissions.service.UserPermissionService;
+import com.example.application.permissions.service.RequiresScreen;
+import com.example.application.permissions.service.ScreenAccess;
 import com.vaadin.hilla.BrowserCallable;
 import com.vaadin.hilla.crud.CrudRepositoryService;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.security.DenyAll;
 import jakarta.annotation.security.RolesAllowed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -25,11 +27,9 @@ public class FunctionalAreaService extends CrudRepositoryService<FunctionalArea,
 
     private static final Logger log = LoggerFactory.getLogger(FunctionalAreaService.class);
     private final FunctionalAreaRepository repository;
-    private final UserPermissionService userPermissionService;
 
-    public FunctionalAreaService(FunctionalAreaRepository repository, UserPermissionService userPermissionService) {
+    public FunctionalAreaService(FunctionalAreaRepository repository) {
         this.repository = repository;
-        this.userPermissionService = userPermissionService;
     }
 
     @Override
@@ -57,9 +57,22 @@ public class FunctionalAreaService extends CrudRepositoryService<FunctionalArea,
 
     @Override
     @Transactional
+    @RequiresScreen(name = "Functional Areas", access = ScreenAccess.WRITE)
     public FunctionalArea save(FunctionalArea entity) {
-        performPermissionCheck();
+        return store(entity);
+    }
+
+    /**
+     * Saves a functional area without a screen check, for seeding the table at startup when there is no user.
+     * Browser calls are denied.
+     */
+    @DenyAll
+    @Transactional
+    public FunctionalArea saveInitial(FunctionalArea entity) {
+        return store(entity);
+    }
 
+    private FunctionalArea store(FunctionalArea entity) {
         if (entity.getId() == null) {
             validateNewFunctionalArea(entity);
         } else {
@@ -68,16 +81,6 @@ public class FunctionalAreaService extends CrudRepositoryService<FunctionalArea,
         return repository.save(entity);
     }
 
-    private void performPermissionCheck() {
-        // Skip permission check during system initialization
-        try {
-            userPermissionService.requireWritePermission("Functional Areas");
-        } catch (Exception e) {
-            // Allow save during startup when no user context exists
-            log.debug("Bypassing permission check during system initialization");
-        }
-    }
-
     @Transactional(readOnly = true)
     private void validateNewFunctionalArea(FunctionalArea entity) {
         if (repository.existsByName(entity.getName())) {
@@ -104,8 +107,8 @@ public class FunctionalAreaService extends CrudRepositoryService<FunctionalArea,
 
     @Override
     @Transactional
+    @RequiresScreen(name = "Functional Areas", access = ScreenAccess.WRITE)
     public void delete(Long id) {
-        userPermissionService.requireWritePermission("Functional Areas");
         super.delete(id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.example.application.permissions.dto;
+
+public class PermissionChange {
+    private String screenName;
+    private boolean canRead;
+    private boolean canWrite;
+
+    public PermissionChange() {}
+
+    public PermissionChange(String screenName, boolean canRead, boolean canWrite) {
+        this.screenName = screenName;
+        this.canRead = canRead;
+        this.canWrite = canWrite;
+    }
+
+    public String getScreenName() {
+        return screenName;
+    }
+
+    public void setScreenName(String screenName) {
+        this.screenName = screenName;
+    }
+
+    public boolean isCanRead() {
+        return canRead;
+    }
+
+    public void setCanRead(boolean canRead) {
+        this.canRead = canRead;
+    }
+
+    public boolean isCanWrite() {
+        return canWrite;
+    }
+
+    public void setCanWrite(boolean canWrite) {
+        this.canWrite = canWrite;
+    }
+}
@@ -1,16 +1,34 @@
 package com.example.application.permissions.repository;
 
 import com.example.application.permissions.domain.Permission;
+import com.example.application.permissions.dto.PermissionDto;
 import com.example.application.roles.domain.Role;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface PermissionRepository extends JpaRepository<Permission, Long>, JpaSpecificationExecutor<Permission> {
+public interface PermissionRepository extends JpaRepository<Permission, Long>, JpaSpecificationExecutor<Permission>,
+        PermissionUpsertRepository {
     List<Permission> findByRole(Role role);
     Optional<Permission> findByRoleAndScreenName(Role role, String screenName);
-}
\ No newline at end of file
+
+    // DTO projections: no managed entities and no lazy Role proxies. Filtering on role_id uses the leading column of
+    // the (role_id, screen_name) unique index.
+    @Query("SELECT new com.example.application.permissions.dto.PermissionDto(p.id, r.id, r.name, p.screenName, p.canRead, p.canWrite) "
+            + "FROM Permission p JOIN p.role r WHERE r.id = ?1 ORDER BY p.screenName")
+    List<PermissionDto> findDtosByRoleId(Long roleId);
+
+    @Query("SELECT new com.example.application.permissions.dto.PermissionDto(p.id, r.id, r.name, p.screenName, p.canRead, p.canWrite) "
+            + "FROM Permission p JOIN p.role r WHERE r.id IN ?1 ORDER BY r.id, p.screenName")
+    List<PermissionDto> findDtosByRoleIds(Collection<Long> roleIds);
+
+    @Query("SELECT new com.example.application.permissions.dto.PermissionDto(p.id, r.id, r.name, p.screenName, p.canRead, p.canWrite) "
+            + "FROM Permission p JOIN p.role r")
+    List<PermissionDto> findAllDtos();
+}
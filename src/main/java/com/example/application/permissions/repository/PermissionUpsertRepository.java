@@ -0,0 +1,20 @@
+package com.example.application.permissions.repository;
+
+import com.example.application.permissions.dto.PermissionChange;
+
+import java.util.List;
+
+/**
+ * Batched insert-or-update of permission rows, keyed by {@code (role_id, screen_name)}.
+ */
+public interface PermissionUpsertRepository {
+
+    /**
+     * Writes the given rights of one role with JDBC batches of upsert statements.
+     *
+     * @param roleId the role the changes belong to
+     * @param changes the rights to write, at most one per screen
+     * @return the number of rows written
+     */
+    int upsertAll(Long roleId, List<PermissionChange> changes);
+}
@@ -0,0 +1,82 @@
+package com.example.application.permissions.repository;
+
+import com.example.application.permissions.dto.PermissionChange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Spring Data fragment implementing {@link PermissionUpsertRepository} with the native upsert of each supported
+ * database: {@code MERGE ... KEY} on H2, {@code MERGE ... USING} on DB2 and {@code INSERT ... ON CONFLICT} on
+ * PostgreSQL.
+ */
+class PermissionUpsertRepositoryImpl implements PermissionUpsertRepository {
+
+    static final int BATCH_SIZE = 100;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private volatile String upsertSql;
+
+    PermissionUpsertRepositoryImpl(JdbcTemplate jdbcTemplate, @Value("${app.database.schema:}") String schema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = schema.isBlank() ? "permissions" : schema + ".permissions";
+    }
+
+    @Override
+    public int upsertAll(Long roleId, List<PermissionChange> changes) {
+        if (changes.isEmpty()) {
+            return 0;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(upsertSql(), changes, BATCH_SIZE, (ps, change) -> {
+            ps.setLong(1, roleId);
+            ps.setString(2, change.getScreenName());
+            ps.setBoolean(3, change.isCanRead());
+            ps.setBoolean(4, change.isCanWrite());
+        });
+        int written = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // Drivers may report SUCCESS_NO_INFO (-2) for batched statements; each statement still wrote one row
+                written += count < 0 ? 1 : count;
+            }
+        }
+        return written;
+    }
+
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            sql = upsertSqlFor(product == null ? "" : product);
+            upsertSql = sql;
+        }
+        return sql;
+    }
+
+    String upsertSqlFor(String databaseProductName) {
+        String product = databaseProductName.toLowerCase(Locale.ROOT);
+        if (product.contains("h2")) {
+            return "MERGE INTO " + table + " (role_id, screen_name, can_read, can_write) KEY (role_id, screen_name) "
+                    + "VALUES (?, ?, ?, ?)";
+        }
+        if (product.contains("db2")) {
+            return "MERGE INTO " + table + " p USING (VALUES (CAST(? AS BIGINT), CAST(? AS VARCHAR(255)), "
+                    + "CAST(? AS BOOLEAN), CAST(? AS BOOLEAN))) AS s (role_id, screen_name, can_read, can_write) "
+                    + "ON p.role_id = s.role_id AND p.screen_name = s.screen_name "
+                    + "WHEN MATCHED THEN UPDATE SET can_read = s.can_read, can_write = s.can_write "
+                    + "WHEN NOT MATCHED THEN INSERT (role_id, screen_name, can_read, can_write) "
+                    + "VALUES (s.role_id, s.screen_name, s.can_read, s.can_write)";
+        }
+        if (product.contains("postgres")) {
+            return "INSERT INTO " + table + " (role_id, screen_name, can_read, can_write) VALUES (?, ?, ?, ?) "
+                    + "ON CONFLICT (role_id, screen_name) "
+                    + "DO UPDATE SET can_read = EXCLUDED.can_read, can_write = EXCLUDED.can_write";
+        }
+        throw new IllegalStateException("Bulk permission upsert is not supported on " + databaseProductName);
+    }
+}
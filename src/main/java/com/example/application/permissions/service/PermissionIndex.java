@@ -0,0 +1,161 @@
+package com.example.application.permissions.service;
+
+import com.example.application.base.service.CacheRegion;
+import com.example.application.base.service.CacheRegionChangedEvent;
+import com.example.application.permissions.repository.PermissionRepository;
+import com.example.application.roles.dto.RoleParentLink;
+import com.example.application.roles.repository.RoleRepository;
+import com.example.application.roles.service.RoleHierarchyChangedEvent;
+import com.example.application.users.service.UserRolesChangedEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Holds the current {@link PermissionMatrix} and swaps it atomically whenever the permissions table changes.
+ * <p>
+ * Permission checks read the published matrix without touching JPA. After each committed write,
+ * {@link PermissionService} reloads the rights of the roles it wrote with {@link #refreshRoles}, so a rolled back
+ * write leaves the index as it was.
+ * </p>
+ */
+@Service
+public class PermissionIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PermissionIndex.class);
+
+    private final PermissionRepository repository;
+    private final RoleRepository roleRepository;
+    private final PermissionMetrics metrics;
+    private volatile PermissionMatrix matrix;
+    private long version;
+
+    public PermissionIndex(PermissionRepository repository, RoleRepository roleRepository, PermissionMetrics metrics) {
+        this.repository = repository;
+        this.roleRepository = roleRepository;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Returns the current matrix, loading it on first use.
+     */
+    public PermissionMatrix current() {
+        PermissionMatrix current = matrix;
+        if (current == null) {
+            current = rebuild();
+        }
+        return current;
+    }
+
+    /**
+     * Reloads the matrix from the database and publishes it.
+     * <p>
+     * Runs in its own read-only transaction because it is also invoked from after-commit callbacks, where the
+     * original transaction is already complete.
+     * </p>
+     *
+     * @return the newly published matrix
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized PermissionMatrix rebuild() {
+        long start = System.nanoTime();
+        PermissionMatrix rebuilt = PermissionMatrix.of(++version, repository.findAllDtos(),
+                parentsOf(roleRepository.findParentLinks()));
+        matrix = rebuilt;
+        metrics.recordIndexRebuild(System.nanoTime() - start);
+        log.debug("Permission index rebuilt: version {}, {} screens", rebuilt.version(), rebuilt.screenCount());
+        return rebuilt;
+    }
+
+    /**
+     * Reloads the rights of the given roles, in one query, and publishes them with the rights of every other role taken
+     * over from the current matrix.
+     *
+     * @param roleIds the roles whose permission rows changed
+     * @return the newly published matrix
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized PermissionMatrix refreshRoles(Collection<Long> roleIds) {
+        PermissionMatrix current = matrix;
+        if (current == null) {
+            return rebuild();
+        }
+        long start = System.nanoTime();
+        PermissionMatrix refreshed = current.withRoles(++version, roleIds, repository.findDtosByRoleIds(roleIds));
+        matrix = refreshed;
+        metrics.recordIndexRebuild(System.nanoTime() - start);
+        log.debug("Permission index refreshed for roles {}: version {}", roleIds, refreshed.version());
+        return refreshed;
+    }
+
+    /**
+     * Recomputes inherited rights after a role hierarchy change. Only the role parents are reloaded; the rights stored
+     * per role are reused from the current matrix.
+     *
+     * @return the newly published matrix
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public synchronized PermissionMatrix refreshHierarchy() {
+        PermissionMatrix current = matrix;
+        if (current == null) {
+            return rebuild();
+        }
+        PermissionMatrix refreshed = current.withParents(++version, parentsOf(roleRepository.findParentLinks()));
+        matrix = refreshed;
+        log.debug("Permission index hierarchy refreshed: version {}", refreshed.version());
+        return refreshed;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onRoleHierarchyChanged(RoleHierarchyChangedEvent event) {
+        refreshHierarchy();
+    }
+
+    /**
+     * Publishes a new version when a user's role assignment changes, so snapshots computed from the old assignment
+     * are refreshed on their next use.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onUserRolesChanged(UserRolesChangedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Reloads the matrix when another node changed permissions, roles or role assignments.
+     */
+    @EventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onCacheRegionChanged(CacheRegionChangedEvent event) {
+        switch (event.region()) {
+            case PERMISSIONS, USERS -> rebuild();
+            case ROLES -> refreshHierarchy();
+            default -> {
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void onApplicationReady() {
+        rebuild();
+    }
+
+    private static Map<Long, Long> parentsOf(List<RoleParentLink> links) {
+        Map<Long, Long> parents = new HashMap<>();
+        for (RoleParentLink link : links) {
+            parents.put(link.roleId(), link.parentId());
+        }
+        return parents;
+    }
+}
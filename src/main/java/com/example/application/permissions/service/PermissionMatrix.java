@@ -0,0 +1,220 @@
+package com.example.application.permissions.service;
+
+import com.example.application.permissions.dto.PermissionDto;
+import com.example.application.security.ScreenPermissions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable in-memory view of the role to screen permission matrix.
+ * <p>
+ * Screen names are interned to dense integer IDs and each role's read and write rights are stored as bitsets indexed
+ * by those IDs, so a permission check is a hash lookup followed by a bit test. Instances are never modified after
+ * construction; a change to the permissions table produces a new matrix with a higher {@link #version()}.
+ * </p>
+ * <p>
+ * A role inherits every right of its parent role. Inherited rights are folded into each role's bitsets when the matrix
+ * is built, so the depth of the role hierarchy does not affect the cost of a check. A hierarchy change only recomputes
+ * that closure from the rights stored per role, see {@link #withParents(long, Map)}, and a change to some roles' rights
+ * only reloads those roles, see {@link #withRoles(long, Collection, Collection)}.
+ * </p>
+ */
+public final class PermissionMatrix {
+
+    private static final Logger log = LoggerFactory.getLogger(PermissionMatrix.class);
+
+    static final PermissionMatrix EMPTY = new PermissionMatrix(0, Map.of(), Map.of(), Map.of(), Map.of());
+
+    private final long version;
+    private final Map<String, Integer> screenIds;
+    private final Map<Long, BitSet> ownReadByRole;
+    private final Map<Long, BitSet> ownWriteByRole;
+    private final Map<Long, Long> parents;
+    private final Map<Long, BitSet> readByRole;
+    private final Map<Long, BitSet> writeByRole;
+
+    private PermissionMatrix(long version, Map<String, Integer> screenIds, Map<Long, BitSet> ownReadByRole,
+            Map<Long, BitSet> ownWriteByRole, Map<Long, Long> parents) {
+        this.version = version;
+        this.screenIds = screenIds;
+        this.ownReadByRole = ownReadByRole;
+        this.ownWriteByRole = ownWriteByRole;
+        this.parents = parents;
+        this.readByRole = closure(ownReadByRole, parents);
+        this.writeByRole = closure(ownWriteByRole, parents);
+    }
+
+    /**
+     * Builds a matrix from the given permission rows.
+     *
+     * @param version the version stamp of the new matrix
+     * @param permissions all permission rows
+     * @param parents the parent of each role that has one, by role ID
+     * @return a new immutable matrix
+     */
+    static PermissionMatrix of(long version, Collection<PermissionDto> permissions, Map<Long, Long> parents) {
+        Map<String, Integer> screenIds = new HashMap<>();
+        Map<Long, BitSet> readByRole = new HashMap<>();
+        Map<Long, BitSet> writeByRole = new HashMap<>();
+        addRights(permissions, screenIds, readByRole, writeByRole);
+        return new PermissionMatrix(version, Map.copyOf(screenIds), Map.copyOf(readByRole), Map.copyOf(writeByRole),
+            Map.copyOf(parents));
+    }
+
+    static PermissionMatrix of(long version, Collection<PermissionDto> permissions) {
+        return of(version, permissions, Map.of());
+    }
+
+    /**
+     * Returns a matrix with the same per-role rights but a different role hierarchy, without reloading any permission
+     * rows.
+     *
+     * @param version the version stamp of the new matrix
+     * @param parents the parent of each role that has one, by role ID
+     * @return a new immutable matrix
+     */
+    PermissionMatrix withParents(long version, Map<Long, Long> parents) {
+        return new PermissionMatrix(version, screenIds, ownReadByRole, ownWriteByRole, Map.copyOf(parents));
+    }
+
+    /**
+     * Returns a matrix in which the given roles have exactly the rights of the given rows, and every other role keeps
+     * its rights from this matrix. Screens are only ever added, so screen IDs stay stable.
+     *
+     * @param version the version stamp of the new matrix
+     * @param roleIds the roles whose rights are replaced
+     * @param permissions all permission rows of those roles
+     * @return a new immutable matrix
+     */
+    PermissionMatrix withRoles(long version, Collection<Long> roleIds, Collection<PermissionDto> permissions) {
+        Map<String, Integer> newScreenIds = new HashMap<>(screenIds);
+        Map<Long, BitSet> readByRole = new HashMap<>(ownReadByRole);
+        Map<Long, BitSet> writeByRole = new HashMap<>(ownWriteByRole);
+        readByRole.keySet().removeAll(roleIds);
+        writeByRole.keySet().removeAll(roleIds);
+        addRights(permissions, newScreenIds, readByRole, writeByRole);
+        return new PermissionMatrix(version, Map.copyOf(newScreenIds), Map.copyOf(readByRole),
+            Map.copyOf(writeByRole), parents);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Returns the dense ID of a screen, or {@code -1} if no permission row mentions it.
+     */
+    public int screenId(String screenName) {
+        return screenName == null ? -1 : screenIds.getOrDefault(screenName, -1);
+    }
+
+    public int screenCount() {
+        return screenIds.size();
+    }
+
+    public boolean canRead(Collection<Long> roleIds, String screenName) {
+        return anyRoleHas(readByRole, roleIds, screenId(screenName));
+    }
+
+    public boolean canWrite(Collection<Long> roleIds, String screenName) {
+        return anyRoleHas(writeByRole, roleIds, screenId(screenName));
+    }
+
+    /**
+     * Combines the rights of the given roles into a per-principal snapshot stamped with this matrix's version.
+     */
+    public ScreenPermissions snapshotFor(Collection<Long> roleIds) {
+        BitSet read = new BitSet();
+        BitSet write = new BitSet();
+        for (Long roleId : roleIds) {
+            BitSet roleRead = readByRole.get(roleId);
+            if (roleRead != null) {
+                read.or(roleRead);
+            }
+            BitSet roleWrite = writeByRole.get(roleId);
+            if (roleWrite != null) {
+                write.or(roleWrite);
+            }
+        }
+        return ScreenPermissions.of(version, screenIds, read, write);
+    }
+
+    private static void addRights(Collection<PermissionDto> permissions, Map<String, Integer> screenIds,
+            Map<Long, BitSet> readByRole, Map<Long, BitSet> writeByRole) {
+        for (PermissionDto permission : permissions) {
+            if (permission.getRoleId() == null || permission.getScreenName() == null) {
+                continue;
+            }
+            Long roleId = permission.getRoleId();
+            int screenId = screenIds.computeIfAbsent(permission.getScreenName(), name -> screenIds.size());
+            if (permission.isCanRead()) {
+                readByRole.computeIfAbsent(roleId, id -> new BitSet()).set(screenId);
+            }
+            if (permission.isCanWrite()) {
+                writeByRole.computeIfAbsent(roleId, id -> new BitSet()).set(screenId);
+            }
+        }
+    }
+
+    /**
+     * Computes each role's rights including everything inherited from its ancestors. Every role is resolved once, with
+     * results shared by all of its descendants.
+     */
+    private static Map<Long, BitSet> closure(Map<Long, BitSet> own, Map<Long, Long> parents) {
+        if (parents.isEmpty()) {
+            return own;
+        }
+        Map<Long, BitSet> effective = new HashMap<>();
+        Set<Long> roleIds = new HashSet<>(own.keySet());
+        roleIds.addAll(parents.keySet());
+        for (Long roleId : roleIds) {
+            resolve(roleId, own, parents, effective, new HashSet<>());
+        }
+        effective.values().removeIf(BitSet::isEmpty);
+        return Map.copyOf(effective);
+    }
+
+    private static BitSet resolve(Long roleId, Map<Long, BitSet> own, Map<Long, Long> parents,
+            Map<Long, BitSet> effective, Set<Long> path) {
+        BitSet resolved = effective.get(roleId);
+        if (resolved != null) {
+            return resolved;
+        }
+        resolved = new BitSet();
+        BitSet ownBits = own.get(roleId);
+        if (ownBits != null) {
+            resolved.or(ownBits);
+        }
+        Long parentId = parents.get(roleId);
+        if (parentId != null) {
+            if (path.add(roleId)) {
+                resolved.or(resolve(parentId, own, parents, effective, path));
+            } else {
+                // RoleService rejects cycles; one can still appear through direct database edits
+                log.warn("Ignoring cyclic role hierarchy at role {}", roleId);
+            }
+        }
+        effective.put(roleId, resolved);
+        return resolved;
+    }
+
+    private static boolean anyRoleHas(Map<Long, BitSet> rights, Collection<Long> roleIds, int screenId) {
+        if (screenId < 0) {
+            return false;
+        }
+        for (Long roleId : roleIds) {
+            BitSet bits = rights.get(roleId);
+            if (bits != null && bits.get(screenId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
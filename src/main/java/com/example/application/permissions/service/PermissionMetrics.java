@@ -0,0 +1,109 @@
+package com.example.application.permissions.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters for screen permission evaluation.
+ * <ul>
+ * <li>{@code permission.checks} - timer per screen, access and outcome ({@code granted}, {@code denied},
+ * {@code error})</li>
+ * <li>{@code permission.check.errors} - exceptions swallowed by a check, per screen, access and exception type</li>
+ * <li>{@code permission.db.roundtrips} - database queries issued on behalf of permission checks, per operation. Divided
+ * by the {@code permission.checks} count this gives the round-trips per check.</li>
+ * <li>{@code permission.snapshot.resolutions} and {@code permission.index.rebuilds} - timers for the two operations that
+ * touch the database</li>
+ * </ul>
+ * Meters are cached per tag combination, so recording a check does not go through the registry lookup.
+ */
+@Component
+public class PermissionMetrics {
+
+    static final String CHECKS = "permission.checks";
+    static final String CHECK_ERRORS = "permission.check.errors";
+    static final String DB_ROUNDTRIPS = "permission.db.roundtrips";
+    static final String SNAPSHOT_RESOLUTIONS = "permission.snapshot.resolutions";
+    static final String INDEX_REBUILDS = "permission.index.rebuilds";
+
+    enum Outcome {
+        GRANTED, DENIED, ERROR
+    }
+
+    private record CheckKey(String screen, ScreenAccess access, Outcome outcome) {
+    }
+
+    private record ErrorKey(String screen, ScreenAccess access, Class<?> exceptionType) {
+    }
+
+    private final MeterRegistry registry;
+    private final Map<CheckKey, Timer> checkTimers = new ConcurrentHashMap<>();
+    private final Map<ErrorKey, Counter> errorCounters = new ConcurrentHashMap<>();
+    private final Counter snapshotQueries;
+    private final Counter indexQueries;
+    private final Timer snapshotResolutions;
+    private final Timer indexRebuilds;
+
+    public PermissionMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.snapshotQueries = Counter.builder(DB_ROUNDTRIPS)
+            .description("Database queries issued on behalf of permission checks")
+            .tag("operation", "snapshot")
+            .register(registry);
+        this.indexQueries = Counter.builder(DB_ROUNDTRIPS)
+            .description("Database queries issued on behalf of permission checks")
+            .tag("operation", "index")
+            .register(registry);
+        this.snapshotResolutions = Timer.builder(SNAPSHOT_RESOLUTIONS)
+            .description("Computation of a user's screen permission snapshot")
+            .register(registry);
+        this.indexRebuilds = Timer.builder(INDEX_REBUILDS)
+            .description("Reloads of the in-memory permission index")
+            .register(registry);
+    }
+
+    void recordCheck(String screenName, ScreenAccess access, Outcome outcome, long durationNanos) {
+        checkTimers.computeIfAbsent(new CheckKey(screenTag(screenName), access, outcome), key -> Timer.builder(CHECKS)
+                .description("Screen permission evaluations")
+                .tag("screen", key.screen())
+                .tag("access", tagValue(key.access()))
+                .tag("outcome", tagValue(key.outcome()))
+                .register(registry))
+            .record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordError(String screenName, ScreenAccess access, Exception exception) {
+        errorCounters.computeIfAbsent(new ErrorKey(screenTag(screenName), access, exception.getClass()),
+                key -> Counter.builder(CHECK_ERRORS)
+                    .description("Exceptions swallowed by screen permission checks")
+                    .tag("screen", key.screen())
+                    .tag("access", tagValue(key.access()))
+                    .tag("exception", key.exceptionType().getSimpleName())
+                    .register(registry))
+            .increment();
+    }
+
+    void recordSnapshotResolution(long durationNanos) {
+        snapshotQueries.increment();
+        snapshotResolutions.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordIndexRebuild(long durationNanos) {
+        indexQueries.increment();
+        indexRebuilds.record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static String screenTag(String screenName) {
+        return screenName == null || screenName.isBlank() ? "none" : screenName;
+    }
+
+    private static String tagValue(Enum<?> value) {
+        return value.name().toLowerCase(Locale.ROOT);
+    }
+}
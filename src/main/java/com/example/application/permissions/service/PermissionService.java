@@ -1,6 +1,9 @@
 package com.example.application.permissions.service;
 
+import com.example.application.base.service.CacheRegion;
+import com.example.application.base.service.CacheVersionService;
 import com.example.application.permissions.domain.Permission;
+import com.example.application.permissions.dto.PermissionChange;
 import com.example.application.permissions.dto.PermissionDto;
 import com.example.application.permissions.repository.PermissionRepository;
 import com.example.application.roles.domain.Role;
@@ -8,22 +11,37 @@ import com.example.application.roles.service.RoleService;
 import com.vaadin.hilla.BrowserCallable;
 import com.vaadin.hilla.crud.CrudRepositoryService;
 import jakarta.annotation.security.RolesAllowed;
+import org.jspecify.annotations.Nullable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @BrowserCallable
 @RolesAllowed({"ADMIN", "USER"})
 public class PermissionService extends CrudRepositoryService<Permission, Long, PermissionRepository> {
 
+    private static final Object INDEX_REFRESH_KEY = new Object();
+
     private final PermissionRepository repository;
     private final RoleService roleService;
+    private final PermissionIndex permissionIndex;
+    private final CacheVersionService cacheVersionService;
 
-    public PermissionService(PermissionRepository repository, RoleService roleService) {
+    public PermissionService(PermissionRepository repository, RoleService roleService, PermissionIndex permissionIndex,
+            CacheVersionService cacheVersionService) {
         this.repository = repository;
         this.roleService = roleService;
+        this.permissionIndex = permissionIndex;
+        this.cacheVersionService = cacheVersionService;
     }
 
     @Override
@@ -42,19 +60,22 @@ public class PermissionService extends CrudRepositoryService<Permission, Long, P
         if (roleId == null) {
             return java.util.Collections.emptyList();
         }
-        return repository.findAll().stream()
-            .filter(permission -> permission.getRole() != null && 
-                                 permission.getRole().getId() != null && 
-                                 permission.getRole().getId().equals(roleId))
-            .map(permission -> new PermissionDto(
-                permission.getId(),
-                permission.getRole().getId(),
-                permission.getRole().getName(),
-                permission.getScreenName(),
-                permission.isCanRead(),
-                permission.isCanWrite()
-            ))
-            .toList();
+        return repository.findDtosByRoleId(roleId);
+    }
+
+    /**
+     * Returns the permissions of several roles, fetched in a single query.
+     *
+     * @param roleIds the IDs of the roles, typically all roles of one user
+     * @return the permissions of all given roles, ordered by role ID and screen name
+     */
+    @Transactional(readOnly = true)
+    @RolesAllowed({"ADMIN", "USER"})
+    public List<PermissionDto> findByRoleIds(Collection<Long> roleIds) {
+        if (roleIds == null || roleIds.isEmpty()) {
+            return java.util.Collections.emptyList();
+        }
+        return repository.findDtosByRoleIds(roleIds);
     }
 
     @Transactional
@@ -79,14 +100,142 @@ public class PermissionService extends CrudRepositoryService<Permission, Long, P
         permission.setCanRead(canRead);
         permission.setCanWrite(canWrite);
         
-        return repository.save(permission);
+        Permission saved = repository.save(permission);
+        permissionsChanged(roleId);
+        return saved;
+    }
+
+    /**
+     * Applies a role's permission matrix in one transaction.
+     * <p>
+     * The rows are written with batched upsert statements instead of one lookup and one insert or update per screen.
+     * When a screen occurs more than once, the last change wins.
+     * </p>
+     *
+     * @param roleId the role to update
+     * @param changes the rights per screen
+     * @return the role's permissions after the update
+     */
+    @Transactional
+    @RolesAllowed("ADMIN")
+    public List<PermissionDto> savePermissions(Long roleId, List<PermissionChange> changes) {
+        if (roleId == null) {
+            throw new IllegalArgumentException("Role ID cannot be null");
+        }
+        if (changes == null) {
+            throw new IllegalArgumentException("Permission changes cannot be null");
+        }
+        Map<String, PermissionChange> byScreen = new LinkedHashMap<>();
+        for (PermissionChange change : changes) {
+            if (change == null || change.getScreenName() == null || change.getScreenName().trim().isEmpty()) {
+                throw new IllegalArgumentException("Screen name cannot be null or empty");
+            }
+            byScreen.put(change.getScreenName(), change);
+        }
+
+        if (!roleService.exists(roleId)) {
+            throw new RuntimeException("Role not found with ID: " + roleId);
+        }
+
+        // Pending entity changes must reach the database before the JDBC batch touches the same rows
+        repository.flush();
+        repository.upsertAll(roleId, List.copyOf(byScreen.values()));
+        permissionsChanged(roleId);
+        return repository.findDtosByRoleId(roleId);
     }
 
     @Override
     @Transactional
     public Permission save(Permission permission) {
         // This method should not be used directly from frontend
-        return super.save(permission);
+        Permission saved = super.save(permission);
+        permissionsChanged(saved.getRole() == null ? null : saved.getRole().getId());
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        Long roleId = repository.findById(id)
+            .map(permission -> permission.getRole() == null ? null : permission.getRole().getId())
+            .orElse(null);
+        super.delete(id);
+        permissionsChanged(roleId);
+    }
+
+    /**
+     * @param roleId the role whose rights changed, or {@code null} if it is not known
+     */
+    private void permissionsChanged(@Nullable Long roleId) {
+        cacheVersionService.bump(CacheRegion.PERMISSIONS);
+        refreshIndexAfterCommit(roleId);
+    }
+
+    /**
+     * Republishes the in-memory permission index once the current transaction commits, so readers never see
+     * uncommitted rows and a rollback leaves the index untouched. The roles written in one transaction are reloaded
+     * together through {@link PermissionIndex#refreshRoles}, in a single query; a write whose role is not known
+     * reloads the whole index.
+     */
+    private void refreshIndexAfterCommit(@Nullable Long roleId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            new ChangedRoles(roleId).refresh(permissionIndex);
+            return;
+        }
+        var changed = (ChangedRoles) TransactionSynchronizationManager.getResource(INDEX_REFRESH_KEY);
+        if (changed != null) {
+            changed.add(roleId);
+            return;
+        }
+        var pending = new ChangedRoles(roleId);
+        TransactionSynchronizationManager.bindResource(INDEX_REFRESH_KEY, pending);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            // An inner REQUIRES_NEW or NOT_SUPPORTED scope collects its own roles
+            @Override
+            public void suspend() {
+                TransactionSynchronizationManager.unbindResource(INDEX_REFRESH_KEY);
+            }
+
+            @Override
+            public void resume() {
+                TransactionSynchronizationManager.bindResource(INDEX_REFRESH_KEY, pending);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(INDEX_REFRESH_KEY);
+                if (status == STATUS_COMMITTED) {
+                    pending.refresh(permissionIndex);
+                }
+            }
+        });
+    }
+
+    /** The roles written in one transaction. */
+    private static final class ChangedRoles {
+
+        private final Set<Long> roleIds = new HashSet<>();
+        private boolean unknown;
+
+        private ChangedRoles(@Nullable Long roleId) {
+            add(roleId);
+        }
+
+        private void add(@Nullable Long roleId) {
+            if (roleId == null) {
+                unknown = true;
+            } else {
+                roleIds.add(roleId);
+            }
+        }
+
+        private void refresh(PermissionIndex index) {
+            if (unknown) {
+                index.rebuild();
+            } else {
+                index.refreshRoles(roleIds);
+            }
+        }
     }
 
     @Transactional
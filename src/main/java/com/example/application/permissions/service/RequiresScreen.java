@@ -0,0 +1,38 @@
+package com.example.application.permissions.service;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Restricts a service method to users with the given access to a screen.
+ * <p>
+ * This is the typed replacement for
+ * {@code @PreAuthorize("@userPermissionService.hasWritePermission('Task List')")}. Screen names are checked against
+ * {@code screens-config.json} when the application starts, so a misspelled name fails the boot instead of silently
+ * denying every call. At call time the requirement is resolved once per method and checked against the current
+ * user's permission snapshot without any expression evaluation.
+ * </p>
+ * <p>
+ * Hilla endpoints still need an access annotation such as {@code @PermitAll} for Hilla's own endpoint check.
+ * </p>
+ *
+ * @see ScreenAuthorizationManager
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequiresScreen {
+
+    /**
+     * The screen title as it appears in {@code screens-config.json} and the permissions table.
+     */
+    String name();
+
+    /**
+     * The access level required on the screen.
+     */
+    ScreenAccess access() default ScreenAccess.READ;
+}
@@ -0,0 +1,35 @@
+package com.example.application.permissions.service;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.security.authorization.method.AuthorizationInterceptorsOrder;
+import org.springframework.security.authorization.method.AuthorizationManagerBeforeMethodInterceptor;
+
+/**
+ * Registers the method security interceptor for {@link RequiresScreen}.
+ * <p>
+ * Screen names used in the annotation are validated at startup by
+ * {@code com.example.application.config.RequiresScreenValidator}.
+ * </p>
+ */
+@Configuration
+public class RequiresScreenConfig {
+
+    /**
+     * Method security advisor for {@link RequiresScreen}, ordered right after {@code @PreAuthorize}.
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor requiresScreenAuthorizationAdvisor(ObjectProvider<UserPermissionService> userPermissionService) {
+        var interceptor = new AuthorizationManagerBeforeMethodInterceptor(
+            AnnotationMatchingPointcut.forMethodAnnotation(RequiresScreen.class),
+            new ScreenAuthorizationManager(userPermissionService));
+        interceptor.setOrder(AuthorizationInterceptorsOrder.PRE_AUTHORIZE.getOrder() + 1);
+        return interceptor;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.application.permissions.service;
+
+/**
+ * Access levels that can be required on a screen with {@link RequiresScreen}.
+ */
+public enum ScreenAccess {
+    READ,
+    WRITE
+}
@@ -0,0 +1,66 @@
+package com.example.application.permissions.service;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.AuthorizationManager;
+import org.springframework.security.authorization.AuthorizationResult;
+import org.springframework.security.core.Authentication;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Enforces {@link RequiresScreen} on intercepted method calls.
+ * <p>
+ * The annotation is looked up once per method and cached; every later call is a map lookup plus a bit test on the
+ * current user's permission snapshot.
+ * </p>
+ */
+class ScreenAuthorizationManager implements AuthorizationManager<MethodInvocation> {
+
+    private static final AuthorizationResult GRANTED = () -> true;
+    private static final AuthorizationResult DENIED = () -> false;
+
+    private final ObjectProvider<UserPermissionService> userPermissionService;
+    private final Map<Method, RequiresScreen> requirements = new ConcurrentHashMap<>();
+
+    ScreenAuthorizationManager(ObjectProvider<UserPermissionService> userPermissionService) {
+        this.userPermissionService = userPermissionService;
+    }
+
+    @Override
+    public AuthorizationResult authorize(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        RequiresScreen requirement = requirements.computeIfAbsent(invocation.getMethod(),
+            method -> findRequirement(method, invocation.getThis()));
+        UserPermissionService permissions = userPermissionService.getObject();
+        boolean granted = requirement.access() == ScreenAccess.WRITE
+            ? permissions.hasWritePermission(requirement.name())
+            : permissions.hasReadPermission(requirement.name());
+        return granted ? GRANTED : DENIED;
+    }
+
+    /**
+     * Still abstract in Spring Security 6.5, so it cannot be left out; the interceptor only calls
+     * {@link #authorize}.
+     */
+    @Deprecated
+    @Override
+    public AuthorizationDecision check(Supplier<Authentication> authentication, MethodInvocation invocation) {
+        return new AuthorizationDecision(authorize(authentication, invocation).isGranted());
+    }
+
+    private static RequiresScreen findRequirement(Method method, Object target) {
+        Method specificMethod = target != null ? AopUtils.getMostSpecificMethod(method, AopUtils.getTargetClass(target))
+            : method;
+        RequiresScreen requirement = AnnotatedElementUtils.findMergedAnnotation(specificMethod, RequiresScreen.class);
+        if (requirement == null) {
+            throw new IllegalStateException("No @RequiresScreen found on " + method);
+        }
+        return requirement;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.application.permissions.service;
+
+import com.example.application.roles.domain.Role;
+import com.example.application.security.AppUserPrincipal;
+import com.example.application.security.ScreenPermissions;
+import com.example.application.security.ScreenPermissionsResolver;
+import com.example.application.users.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Computes per-principal {@link ScreenPermissions} snapshots from the {@link PermissionIndex}.
+ * <p>
+ * A snapshot is attached to the principal right after login. Afterwards {@link com.example.application.security.CurrentUser}
+ * only asks this service again when the index version has moved on, so regular requests do no user or role lookups.
+ * </p>
+ */
+@Service
+public class ScreenPermissionsService implements ScreenPermissionsResolver {
+
+    private static final Logger log = LoggerFactory.getLogger(ScreenPermissionsService.class);
+
+    private final UserService userService;
+    private final PermissionIndex permissionIndex;
+    private final PermissionMetrics metrics;
+
+    public ScreenPermissionsService(UserService userService, PermissionIndex permissionIndex,
+            PermissionMetrics metrics) {
+        this.userService = userService;
+        this.permissionIndex = permissionIndex;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public long currentVersion() {
+        return permissionIndex.current().version();
+    }
+
+    @Override
+    public ScreenPermissions resolve(AppUserPrincipal principal) {
+        long start = System.nanoTime();
+        PermissionMatrix matrix = permissionIndex.current();
+        List<Long> roleIds = userService.findByUsername(principal.getAppUser().getPreferredUsername())
+            .map(user -> user.getRoles().stream().map(Role::getId).toList())
+            .orElse(List.of());
+        ScreenPermissions snapshot = matrix.snapshotFor(roleIds);
+        metrics.recordSnapshotResolution(System.nanoTime() - start);
+        return snapshot;
+    }
+
+    @EventListener
+    void onAuthenticationSuccess(AuthenticationSuccessEvent event) {
+        if (event.getAuthentication().getPrincipal() instanceof AppUserPrincipal principal) {
+            principal.setScreenPermissions(resolve(principal));
+            log.debug("Attached screen permissions to {}", principal.getAppUser().getPreferredUsername());
+        }
+    }
+}
@@ -1,55 +1,33 @@
 package com.example.application.permissions.service;
 
-import com.example.application.users.service.UserService;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
+import com.example.application.security.CurrentUser;
+import com.example.application.security.ScreenPermissions;
 import org.springframework.stereotype.Service;
 
+/**
+ * Screen permission checks for the current user, used from {@code @PreAuthorize} expressions and services.
+ * <p>
+ * Checks read the {@link com.example.application.security.ScreenPermissions} snapshot attached to the current
+ * principal, so they do not look up the user or their roles.
+ * </p>
+ */
 @Service
 public class UserPermissionService {
 
-    private final UserService userService;
-    private final PermissionService permissionService;
+    private final CurrentUser currentUser;
+    private final PermissionMetrics metrics;
 
-    public UserPermissionService(UserService userService, PermissionService permissionService) {
-        this.userService = userService;
-        this.permissionService = permissionService;
+    public UserPermissionService(CurrentUser currentUser, PermissionMetrics metrics) {
+        this.currentUser = currentUser;
+        this.metrics = metrics;
     }
 
     public boolean hasReadPermission(String screenName) {
-        try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth == null) return false;
-            
-            String username = auth.getName();
-            var user = userService.findByUsername(username);
-            if (user.isEmpty()) return false;
-            
-            // Check permissions for all user roles
-            return user.get().getRoles().stream()
-                .flatMap(role -> permissionService.findByRoleId(role.getId()).stream())
-                .anyMatch(permission -> screenName.equals(permission.getScreenName()) && permission.isCanRead());
-        } catch (Exception e) {
-            return false;
-        }
+        return check(screenName, ScreenAccess.READ);
     }
 
     public boolean hasWritePermission(String screenName) {
-        try {
-            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            if (auth == null) return false;
-            
-            String username = auth.getName();
-            var user = userService.findByUsername(username);
-            if (user.isEmpty()) return false;
-            
-            // Check permissions for all user roles
-            return user.get().getRoles().stream()
-                .flatMap(role -> permissionService.findByRoleId(role.getId()).stream())
-                .anyMatch(permission -> screenName.equals(permission.getScreenName()) && permission.isCanWrite());
-        } catch (Exception e) {
-            return false;
-        }
+        return check(screenName, ScreenAccess.WRITE);
     }
 
     public void requireWritePermission(String screenName) {
@@ -57,4 +35,20 @@ public class UserPermissionService {
             throw new SecurityException("You do not have write permission for " + screenName + " screen");
         }
     }
-}
\ No newline at end of file
+
+    private boolean check(String screenName, ScreenAccess access) {
+        long start = System.nanoTime();
+        try {
+            ScreenPermissions permissions = currentUser.getScreenPermissions();
+            boolean granted = access == ScreenAccess.WRITE ? permissions.canWrite(screenName)
+                : permissions.canRead(screenName);
+            metrics.recordCheck(screenName, access, granted ? PermissionMetrics.Outcome.GRANTED
+                : PermissionMetrics.Outcome.DENIED, System.nanoTime() - start);
+            return granted;
+        } catch (Exception e) {
+            metrics.recordCheck(screenName, access, PermissionMetrics.Outcome.ERROR, System.nanoTime() - start);
+            metrics.recordError(screenName, access, e);
+            return false;
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.application.reference.domain;
 
 import org.springframework.context.annotation.Profile;
-import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -9,11 +8,11 @@ import java.util.List;
 
 @Repository("DB2ReferenceRepository")
 @Profile("db2")
-public interface DB2ReferenceRepository extends JpaRepository<ReferenceTable, Long> {
+public interface DB2ReferenceRepository extends ReferenceRepository, ReferenceUpsertRepository {
 
-    @Query(value = "SELECT id, code, description, category FROM ${app.database.schema}.reference_table WHERE category = ?1", nativeQuery = true)
+    @Query(value = "SELECT id, code, description, category, change_version, deleted FROM ${app.database.schema}.reference_table WHERE category = ?1 AND deleted = FALSE", nativeQuery = true)
     List<ReferenceTable> findByCategoryNative(String category);
 
     @Query(value = "SELECT COUNT(*) FROM ${app.database.schema}.reference_table", nativeQuery = true)
     Long countAllNative();
-}
\ No newline at end of file
+}
@@ -0,0 +1,49 @@
+package com.example.application.reference.domain;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Queries shared by the database specific reference repositories. Tombstones, rows with {@code deleted} set, are kept
+ * for delta synchronization and excluded from everything else.
+ * <p>
+ * Spring Data only picks up fragments from the interfaces a repository extends directly, so the database specific
+ * repositories repeat {@link ReferenceUpsertRepository}.
+ * </p>
+ */
+@NoRepositoryBean
+public interface ReferenceRepository extends JpaRepository<ReferenceTable, Long>, JpaSpecificationExecutor<ReferenceTable>,
+        ReferenceUpsertRepository {
+
+    long countByDeletedFalse();
+
+    /**
+     * Retrieves the row with the given key, live or a tombstone, through the {@code (category, code)} unique
+     * constraint.
+     */
+    Optional<ReferenceTable> findByCategoryAndCode(String category, String code);
+
+    @Query("SELECT COALESCE(MAX(r.changeVersion), -1) FROM ReferenceTable r")
+    long findLatestChangeVersion();
+
+    /**
+     * Retrieves the rows, tombstones included, changed after the given position in {@code (change_version, id)}
+     * order, reading the matching index.
+     *
+     * @param version the change version of the last row already seen
+     * @param id the ID of the last row already seen
+     * @param limit the maximum number of rows
+     * @return the changed rows
+     */
+    @Query("""
+            SELECT r FROM ReferenceTable r
+            WHERE r.changeVersion > ?1 OR (r.changeVersion = ?1 AND r.id > ?2)
+            ORDER BY r.changeVersion, r.id""")
+    List<ReferenceTable> findChangesAfter(long version, long id, Limit limit);
+}
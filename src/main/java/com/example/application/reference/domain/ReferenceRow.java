@@ -0,0 +1,7 @@
+package com.example.application.reference.domain;
+
+/**
+ * One reference row as written by the bulk upsert, identified by its natural key {@code (category, code)}.
+ */
+public record ReferenceRow(String category, String code, String description) {
+}
@@ -1,18 +1,30 @@
 package com.example.application.reference.domain;
 
 import com.example.application.base.domain.AbstractEntity;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotBlank;
+import org.hibernate.annotations.ColumnDefault;
 
 /**
  * Reference table entity for storing reference data with code, description and category.
+ * <p>
+ * Every write stamps the row with a new change version, and deleting a row only marks it as deleted, so clients can
+ * fetch the rows changed since the version they last saw, deletions included. A category holds each code at most once,
+ * tombstones included, so saving a deleted code again brings its row back.
+ * </p>
  */
 @Entity
-@Table(name = "reference_table")
+@Table(name = "reference_table",
+        indexes = @Index(name = "idx_reference_table_change_version_id", columnList = "change_version, id"),
+        uniqueConstraints = @UniqueConstraint(name = "uk_reference_table_category_code",
+                columnNames = { "category", "code" }))
 public class ReferenceTable extends AbstractEntity<Long> {
 
     @Id
@@ -27,6 +39,14 @@ public class ReferenceTable extends AbstractEntity<Long> {
 
     private String category;
 
+    @Column(name = "change_version", nullable = false)
+    @ColumnDefault("0")
+    private long changeVersion;
+
+    @Column(name = "deleted", nullable = false)
+    @ColumnDefault("false")
+    private boolean deleted;
+
     // Constructors
     public ReferenceTable() {}
 
@@ -67,4 +87,20 @@ public class ReferenceTable extends AbstractEntity<Long> {
     public void setCategory(String category) {
         this.category = category;
     }
+
+    public long getChangeVersion() {
+        return changeVersion;
+    }
+
+    public void setChangeVersion(long changeVersion) {
+        this.changeVersion = changeVersion;
+    }
+
+    public boolean isDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(boolean deleted) {
+        this.deleted = deleted;
+    }
 }
\ No newline at end of file
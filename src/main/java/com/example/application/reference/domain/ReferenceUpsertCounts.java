@@ -0,0 +1,8 @@
+package com.example.application.reference.domain;
+
+/**
+ * What a bulk upsert did with its rows: rows with a new key were inserted, rows whose description changed or whose key
+ * only had a tombstone were updated, and rows equal to the stored row were left unchanged.
+ */
+public record ReferenceUpsertCounts(int inserted, int updated, int unchanged) {
+}
@@ -0,0 +1,20 @@
+package com.example.application.reference.domain;
+
+import java.util.List;
+
+/**
+ * Batched insert-or-update of reference rows, keyed by {@code (category, code)}.
+ */
+public interface ReferenceUpsertRepository {
+
+    /**
+     * Writes the given rows with JDBC batches of upsert statements. Only rows that differ from the stored ones are
+     * written and stamped with the change version, so unchanged rows do not show up as changes to synchronizing
+     * clients. If a key occurs more than once, the last row wins.
+     *
+     * @param rows the rows to write
+     * @param changeVersion the change version of the written rows
+     * @return how many rows were inserted, updated and left unchanged
+     */
+    ReferenceUpsertCounts upsertAll(List<ReferenceRow> rows, long changeVersion);
+}
@@ -0,0 +1,132 @@
+package com.example.application.reference.domain;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Spring Data fragment implementing {@link ReferenceUpsertRepository}. The stored rows are read with one
+ * {@code IN} query per category and chunk of codes, then the changed rows are written with the native upsert of the
+ * database: {@code MERGE ... KEY} on H2 and {@code MERGE ... USING} on DB2. Both match on the
+ * {@code (category, code)} unique constraint, so a key never matches more than one row.
+ */
+class ReferenceUpsertRepositoryImpl implements ReferenceUpsertRepository {
+
+    static final int LOOKUP_CHUNK_SIZE = 500;
+
+    private record Key(String category, String code) {
+    }
+
+    private record Stored(String description, boolean deleted) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String table;
+    private volatile String upsertSql;
+
+    ReferenceUpsertRepositoryImpl(JdbcTemplate jdbcTemplate, @Value("${app.database.schema:}") String schema) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.table = schema.isBlank() ? "reference_table" : schema + ".reference_table";
+    }
+
+    @Override
+    public ReferenceUpsertCounts upsertAll(List<ReferenceRow> rows, long changeVersion) {
+        if (rows.isEmpty()) {
+            return new ReferenceUpsertCounts(0, 0, 0);
+        }
+        Map<Key, Stored> stored = findStored(rows);
+        Map<Key, ReferenceRow> writes = new LinkedHashMap<>();
+        int inserted = 0;
+        int updated = 0;
+        int unchanged = 0;
+        for (ReferenceRow row : rows) {
+            var key = new Key(row.category(), row.code());
+            Stored current = stored.get(key);
+            if (current == null) {
+                inserted++;
+            } else if (!current.deleted() && Objects.equals(current.description(), row.description())) {
+                unchanged++;
+                continue;
+            } else {
+                updated++;
+            }
+            // Later rows with the same key are compared against this one
+            stored.put(key, new Stored(row.description(), false));
+            writes.put(key, row);
+        }
+        if (!writes.isEmpty()) {
+            jdbcTemplate.batchUpdate(upsertSql(), writes.values(), writes.size(), (ps, row) -> {
+                ps.setString(1, row.category());
+                ps.setString(2, row.code());
+                ps.setString(3, row.description());
+                ps.setLong(4, changeVersion);
+            });
+        }
+        return new ReferenceUpsertCounts(inserted, updated, unchanged);
+    }
+
+    private Map<Key, Stored> findStored(List<ReferenceRow> rows) {
+        Map<String, Set<String>> codesByCategory = new LinkedHashMap<>();
+        for (ReferenceRow row : rows) {
+            codesByCategory.computeIfAbsent(row.category(), category -> new LinkedHashSet<>()).add(row.code());
+        }
+        Map<Key, Stored> stored = new HashMap<>();
+        for (Map.Entry<String, Set<String>> entry : codesByCategory.entrySet()) {
+            String category = entry.getKey();
+            List<String> codes = new ArrayList<>(entry.getValue());
+            for (int from = 0; from < codes.size(); from += LOOKUP_CHUNK_SIZE) {
+                List<String> chunk = codes.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, codes.size()));
+                Object[] args = new Object[chunk.size() + 1];
+                args[0] = category;
+                for (int i = 0; i < chunk.size(); i++) {
+                    args[i + 1] = chunk.get(i);
+                }
+                String sql = "SELECT code, description, deleted FROM " + table + " WHERE category = ? AND code IN ("
+                        + "?, ".repeat(chunk.size() - 1) + "?)";
+                jdbcTemplate.query(sql, rs -> {
+                    stored.put(new Key(category, rs.getString(1)), new Stored(rs.getString(2), rs.getBoolean(3)));
+                }, args);
+            }
+        }
+        return stored;
+    }
+
+    private String upsertSql() {
+        String sql = upsertSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            sql = upsertSqlFor(product == null ? "" : product);
+            upsertSql = sql;
+        }
+        return sql;
+    }
+
+    String upsertSqlFor(String databaseProductName) {
+        String product = databaseProductName.toLowerCase(Locale.ROOT);
+        if (product.contains("h2")) {
+            return "MERGE INTO " + table + " (category, code, description, change_version, deleted) "
+                    + "KEY (category, code) VALUES (?, ?, ?, ?, FALSE)";
+        }
+        if (product.contains("db2")) {
+            return "MERGE INTO " + table + " r USING (VALUES (CAST(? AS VARCHAR(255)), CAST(? AS VARCHAR(255)), "
+                    + "CAST(? AS VARCHAR(255)), CAST(? AS BIGINT))) AS s (category, code, description, change_version) "
+                    + "ON r.category = s.category AND r.code = s.code "
+                    + "WHEN MATCHED THEN UPDATE SET description = s.description, change_version = s.change_version, "
+                    + "deleted = FALSE "
+                    + "WHEN NOT MATCHED THEN INSERT (category, code, description, change_version, deleted) "
+                    + "VALUES (s.category, s.code, s.description, s.change_version, FALSE)";
+        }
+        throw new IllegalStateException("Bulk reference upsert is not supported on " + databaseProductName);
+    }
+}
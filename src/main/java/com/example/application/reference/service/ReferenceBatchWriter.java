@@ -0,0 +1,50 @@
+package com.example.application.reference.service;
+
+import com.example.application.base.service.CacheRegion;
+import com.example.application.base.service.CacheVersionService;
+import com.example.application.reference.domain.ReferenceRepository;
+import com.example.application.reference.domain.ReferenceRow;
+import com.example.application.reference.domain.ReferenceUpsertCounts;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Upserts a batch of imported reference rows in one transaction. A failing batch does not roll back the ones before
+ * it.
+ */
+@Component
+class ReferenceBatchWriter {
+
+    private final @Nullable ReferenceRepository repository;
+    private final ReferenceCache cache;
+    private final CacheVersionService cacheVersionService;
+
+    ReferenceBatchWriter(@Autowired(required = false) @Nullable ReferenceRepository repository, ReferenceCache cache,
+            CacheVersionService cacheVersionService) {
+        this.repository = repository;
+        this.cache = cache;
+        this.cacheVersionService = cacheVersionService;
+    }
+
+    /**
+     * Writes the rows that differ from the stored ones under a single new change version, so clients synchronizing
+     * through {@link ReferenceService#changesSince} fetch the batch at once.
+     */
+    @Transactional
+    public ReferenceUpsertCounts upsert(List<ReferenceRow> rows) {
+        if (repository == null) {
+            throw new IllegalStateException("No reference repository is configured for the active profile");
+        }
+        // Taken first, as in ReferenceService.save: the version row stays locked until commit
+        long version = cacheVersionService.bump(CacheRegion.REFERENCES);
+        ReferenceUpsertCounts counts = repository.upsertAll(rows, version);
+        if (counts.inserted() + counts.updated() > 0) {
+            cache.invalidateAfterCommit();
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.application.reference.service;
+
+import com.example.application.base.service.CacheRegion;
+import com.example.application.base.service.CacheRegionChangedEvent;
+import com.example.application.reference.domain.ReferenceTable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Read-through cache of {@link ReferenceCategory} snapshots, keyed by category.
+ * <p>
+ * Every snapshot carries the cache version it was loaded at, and a snapshot of an older version is never returned.
+ * {@link ReferenceService} bumps the version after each committed write, and the {@link CacheRegion#REFERENCES}
+ * region bumps it when another node wrote. A load that races with a write is therefore reloaded on its next use
+ * instead of being served stale. The least recently used categories are evicted beyond
+ * {@code app.reference.cache.max-categories}, default 256.
+ * </p>
+ */
+@Component
+class ReferenceCache {
+
+    private static final Logger log = LoggerFactory.getLogger(ReferenceCache.class);
+
+    private final AtomicLong version = new AtomicLong();
+    private final Map<String, ReferenceCategory> categories;
+
+    ReferenceCache(@Value("${app.reference.cache.max-categories:256}") int maxCategories) {
+        if (maxCategories < 1) {
+            throw new IllegalArgumentException("Invalid reference cache configuration");
+        }
+        this.categories = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ReferenceCategory> eldest) {
+                return size() > maxCategories;
+            }
+        };
+    }
+
+    /**
+     * Returns the current snapshot of a category, loading its rows with the loader if there is none.
+     */
+    ReferenceCategory get(String category, Function<String, List<ReferenceTable>> loader) {
+        long current = version.get();
+        synchronized (categories) {
+            ReferenceCategory cached = categories.get(category);
+            if (cached != null && cached.version() == current) {
+                return cached;
+            }
+        }
+        // Loaded outside the lock, so a slow query does not block lookups of other categories
+        long start = System.nanoTime();
+        ReferenceCategory loaded = ReferenceCategory.of(current, loader.apply(category));
+        log.debug("Loaded {} reference rows of category {} in {} ms", loaded.entries().size(), category,
+                (System.nanoTime() - start) / 1_000_000);
+        synchronized (categories) {
+            ReferenceCategory cached = categories.get(category);
+            if (cached == null || cached.version() < current) {
+                categories.put(category, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    long version() {
+        return version.get();
+    }
+
+    int size() {
+        synchronized (categories) {
+            return categories.size();
+        }
+    }
+
+    /**
+     * Drops all snapshots once the current transaction commits, or immediately if there is no transaction.
+     */
+    void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate();
+            }
+        });
+    }
+
+    void invalidate() {
+        version.incrementAndGet();
+        synchronized (categories) {
+            categories.clear();
+        }
+    }
+
+    @EventListener
+    public void onCacheRegionChanged(CacheRegionChangedEvent event) {
+        if (event.region() == CacheRegion.REFERENCES) {
+            invalidate();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.application.reference.service;
+
+import com.example.application.reference.domain.ReferenceTable;
+
+import java.util.List;
+
+/**
+ * Immutable snapshot of the reference rows of one category, stamped with the {@link ReferenceCache} version it was
+ * loaded at.
+ */
+final class ReferenceCategory {
+
+    private final long version;
+    private final List<ReferenceEntry> entries;
+    private final ReferenceLookup lookup;
+
+    private ReferenceCategory(long version, List<ReferenceEntry> entries, ReferenceLookup lookup) {
+        this.version = version;
+        this.entries = entries;
+        this.lookup = lookup;
+    }
+
+    static ReferenceCategory of(long version, List<ReferenceTable> rows) {
+        List<ReferenceEntry> entries = rows.stream()
+            .map(row -> new ReferenceEntry(row.getId(), row.getCode(), row.getDescription()))
+            .toList();
+        return new ReferenceCategory(version, entries, ReferenceLookup.of(rows));
+    }
+
+    long version() {
+        return version;
+    }
+
+    List<ReferenceEntry> entries() {
+        return entries;
+    }
+
+    ReferenceLookup lookup() {
+        return lookup;
+    }
+}
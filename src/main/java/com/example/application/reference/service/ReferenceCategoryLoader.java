@@ -0,0 +1,42 @@
+package com.example.application.reference.service;
+
+import com.example.application.reference.domain.DB2ReferenceRepository;
+import com.example.application.reference.domain.H2ReferenceRepository;
+import com.example.application.reference.domain.ReferenceTable;
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Reads the live rows of one category when the {@link ReferenceCache} misses. It is a bean of its own so that the
+ * read runs in a transaction, opened through the proxy on a miss only; cache hits in {@link ReferenceService} open
+ * none.
+ */
+@Component
+class ReferenceCategoryLoader {
+
+    private final @Nullable H2ReferenceRepository h2Repository;
+    private final @Nullable DB2ReferenceRepository db2Repository;
+
+    ReferenceCategoryLoader(
+            @Autowired(required = false) @Qualifier("h2ReferenceRepository") @Nullable H2ReferenceRepository h2Repository,
+            @Autowired(required = false) @Qualifier("DB2ReferenceRepository") @Nullable DB2ReferenceRepository db2Repository) {
+        this.h2Repository = h2Repository;
+        this.db2Repository = db2Repository;
+    }
+
+    @Transactional(readOnly = true)
+    public List<ReferenceTable> load(String category) {
+        if (h2Repository != null) {
+            return h2Repository.findByCategoryAndDeletedFalse(category);
+        }
+        if (db2Repository != null) {
+            return db2Repository.findByCategoryNative(category);
+        }
+        throw new IllegalStateException("No reference repository is configured for the active profile");
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.application.reference.service;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A reference row as changed at {@code version}. A deleted row is sent once more with {@code deleted} set, so clients
+ * can remove it from their copy.
+ */
+public record ReferenceChange(Long id, long version, boolean deleted, String code, String description,
+        @Nullable String category) {
+}
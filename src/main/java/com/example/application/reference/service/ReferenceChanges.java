@@ -0,0 +1,16 @@
+package com.example.application.reference.service;
+
+import java.util.List;
+
+/**
+ * One batch of changes returned by {@link ReferenceService#changesSince}.
+ *
+ * @param changes the changed rows in the order they were changed
+ * @param cursor the position to pass to the next call
+ * @param more whether more changes are waiting beyond this batch
+ * @param reset whether the client's cursor was ahead of the table, for example because the database was recreated;
+ *            the client must drop its copy, and the changes start over from the first row
+ */
+public record ReferenceChanges(List<ReferenceChange> changes, ReferenceSyncCursor cursor, boolean more,
+        boolean reset) {
+}
@@ -0,0 +1,7 @@
+package com.example.application.reference.service;
+
+/**
+ * Immutable copy of one reference table row, as held by the {@link ReferenceCache}.
+ */
+public record ReferenceEntry(Long id, String code, String description) {
+}
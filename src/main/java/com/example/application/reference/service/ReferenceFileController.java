@@ -0,0 +1,42 @@
+package com.example.application.reference.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * Bulk reference import over plain HTTP. The request stream is read while it is transferred instead of being buffered
+ * by a multipart or JSON message converter.
+ * <p>
+ * The import needs the session of a signed-in user and, being a POST outside Vaadin's endpoints, the session's CSRF
+ * token in the header named by the page's {@code _csrf_header} meta tag. The reference view's Import button sends
+ * both. The file is the raw body, with {@code Content-Type: text/csv} or {@code application/x-ndjson}.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/references")
+class ReferenceFileController {
+
+    static final String CSV = "text/csv";
+    static final String NDJSON = "application/x-ndjson";
+
+    private final ReferenceImportService importService;
+
+    ReferenceFileController(ReferenceImportService importService) {
+        this.importService = importService;
+    }
+
+    @PostMapping(path = "/import", consumes = CSV, produces = MediaType.APPLICATION_JSON_VALUE)
+    ReferenceImportReport importCsv(HttpServletRequest request) throws IOException {
+        return importService.importReferences(request.getInputStream(), ReferenceFileFormat.CSV);
+    }
+
+    @PostMapping(path = "/import", consumes = NDJSON, produces = MediaType.APPLICATION_JSON_VALUE)
+    ReferenceImportReport importNdjson(HttpServletRequest request) throws IOException {
+        return importService.importReferences(request.getInputStream(), ReferenceFileFormat.NDJSON);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.application.reference.service;
+
+/**
+ * File formats of the bulk reference import.
+ */
+public enum ReferenceFileFormat {
+
+    /**
+     * One {@code category,code,description} row per record, with fields quoted as in RFC 4180 when they contain
+     * commas, quotes or line breaks. A first line naming exactly these columns is skipped as a header.
+     */
+    CSV,
+
+    /**
+     * One JSON object per line with {@code category}, {@code code} and {@code description} properties.
+     */
+    NDJSON
+}
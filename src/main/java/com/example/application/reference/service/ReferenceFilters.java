@@ -0,0 +1,110 @@
+package com.example.application.reference.service;
+
+import com.example.application.reference.domain.ReferenceTable;
+import com.vaadin.hilla.crud.filter.AndFilter;
+import com.vaadin.hilla.crud.filter.Filter;
+import com.vaadin.hilla.crud.filter.OrFilter;
+import com.vaadin.hilla.crud.filter.PropertyStringFilter;
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Translates the filters and sort orders of a grid into a {@link Specification} and {@link Sort} over live reference
+ * rows. Only {@code code}, {@code description} and {@code category} can be filtered and sorted on, plus the ID for
+ * sorting, so a client cannot make the database scan on an arbitrary column.
+ */
+final class ReferenceFilters {
+
+    static final Set<String> PROPERTIES = Set.of("code", "description", "category");
+
+    /** Matches the {@code (category, code)} index; the ID keeps rows with equal keys in a stable order. */
+    static final Sort DEFAULT_SORT = Sort.by("category", "code", "id");
+
+    private static final Specification<ReferenceTable> ANY = (root, query, cb) -> cb.conjunction();
+
+    private ReferenceFilters() {
+    }
+
+    /**
+     * Returns a specification matching the rows that are not deleted and pass the filter.
+     *
+     * @throws IllegalArgumentException if the filter uses an unsupported property or matcher
+     */
+    static Specification<ReferenceTable> toSpecification(@Nullable Filter filter) {
+        Specification<ReferenceTable> live = (root, query, cb) -> cb.isFalse(root.get("deleted"));
+        return filter == null ? live : live.and(convert(filter));
+    }
+
+    /**
+     * Returns the requested sort, completed with the ID so pages never overlap, or the default sort.
+     *
+     * @throws IllegalArgumentException if the sort uses an unsupported property
+     */
+    static Sort toSort(Sort requested) {
+        if (requested.isUnsorted()) {
+            return DEFAULT_SORT;
+        }
+        for (Sort.Order order : requested) {
+            if (!order.getProperty().equals("id")) {
+                requireProperty(order.getProperty());
+            }
+        }
+        return requested.getOrderFor("id") != null ? requested : requested.and(Sort.by("id"));
+    }
+
+    private static Specification<ReferenceTable> convert(Filter filter) {
+        if (filter instanceof AndFilter and) {
+            return combine(and.getChildren(), true);
+        }
+        if (filter instanceof OrFilter or) {
+            return combine(or.getChildren(), false);
+        }
+        if (filter instanceof PropertyStringFilter property) {
+            return matches(property);
+        }
+        throw new IllegalArgumentException("Unsupported filter " + filter.getClass().getSimpleName());
+    }
+
+    private static Specification<ReferenceTable> combine(@Nullable List<Filter> children, boolean all) {
+        if (children == null || children.isEmpty()) {
+            return ANY;
+        }
+        Specification<ReferenceTable> combined = convert(children.getFirst());
+        for (Filter child : children.subList(1, children.size())) {
+            combined = all ? combined.and(convert(child)) : combined.or(convert(child));
+        }
+        return combined;
+    }
+
+    private static Specification<ReferenceTable> matches(PropertyStringFilter filter) {
+        String property = requireProperty(filter.getPropertyId());
+        String value = filter.getFilterValue() == null ? "" : filter.getFilterValue();
+        if (filter.getMatcher() == PropertyStringFilter.Matcher.EQUALS) {
+            return (root, query, cb) -> cb.equal(root.get(property), value);
+        }
+        if (filter.getMatcher() == PropertyStringFilter.Matcher.CONTAINS) {
+            if (value.isEmpty()) {
+                return ANY;
+            }
+            String pattern = "%" + escapeLike(value.toLowerCase(Locale.ROOT)) + "%";
+            return (root, query, cb) -> cb.like(cb.lower(root.get(property)), pattern, '\\');
+        }
+        throw new IllegalArgumentException("Matcher " + filter.getMatcher() + " is not supported for " + property);
+    }
+
+    private static String requireProperty(@Nullable String property) {
+        if (property == null || !PROPERTIES.contains(property)) {
+            throw new IllegalArgumentException("Filtering and sorting by " + property + " is not supported");
+        }
+        return property;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.application.reference.service;
+
+import com.example.application.base.service.ImportBatches;
+import com.example.application.base.service.ImportError;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Outcome of one batch of a reference import that did not go through cleanly.
+ * <p>
+ * Rejected lines are listed in {@code errors}, up to {@link ImportBatches#MAX_ERRORS_PER_BATCH} per batch. If
+ * the upsert itself failed, {@code failure} holds the reason and none of the batch's rows were written.
+ * </p>
+ */
+public record ReferenceImportBatchReport(int batch, long firstLine, long lastLine, int inserted, int updated,
+        int unchanged, int rejected, List<ImportError> errors, @Nullable String failure) {
+}
@@ -0,0 +1,10 @@
+package com.example.application.reference.service;
+
+import java.util.List;
+
+/**
+ * Result of a reference import: totals plus a report for each batch that had rejected lines or failed.
+ */
+public record ReferenceImportReport(long inserted, long updated, long unchanged, long rejected, int batchCount,
+        List<ReferenceImportBatchReport> batches) {
+}
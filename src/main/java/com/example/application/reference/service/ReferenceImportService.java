@@ -0,0 +1,164 @@
+package com.example.application.reference.service;
+
+import com.example.application.base.service.CsvLines;
+import com.example.application.base.service.ImportBatchResult;
+import com.example.application.base.service.ImportBatches;
+import com.example.application.permissions.service.RequiresScreen;
+import com.example.application.permissions.service.ScreenAccess;
+import com.example.application.reference.domain.ReferenceRow;
+import com.example.application.reference.domain.ReferenceUpsertCounts;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Imports reference rows from a CSV or NDJSON stream, inserting new {@code (category, code)} keys and updating the
+ * description of existing ones.
+ * <p>
+ * The input is read in batches by {@link ImportBatches}, so only one batch of rows is held in memory at a time.
+ * Invalid lines are rejected individually and reported. Each batch is upserted in its own transaction by
+ * {@link ReferenceBatchWriter}; rows equal to the stored ones are counted as unchanged and not written, so
+ * re-importing a file only touches what changed.
+ * </p>
+ */
+@Service
+public class ReferenceImportService {
+
+    static final int MAX_FIELD_LENGTH = 255;
+
+    private static final Logger log = LoggerFactory.getLogger(ReferenceImportService.class);
+    private static final List<String> CSV_HEADER = List.of("category", "code", "description");
+
+    private final ImportBatches<ReferenceRow, ReferenceUpsertCounts> batches;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    ReferenceImportService(ReferenceBatchWriter writer,
+            @Value("${app.reference.import.batch-size:1000}") int batchSize) {
+        this.batches = new ImportBatches<>("Reference import", batchSize, writer::upsert);
+    }
+
+    /**
+     * Reads reference rows from the stream until it ends and upserts them in batches.
+     *
+     * @param input the UTF-8 encoded upload; it is not closed
+     * @param format the format of the upload
+     * @return the totals and a report of every batch with rejected lines or a failed upsert
+     */
+    @RequiresScreen(name = "Reference", access = ScreenAccess.WRITE)
+    public ReferenceImportReport importReferences(InputStream input, ReferenceFileFormat format) {
+        Totals totals = new Totals();
+        batches.read(input, new ImportBatches.LineParser<>() {
+            @Override
+            public boolean isHeader(String line) {
+                return format == ReferenceFileFormat.CSV && isCsvHeader(line);
+            }
+
+            @Override
+            public boolean continues(String record) {
+                return format == ReferenceFileFormat.CSV && CsvLines.isOpen(record);
+            }
+
+            @Override
+            public ReferenceRow parse(String line) {
+                return ReferenceImportService.this.parse(line, format);
+            }
+        }, totals::add);
+        log.info("Imported references in {} batches: {} inserted, {} updated, {} unchanged, {} lines rejected",
+                totals.batchCount, totals.inserted, totals.updated, totals.unchanged, totals.rejected);
+        return new ReferenceImportReport(totals.inserted, totals.updated, totals.unchanged, totals.rejected,
+                totals.batchCount, totals.reports);
+    }
+
+    private ReferenceRow parse(String line, ReferenceFileFormat format) {
+        String category;
+        String code;
+        String description;
+        if (format == ReferenceFileFormat.CSV) {
+            List<String> fields = CsvLines.split(line);
+            if (fields.size() != 3) {
+                throw new IllegalArgumentException("Expected 3 fields but found " + fields.size());
+            }
+            category = fields.get(0);
+            code = fields.get(1);
+            description = fields.get(2);
+        } else {
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Invalid JSON: " + e.getOriginalMessage());
+            }
+            if (!node.isObject()) {
+                throw new IllegalArgumentException("Expected a JSON object");
+            }
+            category = textOf(node, "category");
+            code = textOf(node, "code");
+            description = textOf(node, "description");
+        }
+        return new ReferenceRow(required("Category", category), required("Code", code),
+                required("Description", description));
+    }
+
+    private static String required(String field, @Nullable String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException(field + " is required");
+        }
+        if (value.length() > MAX_FIELD_LENGTH) {
+            throw new IllegalArgumentException(field + " exceeds " + MAX_FIELD_LENGTH + " characters");
+        }
+        return value;
+    }
+
+    private static @Nullable String textOf(JsonNode node, String property) {
+        JsonNode value = node.get(property);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    /**
+     * Returns whether the line is the {@code category,code,description} header, ignoring case and surrounding
+     * spaces. A record whose category merely starts with {@code category} is imported.
+     */
+    private static boolean isCsvHeader(String line) {
+        List<String> fields;
+        try {
+            fields = CsvLines.split(line);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return fields.stream().map(field -> field.strip().toLowerCase(Locale.ROOT)).toList().equals(CSV_HEADER);
+    }
+
+    private static final class Totals {
+
+        private long inserted;
+        private long updated;
+        private long unchanged;
+        private long rejected;
+        private int batchCount;
+        private final List<ReferenceImportBatchReport> reports = new ArrayList<>();
+
+        private void add(ImportBatchResult<ReferenceUpsertCounts> result) {
+            var counts = result.written() == null ? new ReferenceUpsertCounts(0, 0, 0) : result.written();
+            inserted += counts.inserted();
+            updated += counts.updated();
+            unchanged += counts.unchanged();
+            rejected += result.rejected();
+            batchCount++;
+            if (result.rejected() > 0) {
+                reports.add(new ReferenceImportBatchReport(result.batch(), result.firstLine(), result.lastLine(),
+                        counts.inserted(), counts.updated(), counts.unchanged(), result.rejected(), result.errors(),
+                        result.failure()));
+            }
+        }
+    }
+}
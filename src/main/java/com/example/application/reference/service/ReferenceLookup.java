@@ -0,0 +1,151 @@
+package com.example.application.reference.service;
+
+import com.example.application.reference.domain.ReferenceTable;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable code to description lookup over reference table rows.
+ * <p>
+ * Each category is an open-addressing hash table with linear probing, held in two arrays: one of code hashes and one
+ * of interleaved code and description references. A lookup probes a few adjacent slots and compares full codes only
+ * when the hashes match, without touching an entity or allocating. Codes are interned and equal descriptions are
+ * shared, so the table holds little more than the strings themselves. If a code occurs more than once in a category,
+ * the first row wins. Rows without a category are filed under the empty category.
+ * </p>
+ */
+public final class ReferenceLookup {
+
+    private static final ReferenceLookup EMPTY = new ReferenceLookup(Map.of(), 0);
+
+    private final Map<String, CodeTable> categories;
+    private final int size;
+
+    private ReferenceLookup(Map<String, CodeTable> categories, int size) {
+        this.categories = categories;
+        this.size = size;
+    }
+
+    public static ReferenceLookup of(Collection<ReferenceTable> rows) {
+        if (rows.isEmpty()) {
+            return EMPTY;
+        }
+        Map<String, List<ReferenceTable>> byCategory = new LinkedHashMap<>();
+        for (ReferenceTable row : rows) {
+            String category = row.getCategory() != null ? row.getCategory() : "";
+            byCategory.computeIfAbsent(category, key -> new ArrayList<>()).add(row);
+        }
+        Map<String, String> descriptions = new HashMap<>();
+        Map<String, CodeTable> categories = new HashMap<>();
+        int size = 0;
+        for (Map.Entry<String, List<ReferenceTable>> category : byCategory.entrySet()) {
+            CodeTable table = CodeTable.of(category.getValue(), descriptions);
+            categories.put(category.getKey(), table);
+            size += table.size;
+        }
+        return new ReferenceLookup(Map.copyOf(categories), size);
+    }
+
+    /**
+     * Returns the description of a code, or {@code null} if the category has no such code.
+     */
+    public @Nullable String describe(String category, String code) {
+        CodeTable table = categories.get(category);
+        return table != null ? table.get(code) : null;
+    }
+
+    /**
+     * Resolves codes of one category in bulk.
+     *
+     * @return the descriptions in the order of the codes, with {@code null} for unknown codes
+     */
+    public List<@Nullable String> resolveAll(String category, List<String> codes) {
+        @Nullable String[] descriptions = new String[codes.size()];
+        CodeTable table = categories.get(category);
+        if (table != null) {
+            for (int i = 0; i < descriptions.length; i++) {
+                descriptions[i] = table.get(codes.get(i));
+            }
+        }
+        return Collections.unmodifiableList(Arrays.asList(descriptions));
+    }
+
+    /**
+     * Returns the number of distinct codes over all categories.
+     */
+    public int size() {
+        return size;
+    }
+
+    private static final class CodeTable {
+
+        private final int mask;
+        /** Spread hash of the code in each slot; 0 marks an empty slot. */
+        private final int[] hashes;
+        /** Code at {@code 2 * slot}, its description at {@code 2 * slot + 1}. */
+        private final String[] entries;
+        private int size;
+
+        private CodeTable(int capacity) {
+            this.mask = capacity - 1;
+            this.hashes = new int[capacity];
+            this.entries = new String[2 * capacity];
+        }
+
+        private static CodeTable of(List<ReferenceTable> rows, Map<String, String> descriptions) {
+            // At most half full, so probe sequences stay short
+            int capacity = Math.max(2, Integer.highestOneBit(rows.size() * 2 - 1) << 1);
+            var table = new CodeTable(capacity);
+            for (ReferenceTable row : rows) {
+                String description = descriptions.computeIfAbsent(row.getDescription(), key -> key);
+                table.putIfAbsent(row.getCode().intern(), description);
+            }
+            return table;
+        }
+
+        private void putIfAbsent(String code, String description) {
+            int hash = hash(code);
+            int slot = hash & mask;
+            while (hashes[slot] != 0) {
+                if (hashes[slot] == hash && entries[2 * slot].equals(code)) {
+                    return;
+                }
+                slot = slot + 1 & mask;
+            }
+            hashes[slot] = hash;
+            entries[2 * slot] = code;
+            entries[2 * slot + 1] = description;
+            size++;
+        }
+
+        private @Nullable String get(String code) {
+            int hash = hash(code);
+            int slot = hash & mask;
+            int stored;
+            while ((stored = hashes[slot]) != 0) {
+                if (stored == hash) {
+                    String candidate = entries[2 * slot];
+                    if (candidate == code || candidate.equals(code)) {
+                        return entries[2 * slot + 1];
+                    }
+                }
+                slot = slot + 1 & mask;
+            }
+            return null;
+        }
+
+        private static int hash(String code) {
+            int hash = code.hashCode() * 0x9E3779B9;
+            hash ^= hash >>> 16;
+            return hash != 0 ? hash : 1;
+        }
+    }
+}
@@ -1,41 +1,179 @@
 package com.example.application.reference.service;
 
+import com.example.application.base.service.CacheRegion;
+import com.example.application.base.service.CacheVersionService;
+import com.example.application.reference.domain.DB2ReferenceRepository;
+import com.example.application.reference.domain.H2ReferenceRepository;
+import com.example.application.reference.domain.ReferenceRepository;
 import com.example.application.reference.domain.ReferenceTable;
 import com.vaadin.hilla.BrowserCallable;
+import com.vaadin.hilla.crud.ListService;
+import com.vaadin.hilla.crud.filter.Filter;
+import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.dao.EmptyResultDataAccessException;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
 @BrowserCallable
-public class ReferenceService {
+public class ReferenceService implements ListService<ReferenceTable> {
 
-    private final JpaRepository<ReferenceTable, Long> repository;
+    static final int MAX_CHANGES = 5000;
+    static final int MAX_PAGE_SIZE = 500;
 
-    public ReferenceService(@Autowired(required = false) @Qualifier("h2ReferenceRepository") JpaRepository<ReferenceTable, Long> h2Repository,
-                           @Autowired(required = false) @Qualifier("DB2ReferenceRepository") JpaRepository<ReferenceTable, Long> db2Repository) {
+    private final ReferenceRepository repository;
+    private final ReferenceCategoryLoader loader;
+    private final ReferenceCache cache;
+    private final CacheVersionService cacheVersionService;
+
+    public ReferenceService(@Autowired(required = false) @Qualifier("h2ReferenceRepository") H2ReferenceRepository h2Repository,
+                           @Autowired(required = false) @Qualifier("DB2ReferenceRepository") DB2ReferenceRepository db2Repository,
+                           ReferenceCategoryLoader loader, ReferenceCache cache,
+                           CacheVersionService cacheVersionService) {
         this.repository = h2Repository != null ? h2Repository : db2Repository;
+        this.loader = loader;
+        this.cache = cache;
+        this.cacheVersionService = cacheVersionService;
     }
 
-    public List<ReferenceTable> list() {
-        return repository.findAll();
+    /**
+     * Returns one page of live rows for a lazily loading grid, filtered and sorted on code, description and category.
+     * Without a sort, rows come in {@code (category, code)} order. The page is read as a slice, one row more than
+     * requested, so no count query runs however large the table is.
+     *
+     * @param pageable the page to return, at most {@value #MAX_PAGE_SIZE} rows
+     * @param filter the grid's filter, or {@code null} for all rows
+     * @return the rows of the page
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<ReferenceTable> list(Pageable pageable, @Nullable Filter filter) {
+        return slice(pageable, filter).getContent();
     }
 
+    @Transactional(readOnly = true)
+    Slice<ReferenceTable> slice(Pageable pageable, @Nullable Filter filter) {
+        if (pageable.isUnpaged() || pageable.getPageSize() > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        Pageable request = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(),
+                ReferenceFilters.toSort(pageable.getSort()));
+        return repository.findBy(ReferenceFilters.toSpecification(filter), query -> query.slice(request));
+    }
+
+    /**
+     * Returns the rows of a category from the reference cache. Only the first call after a change queries the
+     * database.
+     */
+    public List<ReferenceEntry> listByCategory(String category) {
+        return cache.get(category, loader::load).entries();
+    }
+
+    /**
+     * Looks up the description of a code in a category through the reference cache.
+     *
+     * @return the description, or {@code null} if the category has no such code
+     */
+    public @Nullable String describe(String category, String code) {
+        return cache.get(category, loader::load).lookup().describe(category, code);
+    }
+
+    /**
+     * Resolves codes of one category to their descriptions through the reference cache, for screens that show many
+     * coded values at once.
+     *
+     * @return the descriptions in the order of the codes, with {@code null} for unknown codes
+     */
+    public List<@Nullable String> resolveAll(String category, List<String> codes) {
+        return cache.get(category, loader::load).lookup().resolveAll(category, codes);
+    }
+
+    @Transactional(readOnly = true)
     public long getTotalCount() {
-        return repository.count();
+        return repository.countByDeletedFalse();
+    }
+
+    /**
+     * Returns the rows changed after the given position, deleted rows included, so a client can keep a local copy of
+     * the reference table up to date without reloading it. Start with no cursor and pass the returned cursor to the
+     * next call; while {@code more} is set, further batches of at most {@value #MAX_CHANGES} rows are waiting. A
+     * cursor ahead of the table, left over from a recreated database, starts over with {@code reset} set.
+     *
+     * @param after the cursor returned by the previous call, or {@code null} for every row
+     * @return the next batch of changes
+     */
+    @Transactional(readOnly = true)
+    public ReferenceChanges changesSince(@Nullable ReferenceSyncCursor after) {
+        return changesSince(after, MAX_CHANGES);
+    }
+
+    @Transactional(readOnly = true)
+    ReferenceChanges changesSince(@Nullable ReferenceSyncCursor after, int limit) {
+        boolean reset = after != null && after.version() > repository.findLatestChangeVersion();
+        var cursor = after != null && !reset ? after : new ReferenceSyncCursor(-1, 0);
+        List<ReferenceTable> rows = repository.findChangesAfter(cursor.version(), cursor.id(), Limit.of(limit + 1));
+        boolean more = rows.size() > limit;
+        List<ReferenceChange> changes = rows.stream()
+            .limit(limit)
+            .map(row -> new ReferenceChange(row.getId(), row.getChangeVersion(), row.isDeleted(), row.getCode(),
+                    row.getDescription(), row.getCategory()))
+            .toList();
+        if (!changes.isEmpty()) {
+            ReferenceChange last = changes.getLast();
+            cursor = new ReferenceSyncCursor(last.version(), last.id());
+        }
+        return new ReferenceChanges(changes, cursor, more, reset);
     }
 
+    /**
+     * Saves a row. A new row whose code was deleted from the category before brings the tombstone back, so a key is
+     * stored at most once and clients synchronizing through {@link #changesSince} see the same ID again.
+     *
+     * @throws IllegalArgumentException if another row has the same category and code, other than a tombstone being
+     *         brought back by a new row
+     */
+    @Transactional
     public ReferenceTable save(ReferenceTable entity) {
-        return repository.save(entity);
+        // Taken first: the version row stays locked until commit, so versions become visible in increasing order
+        long changeVersion = cacheVersionService.bump(CacheRegion.REFERENCES);
+        ReferenceTable target = entity;
+        var existing = repository.findByCategoryAndCode(entity.getCategory(), entity.getCode())
+            .filter(row -> !row.getId().equals(entity.getId()));
+        if (existing.isPresent()) {
+            if (!existing.get().isDeleted()) {
+                throw new IllegalArgumentException("Reference '" + entity.getCode() + "' already exists in category '"
+                        + entity.getCategory() + "'");
+            }
+            if (entity.getId() != null) {
+                throw new IllegalArgumentException("Reference '" + entity.getCode() + "' was deleted from category '"
+                        + entity.getCategory() + "', add it as a new row instead");
+            }
+            target = existing.get();
+            target.setDescription(entity.getDescription());
+        }
+        target.setChangeVersion(changeVersion);
+        target.setDeleted(false);
+        ReferenceTable saved = repository.save(target);
+        cache.invalidateAfterCommit();
+        return saved;
     }
 
+    /**
+     * Marks a row as deleted. The row is kept as a tombstone, so clients synchronizing through
+     * {@link #changesSince} learn about the deletion.
+     */
+    @Transactional
     public void delete(Long id) {
-        try {
-            repository.deleteById(id);
-        } catch (EmptyResultDataAccessException e) {
-            throw new IllegalArgumentException("Reference with id " + id + " not found", e);
-        }
+        ReferenceTable row = repository.findById(id)
+            .filter(found -> !found.isDeleted())
+            .orElseThrow(() -> new IllegalArgumentException("Reference with id " + id + " not found"));
+        row.setChangeVersion(cacheVersionService.bump(CacheRegion.REFERENCES));
+        row.setDeleted(true);
+        cache.invalidateAfterCommit();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,8 @@
+package com.example.application.reference.service;
+
+/**
+ * Position in the change history of the reference table: the change version and ID of the last row a client has
+ * seen. Rows written together can share a version, so the ID is needed to continue between them.
+ */
+public record ReferenceSyncCursor(long version, long id) {
+}
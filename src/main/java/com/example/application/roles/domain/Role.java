@@ -26,6 +26,10 @@ public class Role extends AbstractEntity<Long> {
     @Size(max = 255)
     private String description;
 
+    // Optional parent whose permissions this role inherits. Kept as a plain ID so roles serialize without proxies.
+    @Column(name = "parent_id")
+    private Long parentId;
+
     public Role() {}
 
     public Role(String name, String description) {
@@ -57,4 +61,12 @@ public class Role extends AbstractEntity<Long> {
     public void setDescription(String description) {
         this.description = description;
     }
-}
\ No newline at end of file
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+}
@@ -4,13 +4,19 @@ public class RoleDto {
     private Long id;
     private String name;
     private String description;
+    private Long parentId;
 
     public RoleDto() {}
 
     public RoleDto(Long id, String name, String description) {
+        this(id, name, description, null);
+    }
+
+    public RoleDto(Long id, String name, String description, Long parentId) {
         this.id = id;
         this.name = name;
         this.description = description;
+        this.parentId = parentId;
     }
 
     public Long getId() {
@@ -36,4 +42,12 @@ public class RoleDto {
     public void setDescription(String description) {
         this.description = description;
     }
-}
\ No newline at end of file
+
+    public Long getParentId() {
+        return parentId;
+    }
+
+    public void setParentId(Long parentId) {
+        this.parentId = parentId;
+    }
+}
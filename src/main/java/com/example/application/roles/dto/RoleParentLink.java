@@ -0,0 +1,7 @@
+package com.example.application.roles.dto;
+
+/**
+ * A role together with the parent it inherits permissions from.
+ */
+public record RoleParentLink(Long roleId, Long parentId) {
+}
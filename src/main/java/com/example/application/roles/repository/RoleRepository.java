@@ -1,13 +1,24 @@
 package com.example.application.roles.repository;
 
 import com.example.application.roles.domain.Role;
+import com.example.application.roles.dto.RoleParentLink;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface RoleRepository extends JpaRepository<Role, Long>, JpaSpecificationExecutor<Role> {
     Optional<Role> findByName(String name);
+
+    @Query("SELECT new com.example.application.roles.dto.RoleParentLink(r.id, r.parentId) FROM Role r WHERE r.parentId IS NOT NULL")
+    List<RoleParentLink> findParentLinks();
+
+    @Modifying
+    @Query("UPDATE Role r SET r.parentId = NULL WHERE r.parentId = ?1")
+    int detachChildren(Long parentId);
 }
\ No newline at end of file
@@ -0,0 +1,9 @@
+package com.example.application.roles.service;
+
+/**
+ * Published when a role is saved or deleted, so anything derived from the role hierarchy can be recomputed.
+ *
+ * @param roleId the ID of the changed role
+ */
+public record RoleHierarchyChangedEvent(Long roleId) {
+}
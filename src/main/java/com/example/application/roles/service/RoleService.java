@@ -1,23 +1,34 @@
 package com.example.application.roles.service;
 
+import com.example.application.base.service.CacheRegion;
+import com.example.application.base.service.CacheVersionService;
 import com.example.application.roles.domain.Role;
 import com.example.application.roles.dto.RoleDto;
 import com.example.application.roles.repository.RoleRepository;
 import com.vaadin.hilla.BrowserCallable;
 import com.vaadin.hilla.crud.CrudRepositoryService;
 import jakarta.annotation.security.RolesAllowed;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.Set;
+
 @Service
 @BrowserCallable
 @RolesAllowed({"ADMIN", "USER"})
 public class RoleService extends CrudRepositoryService<Role, Long, RoleRepository> {
 
     private final RoleRepository repository;
+    private final CacheVersionService cacheVersionService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public RoleService(RoleRepository repository) {
+    public RoleService(RoleRepository repository, CacheVersionService cacheVersionService,
+            ApplicationEventPublisher eventPublisher) {
         this.repository = repository;
+        this.cacheVersionService = cacheVersionService;
+        this.eventPublisher = eventPublisher;
     }
 
     @Override
@@ -35,10 +46,56 @@ public class RoleService extends CrudRepositoryService<Role, Long, RoleRepositor
     @RolesAllowed({"ADMIN", "USER"})
     public java.util.List<RoleDto> getAllRoles() {
         return repository.findAll().stream()
-            .map(role -> new RoleDto(role.getId(), role.getName(), role.getDescription()))
+            .map(role -> new RoleDto(role.getId(), role.getName(), role.getDescription(), role.getParentId()))
             .toList();
     }
 
+    @Override
+    @Transactional
+    public Role save(Role role) {
+        validateParent(role);
+        Role saved = super.save(role);
+        cacheVersionService.bump(CacheRegion.ROLES);
+        eventPublisher.publishEvent(new RoleHierarchyChangedEvent(saved.getId()));
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        repository.detachChildren(id);
+        super.delete(id);
+        cacheVersionService.bump(CacheRegion.ROLES);
+        eventPublisher.publishEvent(new RoleHierarchyChangedEvent(id));
+    }
+
+    /**
+     * Rejects a parent that does not exist, the role itself, and a parent whose ancestors lead back to the role or
+     * loop among themselves. A cycle is reported at the ancestor whose parent closes it.
+     */
+    private void validateParent(Role role) {
+        Long parentId = role.getParentId();
+        if (parentId != null && parentId.equals(role.getId())) {
+            throw new IllegalArgumentException("Role '" + role.getName() + "' cannot inherit from itself");
+        }
+        String parentName = null;
+        Set<Long> visited = new HashSet<>();
+        while (parentId != null) {
+            visited.add(parentId);
+            final Long currentId = parentId;
+            Role ancestor = repository.findById(currentId)
+                .orElseThrow(() -> new IllegalArgumentException("Parent role not found with ID: " + currentId));
+            if (parentName == null) {
+                parentName = ancestor.getName();
+            }
+            parentId = ancestor.getParentId();
+            if (parentId != null && (parentId.equals(role.getId()) || visited.contains(parentId))) {
+                throw new IllegalArgumentException("Role '" + role.getName() + "' cannot inherit from role '"
+                        + parentName + "': inheritance cycle at role '" + ancestor.getName() + "'");
+            }
+        }
+    }
+
     @Transactional
     public long count() {
         return repository.count();
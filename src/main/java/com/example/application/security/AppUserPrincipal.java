@@ -1,5 +1,6 @@
 package com.example.application.security;
 
+import org.jspecify.annotations.Nullable;
 import org.springframework.security.core.GrantedAuthority;
 
 import java.security.Principal;
@@ -49,4 +50,25 @@ public interface AppUserPrincipal extends Principal {
      * @return an unmodifiable collection of granted authorities (never {@code null})
      */
     Collection<? extends GrantedAuthority> getAuthorities();
+
+    /**
+     * Returns the screen permissions snapshot attached to this principal.
+     * <p>
+     * The snapshot is attached at login and replaced by {@link CurrentUser#getScreenPermissions()} whenever the
+     * permission data changes. Callers should use that method rather than reading the snapshot directly, as it may be
+     * stale or not yet computed.
+     * </p>
+     *
+     * @return the attached snapshot, or {@code null} if none has been computed yet
+     */
+    @Nullable
+    ScreenPermissions getScreenPermissions();
+
+    /**
+     * Attaches a screen permissions snapshot to this principal, replacing any previous one.
+     *
+     * @param screenPermissions
+     *            the snapshot to attach (never {@code null})
+     */
+    void setScreenPermissions(ScreenPermissions screenPermissions);
 }
@@ -1,5 +1,6 @@
 package com.example.application.security;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -72,12 +73,15 @@ class CommonSecurityConfig {
      *
      * @param securityContextHolderStrategy
      *            the strategy for accessing the security context
+     * @param screenPermissionsResolver
+     *            the resolver for screen permission snapshots, if any feature provides one
      * @return a {@link CurrentUser} service for accessing current user information
      * @see AppUserPrincipal The principal interface that all authenticated users must implement
      * @see CurrentUser The service class for accessing current user information
      */
     @Bean
-    public CurrentUser currentUser(SecurityContextHolderStrategy securityContextHolderStrategy) {
-        return new CurrentUser(securityContextHolderStrategy);
+    public CurrentUser currentUser(SecurityContextHolderStrategy securityContextHolderStrategy,
+            ObjectProvider<ScreenPermissionsResolver> screenPermissionsResolver) {
+        return new CurrentUser(securityContextHolderStrategy, screenPermissionsResolver.getIfAvailable());
     }
 }
@@ -47,6 +47,8 @@ public class CurrentUser {
 
     private final SecurityContextHolderStrategy securityContextHolderStrategy;
 
+    private final @Nullable ScreenPermissionsResolver screenPermissionsResolver;
+
     /**
      * Creates a new {@code CurrentUser} service for the given {@link SecurityContextHolderStrategy}.
      * <p>
@@ -57,9 +59,14 @@ public class CurrentUser {
      *
      * @param securityContextHolderStrategy
      *            the strategy used to fetch the security context (never {@code null}).
+     * @param screenPermissionsResolver
+     *            the resolver used to compute screen permission snapshots, or {@code null} if no feature provides
+     *            screen permissions
      */
-    CurrentUser(SecurityContextHolderStrategy securityContextHolderStrategy) {
+    public CurrentUser(SecurityContextHolderStrategy securityContextHolderStrategy,
+            @Nullable ScreenPermissionsResolver screenPermissionsResolver) {
         this.securityContextHolderStrategy = requireNonNull(securityContextHolderStrategy);
+        this.screenPermissionsResolver = screenPermissionsResolver;
     }
 
     /**
@@ -158,4 +165,38 @@ public class CurrentUser {
     public AppUserPrincipal requirePrincipal() {
         return getPrincipal().orElseThrow(() -> new AuthenticationCredentialsNotFoundException("Authentication required: No authenticated principal found in security context"));
     }
+
+    /**
+     * Returns the screen permissions of the currently authenticated principal.
+     * <p>
+     * The snapshot attached to the principal is returned as-is while its version matches the current permission
+     * version. If no snapshot has been attached yet, or the permission data has changed since it was computed, a new
+     * snapshot is resolved and attached to the principal before it is returned.
+     * </p>
+     *
+     * @return the current principal's screen permissions, or {@link ScreenPermissions#NONE} if there is no authenticated
+     *         principal (never {@code null})
+     */
+    public ScreenPermissions getScreenPermissions() {
+        return getPrincipal().map(this::getScreenPermissions).orElse(ScreenPermissions.NONE);
+    }
+
+    /**
+     * Returns the screen permissions of the given principal, refreshing its snapshot if it is missing or stale.
+     *
+     * @param principal
+     *            the principal whose permissions to return (never {@code null})
+     * @return the principal's screen permissions (never {@code null})
+     */
+    public ScreenPermissions getScreenPermissions(AppUserPrincipal principal) {
+        var snapshot = principal.getScreenPermissions();
+        if (screenPermissionsResolver == null) {
+            return snapshot != null ? snapshot : ScreenPermissions.NONE;
+        }
+        if (snapshot == null || snapshot.version() != screenPermissionsResolver.currentVersion()) {
+            snapshot = screenPermissionsResolver.resolve(principal);
+            principal.setScreenPermissions(snapshot);
+        }
+        return snapshot;
+    }
 }
@@ -0,0 +1,143 @@
+package com.example.application.security;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Immutable snapshot of the screens a principal may read and write.
+ * <p>
+ * A snapshot is computed once per principal and then consulted by every permission check of that principal, so an
+ * authenticated request does not need to look up the user or their roles. Screen names are mapped to dense bit
+ * positions through a table shared with the permission index that produced the snapshot; the rights themselves are
+ * stored as two bit arrays.
+ * </p>
+ * <p>
+ * Each snapshot carries the {@linkplain #version() version} of the permission data it was computed from. When that
+ * version no longer matches {@link ScreenPermissionsResolver#currentVersion()}, the snapshot is stale and
+ * {@link CurrentUser#getScreenPermissions()} replaces it on the next access.
+ * </p>
+ *
+ * @see AppUserPrincipal#getScreenPermissions()
+ * @see ScreenPermissionsResolver
+ */
+public final class ScreenPermissions implements Serializable {
+
+    /**
+     * A snapshot that grants nothing. Its version never matches a real permission version.
+     */
+    public static final ScreenPermissions NONE = new ScreenPermissions(-1, Map.of(), new long[0], new long[0]);
+
+    private final long version;
+    private final Map<String, Integer> screenIds;
+    private final long[] read;
+    private final long[] write;
+
+    private ScreenPermissions(long version, Map<String, Integer> screenIds, long[] read, long[] write) {
+        this.version = version;
+        this.screenIds = screenIds;
+        this.read = read;
+        this.write = write;
+    }
+
+    /**
+     * Creates a snapshot from the given rights.
+     *
+     * @param version
+     *            the version of the permission data the rights were computed from
+     * @param screenIds
+     *            an unmodifiable mapping from screen name to bit position (never {@code null}); it is shared, not copied
+     * @param read
+     *            the readable screens, indexed by bit position (never {@code null})
+     * @param write
+     *            the writable screens, indexed by bit position (never {@code null})
+     * @return a new snapshot
+     */
+    public static ScreenPermissions of(long version, Map<String, Integer> screenIds, BitSet read, BitSet write) {
+        return new ScreenPermissions(version, requireNonNull(screenIds), read.toLongArray(), write.toLongArray());
+    }
+
+    /**
+     * Returns the version of the permission data this snapshot was computed from.
+     *
+     * @return the version stamp
+     */
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Checks whether the screen may be read.
+     *
+     * @param screenName
+     *            the screen title as used in the permissions table
+     * @return {@code true} if read access is granted
+     */
+    public boolean canRead(String screenName) {
+        return isSet(read, screenName);
+    }
+
+    /**
+     * Checks whether the screen may be written.
+     *
+     * @param screenName
+     *            the screen title as used in the permissions table
+     * @return {@code true} if write access is granted
+     */
+    public boolean canWrite(String screenName) {
+        return isSet(write, screenName);
+    }
+
+    /**
+     * Returns the names of all readable screens.
+     *
+     * @return an unmodifiable list of screen names (never {@code null})
+     */
+    public List<String> readableScreens() {
+        return screensIn(read);
+    }
+
+    /**
+     * Returns the names of all writable screens.
+     *
+     * @return an unmodifiable list of screen names (never {@code null})
+     */
+    public List<String> writableScreens() {
+        return screensIn(write);
+    }
+
+    /**
+     * Two snapshots are equal when they stem from the same permission version and grant the same rights, which makes
+     * snapshots usable as cache keys for anything derived from a user's rights.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        return obj instanceof ScreenPermissions other && version == other.version && Arrays.equals(read, other.read)
+                && Arrays.equals(write, other.write);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Long.hashCode(version) + Arrays.hashCode(read)) + Arrays.hashCode(write);
+    }
+
+    private boolean isSet(long[] bits, String screenName) {
+        Integer id = screenIds.get(screenName);
+        if (id == null) {
+            return false;
+        }
+        int word = id >>> 6;
+        return word < bits.length && (bits[word] & (1L << id)) != 0;
+    }
+
+    private List<String> screensIn(long[] bits) {
+        return screenIds.keySet().stream().filter(screenName -> isSet(bits, screenName)).sorted().toList();
+    }
+}
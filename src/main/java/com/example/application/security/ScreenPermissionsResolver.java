@@ -0,0 +1,32 @@
+package com.example.application.security;
+
+/**
+ * Computes {@link ScreenPermissions} snapshots for authenticated principals.
+ * <p>
+ * The security package does not know where screen permissions are stored. The feature that owns them provides a bean
+ * implementing this interface; {@link CurrentUser} uses it to attach a snapshot to the principal and to refresh that
+ * snapshot when the permission data changes.
+ * </p>
+ */
+public interface ScreenPermissionsResolver {
+
+    /**
+     * Returns the version of the permission data currently in effect.
+     * <p>
+     * The version changes whenever a snapshot computed earlier might no longer be accurate. This method is called on
+     * every permission check and must be cheap.
+     * </p>
+     *
+     * @return the current version stamp
+     */
+    long currentVersion();
+
+    /**
+     * Computes a fresh snapshot for the given principal.
+     *
+     * @param principal
+     *            the authenticated principal (never {@code null})
+     * @return the principal's effective screen permissions (never {@code null})
+     */
+    ScreenPermissions resolve(AppUserPrincipal principal);
+}
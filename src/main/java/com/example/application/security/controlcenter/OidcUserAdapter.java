@@ -2,6 +2,7 @@ package com.example.application.security.controlcenter;
 
 import com.example.application.security.AppUserInfo;
 import com.example.application.security.AppUserPrincipal;
+import com.example.application.security.ScreenPermissions;
 import com.example.application.security.domain.UserId;
 import org.jspecify.annotations.Nullable;
 import org.springframework.security.core.GrantedAuthority;
@@ -29,6 +30,7 @@ final class OidcUserAdapter implements OidcUser, AppUserPrincipal {
 
     private final OidcUser delegate;
     private final AppUserInfo appUserInfo;
+    private volatile @Nullable ScreenPermissions screenPermissions;
 
     /**
      * Creates a new adapter for the specified OIDC user.
@@ -176,6 +178,16 @@ final class OidcUserAdapter implements OidcUser, AppUserPrincipal {
         return appUserInfo;
     }
 
+    @Override
+    public @Nullable ScreenPermissions getScreenPermissions() {
+        return screenPermissions;
+    }
+
+    @Override
+    public void setScreenPermissions(ScreenPermissions screenPermissions) {
+        this.screenPermissions = requireNonNull(screenPermissions);
+    }
+
     @Override
     public Map<String, Object> getClaims() {
         return delegate.getClaims();
@@ -78,7 +78,7 @@ class DevSecurityConfig {
         try {
             return http
                 .authorizeHttpRequests(auth -> auth
-                    .requestMatchers("/api/chat/**").authenticated()
+                    .requestMatchers("/api/chat/**", "/api/tasks/**", "/api/references/**").authenticated()
                 )
                 .headers(headers -> headers
                     .frameOptions(frame -> frame.sameOrigin())
@@ -2,6 +2,7 @@ package com.example.application.security.dev;
 
 import com.example.application.security.AppUserInfo;
 import com.example.application.security.AppUserPrincipal;
+import com.example.application.security.ScreenPermissions;
 import com.example.application.security.domain.UserId;
 import org.jspecify.annotations.Nullable;
 import org.springframework.security.core.GrantedAuthority;
@@ -37,6 +38,7 @@ final class DevUser implements AppUserPrincipal, UserDetails {
     private final AppUserInfo appUser;
     private final Set<GrantedAuthority> authorities;
     private final String password;
+    private volatile @Nullable ScreenPermissions screenPermissions;
 
     DevUser(AppUserInfo appUser, Collection<GrantedAuthority> authorities, String password) {
         this.appUser = requireNonNull(appUser);
@@ -54,6 +56,16 @@ final class DevUser implements AppUserPrincipal, UserDetails {
         return authorities;
     }
 
+    @Override
+    public @Nullable ScreenPermissions getScreenPermissions() {
+        return screenPermissions;
+    }
+
+    @Override
+    public void setScreenPermissions(ScreenPermissions screenPermissions) {
+        this.screenPermissions = requireNonNull(screenPermissions);
+    }
+
     @Override
     public String getPassword() {
         return password;
@@ -3,6 +3,7 @@ package com.example.application.security.hilla;
 import com.example.application.security.AppUserInfo;
 import com.example.application.security.AppUserPrincipal;
 import com.example.application.security.CurrentUser;
+import com.example.application.security.ScreenPermissions;
 import com.vaadin.hilla.BrowserCallable;
 import jakarta.annotation.security.PermitAll;
 import org.jspecify.annotations.NonNull;
@@ -61,10 +62,17 @@ class CurrentUserService {
      * @param authorities
      *            collection of {@linkplain AppUserPrincipal#getAuthorities() granted authorities/roles} for this user
      *            (ever {@code null} but may be empty)
+     * @param readableScreens
+     *            the {@linkplain ScreenPermissions#readableScreens() screens this user may read} (never {@code null}
+     *            but may be empty)
+     * @param writableScreens
+     *            the {@linkplain ScreenPermissions#writableScreens() screens this user may write} (never {@code null}
+     *            but may be empty)
      */
     public record UserInfo(@NonNull String userId, @NonNull String preferredUsername, @NonNull String fullName,
             @Nullable String profileUrl, @Nullable String pictureUrl, @Nullable String email, @NonNull String zoneId,
-            @NonNull String locale, @NonNull Collection<String> authorities) {
+            @NonNull String locale, @NonNull Collection<String> authorities, @NonNull Collection<String> readableScreens,
+            @NonNull Collection<String> writableScreens) {
     }
 
     /**
@@ -72,7 +80,7 @@ class CurrentUserService {
      * <p>
      * This method extracts user data from the current security context and returns it in a format suitable for frontend
      * consumption. All sensitive information is excluded, and only data that is safe to expose to the client is
-     * included.
+     * included. Screen permissions are taken from the snapshot attached to the principal.
      *
      * @return a {@link UserInfo} record containing the current user's information
      * @throws AuthenticationCredentialsNotFoundException
@@ -83,8 +91,10 @@ class CurrentUserService {
         var principal = currentUser.requirePrincipal();
         var user = principal.getAppUser();
         var authorities = principal.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList();
+        var screenPermissions = currentUser.getScreenPermissions(principal);
         return new UserInfo(user.getUserId().toString(), user.getPreferredUsername(), user.getFullName(),
                 user.getProfileUrl(), user.getPictureUrl(), user.getEmail(), user.getZoneId().toString(),
-                user.getLocale().toString(), authorities);
+                user.getLocale().toString(), authorities, screenPermissions.readableScreens(),
+                screenPermissions.writableScreens());
     }
 }
@@ -0,0 +1,80 @@
+package com.example.application.taskmanagement.domain;
+
+import com.example.application.base.domain.AbstractEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * A task moved out of the {@code task} table by the archival job. It keeps the ID, so a task is the same whether it is
+ * read from the hot table or the archive.
+ */
+@Entity
+@EntityListeners(TaskStatisticsListener.class)
+@Table(name = "task_archive",
+        indexes = @Index(name = "idx_task_archive_creation_date_id", columnList = "creation_date, task_id"))
+public class ArchivedTask extends AbstractEntity<Long> {
+
+    @Id
+    @Column(name = "task_id")
+    private Long id;
+
+    @Column(name = "description", nullable = false, length = Task.DESCRIPTION_MAX_LENGTH)
+    private String description;
+
+    @Column(name = "creation_date", nullable = false)
+    private Instant creationDate;
+
+    @Column(name = "due_date")
+    @Nullable
+    private LocalDate dueDate;
+
+    @Column(name = "archived_date", nullable = false)
+    private Instant archivedDate;
+
+    protected ArchivedTask() {
+    }
+
+    public ArchivedTask(Task task, Instant archivedDate) {
+        this.id = task.getId();
+        this.description = task.getDescription();
+        this.creationDate = task.getCreationDate();
+        this.dueDate = task.getDueDate();
+        this.archivedDate = archivedDate;
+    }
+
+    @Override
+    public @Nullable Long getId() {
+        return id;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Instant getCreationDate() {
+        return creationDate;
+    }
+
+    public @Nullable LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public Instant getArchivedDate() {
+        return archivedDate;
+    }
+
+    /**
+     * Returns the task as it was before it was archived.
+     */
+    public Task toTask() {
+        return new Task(id, description, creationDate, dueDate);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.application.taskmanagement.domain;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Repository for {@link ArchivedTask archived tasks}. The archive is only read on request, so it is shared by all
+ * database profiles.
+ */
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+    /**
+     * Retrieves a window of archived tasks, see {@link TaskRepository#findAllBy(ScrollPosition, Sort, Limit)}.
+     */
+    Window<ArchivedTask> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+}
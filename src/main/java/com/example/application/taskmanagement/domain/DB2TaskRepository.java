@@ -1,18 +1,64 @@
 package com.example.application.taskmanagement.domain;
 
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
 @Repository
 @Profile("db2")
 public interface DB2TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task> {
 
     Slice<Task> findAllBy(Pageable pageable);
+
+    Window<Task> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    @Query("SELECT new com.example.application.taskmanagement.domain.TaskDescription(t.id, t.description) FROM Task t")
+    Stream<TaskDescription> streamDescriptions();
+
+    @Query("SELECT new com.example.application.taskmanagement.domain.TaskDueDate(t.id, t.dueDate) FROM Task t "
+            + "WHERE t.dueDate >= ?1 AND t.dueDate < ?2")
+    Stream<TaskDueDate> streamDueDates(LocalDate from, LocalDate until);
+
+    List<Task> findByDueDateBetween(LocalDate from, LocalDate to, Sort sort, Limit limit);
+
+    List<Task> findByDueDateBefore(LocalDate date, Sort sort, Limit limit);
+
+    List<Task> findByCreationDateBefore(Instant cutoff, Sort sort, Limit limit);
+
+    @Modifying
+    @Query("UPDATE Task t SET t.remindedFor = ?2 WHERE t.id = ?1 AND t.dueDate = ?2 "
+            + "AND (t.remindedFor IS NULL OR t.remindedFor <> ?2)")
+    int claimReminder(Long id, LocalDate dueDate);
+
+    @Query("""
+            SELECT new com.example.application.taskmanagement.domain.TaskDueCounts(
+                COALESCE(SUM(CASE WHEN t.dueDate < ?1 THEN 1 ELSE 0 END), 0),
+                COALESCE(SUM(CASE WHEN t.dueDate = ?1 THEN 1 ELSE 0 END), 0),
+                COALESCE(SUM(CASE WHEN t.dueDate > ?1 THEN 1 ELSE 0 END), 0))
+            FROM Task t WHERE t.dueDate < ?2""")
+    TaskDueCounts countDue(LocalDate today, LocalDate weekEnd);
+
+    @Query("SELECT new com.example.application.taskmanagement.domain.TaskDates(t.id, t.creationDate, t.dueDate) "
+            + "FROM Task t")
+    Stream<TaskDates> streamDates();
+
+    @Query("SELECT new com.example.application.taskmanagement.domain.TaskDates(a.id, a.creationDate, a.dueDate) "
+            + "FROM ArchivedTask a")
+    Stream<TaskDates> streamArchivedDates();
     
     // DB2 specific queries if needed
     @Query("SELECT t FROM Task t WHERE t.description LIKE CONCAT('%', ?1, '%')")
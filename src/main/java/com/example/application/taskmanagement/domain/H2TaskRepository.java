@@ -2,8 +2,12 @@ package com.example.application.taskmanagement.domain;
 
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -13,6 +17,8 @@ import org.springframework.stereotype.Repository;
 public interface H2TaskRepository extends TaskRepository {
 
     Slice<Task> findAllBy(Pageable pageable);
+
+    Window<Task> findAllBy(ScrollPosition position, Sort sort, Limit limit);
     
     // H2 specific queries if needed
     @Query("SELECT t FROM Task t WHERE t.description LIKE %?1%")
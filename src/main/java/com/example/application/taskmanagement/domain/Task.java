@@ -5,18 +5,37 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Sort;
 
 import java.time.Instant;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "task")
+@EntityListeners({ TaskSearchIndexListener.class, TaskStatisticsListener.class })
+@Table(name = "task", indexes = {
+        @Index(name = "idx_task_creation_date_id", columnList = "creation_date, task_id"),
+        // Created by Hibernate's schema generation and update on H2, DB2 and PostgreSQL alike
+        @Index(name = "idx_task_due_date_creation_date", columnList = "due_date, creation_date") })
 public class Task extends AbstractEntity<Long> {
 
     public static final int DESCRIPTION_MAX_LENGTH = 255;
 
+    /**
+     * Sort order for keyset pagination. It matches the {@code (creation_date, task_id)} index, and the ID makes it
+     * unique, which a keyset position requires.
+     */
+    public static final Sort KEYSET_SORT = Sort.by("creationDate", "id");
+
+    /**
+     * Sort order for due-date queries. It matches the {@code (due_date, creation_date)} index, so a range of due dates
+     * is read in index order without a separate sort.
+     */
+    public static final Sort DUE_DATE_SORT = Sort.by("dueDate", "creationDate", "id");
+
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    // Pooled: Hibernate reserves a block of allocationSize IDs per sequence call, which bulk imports rely on
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     @Column(name = "task_id")
     @JsonProperty
     private Long id;
@@ -32,6 +51,24 @@ public class Task extends AbstractEntity<Long> {
     @Nullable
     private LocalDate dueDate;
 
+    /** The due date whose reminder was published, see {@link TaskRepository#claimReminder(Long, LocalDate)}. */
+    @Column(name = "reminded_for")
+    @Nullable
+    private LocalDate remindedFor;
+
+    public Task() {
+    }
+
+    /**
+     * Restores a task that was moved to the {@link ArchivedTask archive}. The result is not meant to be persisted.
+     */
+    Task(Long id, String description, Instant creationDate, @Nullable LocalDate dueDate) {
+        this.id = id;
+        this.description = description;
+        this.creationDate = creationDate;
+        this.dueDate = dueDate;
+    }
+
     @Override
     public @Nullable Long getId() {
         return id;
@@ -0,0 +1,12 @@
+package com.example.application.taskmanagement.domain;
+
+import org.jspecify.annotations.Nullable;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * The dates of a task, as loaded into the {@link TaskStatistics}.
+ */
+public record TaskDates(Long id, Instant creationDate, @Nullable LocalDate dueDate) {
+}
@@ -0,0 +1,14 @@
+package com.example.application.taskmanagement.domain;
+
+import java.time.LocalDate;
+
+/**
+ * Task counts of one day.
+ *
+ * @param day the day
+ * @param created tasks created on the day
+ * @param due tasks due on the day
+ * @param overdue tasks due before the day that are not archived
+ */
+public record TaskDayStatistics(LocalDate day, long created, long due, long overdue) {
+}
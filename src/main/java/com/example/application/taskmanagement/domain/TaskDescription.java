@@ -0,0 +1,7 @@
+package com.example.application.taskmanagement.domain;
+
+/**
+ * The searchable part of a task.
+ */
+public record TaskDescription(Long id, String description) {
+}
@@ -0,0 +1,11 @@
+package com.example.application.taskmanagement.domain;
+
+/**
+ * Number of open tasks by due date, relative to a given day.
+ *
+ * @param overdue tasks due before the day
+ * @param dueToday tasks due on the day
+ * @param dueThisWeek tasks due in the six days after the day
+ */
+public record TaskDueCounts(long overdue, long dueToday, long dueThisWeek) {
+}
@@ -0,0 +1,9 @@
+package com.example.application.taskmanagement.domain;
+
+import java.time.LocalDate;
+
+/**
+ * The due date of a task, as loaded into the reminder schedule.
+ */
+public record TaskDueDate(Long id, LocalDate dueDate) {
+}
@@ -1,12 +1,23 @@
 package com.example.application.taskmanagement.domain;
 
 import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
 /**
  * Repository interface for managing {@link Task} entities.
  * <p>
@@ -34,4 +45,124 @@ public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificat
      * @return a slice containing the requested tasks
      */
     Slice<Task> findAllBy(Pageable pageable);
+
+    /**
+     * Retrieves a window of tasks following the given scroll position.
+     * <p>
+     * Use a {@link org.springframework.data.domain.KeysetScrollPosition} together with {@link Task#KEYSET_SORT}: the
+     * query then seeks past the last row of the previous window using the {@code (creation_date, task_id)} index, so
+     * every window costs the same regardless of how deep it is, unlike an {@code OFFSET} based {@link Pageable}.
+     * </p>
+     *
+     * @param position the position to continue from
+     * @param sort the sort order the position refers to
+     * @param limit the maximum number of tasks in the window
+     * @return a window containing the requested tasks
+     */
+    Window<Task> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    /**
+     * Streams the ID and description of every task, for rebuilding the {@link TaskSearchIndex}. Must be consumed and
+     * closed inside a transaction.
+     *
+     * @return a stream of task descriptions
+     */
+    @Query("SELECT new com.example.application.taskmanagement.domain.TaskDescription(t.id, t.description) FROM Task t")
+    Stream<TaskDescription> streamDescriptions();
+
+    /**
+     * Streams the ID and due date of the tasks due from the first date up to, but not including, the second, for
+     * loading the reminder schedule. Reads only the {@code (due_date, creation_date)} index range and must be consumed
+     * and closed inside a transaction.
+     *
+     * @param from the first due date
+     * @param until the first due date that is not included
+     * @return a stream of due dates, in no particular order
+     */
+    @Query("SELECT new com.example.application.taskmanagement.domain.TaskDueDate(t.id, t.dueDate) FROM Task t "
+            + "WHERE t.dueDate >= ?1 AND t.dueDate < ?2")
+    Stream<TaskDueDate> streamDueDates(LocalDate from, LocalDate until);
+
+    /**
+     * Retrieves tasks due between the given dates, both inclusive. With {@link Task#DUE_DATE_SORT} the rows are read
+     * from the {@code (due_date, creation_date)} index in order.
+     *
+     * @param from the first due date
+     * @param to the last due date
+     * @param sort the sort order
+     * @param limit the maximum number of tasks
+     * @return the tasks due in the range
+     */
+    List<Task> findByDueDateBetween(LocalDate from, LocalDate to, Sort sort, Limit limit);
+
+    /**
+     * Retrieves tasks due before the given date.
+     *
+     * @param date the first due date that is not included
+     * @param sort the sort order
+     * @param limit the maximum number of tasks
+     * @return the tasks due before the date
+     */
+    List<Task> findByDueDateBefore(LocalDate date, Sort sort, Limit limit);
+
+    /**
+     * Retrieves the oldest tasks created before the given instant, for archiving them. With {@link Task#KEYSET_SORT}
+     * the rows are read from the {@code (creation_date, task_id)} index.
+     *
+     * @param cutoff the first creation date that is not included
+     * @param sort the sort order
+     * @param limit the maximum number of tasks
+     * @return the tasks created before the cutoff
+     */
+    List<Task> findByCreationDateBefore(Instant cutoff, Sort sort, Limit limit);
+
+    /**
+     * Claims the reminder of a task for its due date. Of several nodes claiming the same reminder, only the first one
+     * updates the row; the others wait for its lock and then find the reminder taken. A task that was deleted or
+     * whose due date changed in the meantime cannot be claimed.
+     *
+     * @param id the ID of the task
+     * @param dueDate the due date the reminder is for
+     * @return 1 if the reminder was claimed, 0 if not
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.remindedFor = ?2 WHERE t.id = ?1 AND t.dueDate = ?2 "
+            + "AND (t.remindedFor IS NULL OR t.remindedFor <> ?2)")
+    int claimReminder(Long id, LocalDate dueDate);
+
+    /**
+     * Counts the tasks that are overdue, due today and due in the rest of the week in a single range scan over the
+     * {@code due_date} index. Tasks without a due date are not counted.
+     *
+     * @param today the current date
+     * @param weekEnd the day after the last day of the week, {@code today + 7}
+     * @return the counts
+     */
+    @Query("""
+            SELECT new com.example.application.taskmanagement.domain.TaskDueCounts(
+                COALESCE(SUM(CASE WHEN t.dueDate < ?1 THEN 1 ELSE 0 END), 0),
+                COALESCE(SUM(CASE WHEN t.dueDate = ?1 THEN 1 ELSE 0 END), 0),
+                COALESCE(SUM(CASE WHEN t.dueDate > ?1 THEN 1 ELSE 0 END), 0))
+            FROM Task t WHERE t.dueDate < ?2""")
+    TaskDueCounts countDue(LocalDate today, LocalDate weekEnd);
+
+    /**
+     * Streams the ID, creation date and due date of every task that is not archived, for rebuilding the
+     * {@link TaskStatistics}. Must be consumed and closed inside a transaction.
+     *
+     * @return a stream of task dates, in no particular order
+     */
+    @Query("SELECT new com.example.application.taskmanagement.domain.TaskDates(t.id, t.creationDate, t.dueDate) "
+            + "FROM Task t")
+    Stream<TaskDates> streamDates();
+
+    /**
+     * Streams the ID, creation date and due date of every archived task, for rebuilding the {@link TaskStatistics}.
+     * Must be consumed and closed inside a transaction.
+     *
+     * @return a stream of task dates, in no particular order
+     */
+    @Query("SELECT new com.example.application.taskmanagement.domain.TaskDates(a.id, a.creationDate, a.dueDate) "
+            + "FROM ArchivedTask a")
+    Stream<TaskDates> streamArchivedDates();
 }
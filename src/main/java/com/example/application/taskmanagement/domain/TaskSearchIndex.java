@@ -0,0 +1,277 @@
+package com.example.application.taskmanagement.domain;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * In-memory inverted index over {@link Task#getDescription() task descriptions}.
+ * <p>
+ * Descriptions are split into lower-case words at every character that is not a letter or digit. Each word maps to
+ * the tasks containing it and how often, and the words are kept sorted, so a prefix query is a range scan over the
+ * word list rather than a scan over all tasks. Results are ranked with BM25, which favours tasks that contain the
+ * query words often and in short descriptions, and rare words over common ones.
+ * </p>
+ * <p>
+ * The index is loaded from the database when the application starts and afterwards follows committed task changes
+ * through {@link TaskSearchIndexListener}. It only sees changes made by this node.
+ * </p>
+ */
+@Component
+public class TaskSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private record Document(Map<String, Integer> termFrequencies, int length) {
+    }
+
+    private record Hit(long taskId, double score) {
+    }
+
+    private static final Comparator<Hit> BY_RANK = Comparator.comparingDouble(Hit::score)
+        .thenComparing(Hit::taskId, Comparator.reverseOrder());
+
+    private final TaskRepository repository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private long totalLength;
+
+    public TaskSearchIndex(TaskRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Replaces the index contents with the descriptions currently in the database.
+     * <p>
+     * Changes committed while the rebuild runs wait for it and are applied afterwards. Applying a change twice has no
+     * effect, so it does not matter whether the rebuild already saw it.
+     * </p>
+     */
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            totalLength = 0;
+            try (Stream<TaskDescription> descriptions = repository.streamDescriptions()) {
+                descriptions.forEach(task -> add(task.id(), task.description()));
+            }
+            log.info("Task search index rebuilt: {} tasks, {} words in {} ms", documents.size(), postings.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Adds a task or replaces its previously indexed description.
+     */
+    public void index(Long taskId, String description) {
+        lock.writeLock().lock();
+        try {
+            remove(taskId);
+            add(taskId, description);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a task from the index. Does nothing if the task is not indexed.
+     */
+    public void remove(Long taskId) {
+        lock.writeLock().lock();
+        try {
+            Document document = documents.remove(taskId);
+            if (document == null) {
+                return;
+            }
+            totalLength -= document.length();
+            for (String term : document.termFrequencies().keySet()) {
+                Map<Long, Integer> tasks = postings.get(term);
+                tasks.remove(taskId);
+                if (tasks.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the tasks containing the given word, best matches first.
+     *
+     * @param term a single word; case is ignored
+     * @param limit the maximum number of task IDs to return
+     * @return the IDs of the matching tasks
+     */
+    public List<Long> findByTerm(String term, int limit) {
+        String word = singleWord(term);
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> tasks = postings.get(word);
+            return tasks == null ? List.of() : rank(List.of(tasks), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the tasks containing a word that starts with the given prefix, best matches first.
+     *
+     * @param prefix the start of a word; case is ignored
+     * @param limit the maximum number of task IDs to return
+     * @return the IDs of the matching tasks
+     */
+    public List<Long> findByPrefix(String prefix, int limit) {
+        String start = singleWord(prefix);
+        lock.readLock().lock();
+        try {
+            return rank(prefixPostings(start), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the tasks containing any of the words of the query, ranked by relevance. The last word is matched as a
+     * prefix, so the query can be run on every keystroke of a search field.
+     *
+     * @param query free text; case and punctuation are ignored
+     * @param limit the maximum number of task IDs to return
+     * @return the IDs of the matching tasks
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> words = List.copyOf(new LinkedHashSet<>(tokenize(query)));
+        if (words.isEmpty()) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<Map<Long, Integer>> matches = new ArrayList<>();
+            for (int i = 0; i < words.size() - 1; i++) {
+                Map<Long, Integer> tasks = postings.get(words.get(i));
+                if (tasks != null) {
+                    matches.add(tasks);
+                }
+            }
+            matches.addAll(prefixPostings(words.getLast()));
+            return rank(matches, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed tasks.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Splits text into the lower-case words the index is built from.
+     */
+    static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static String singleWord(String text) {
+        List<String> words = tokenize(text);
+        if (words.size() != 1) {
+            throw new IllegalArgumentException("Expected a single word but got '" + text + "'");
+        }
+        return words.getFirst();
+    }
+
+    private void add(Long taskId, String description) {
+        Map<String, Integer> frequencies = new LinkedHashMap<>();
+        List<String> words = tokenize(description);
+        for (String word : words) {
+            frequencies.merge(word, 1, Integer::sum);
+        }
+        documents.put(taskId, new Document(frequencies, words.size()));
+        totalLength += words.size();
+        frequencies.forEach((word, frequency) -> postings.computeIfAbsent(word, w -> new HashMap<>())
+            .put(taskId, frequency));
+    }
+
+    private Collection<Map<Long, Integer>> prefixPostings(String prefix) {
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+    }
+
+    /**
+     * Scores every task in the given posting lists with BM25 and keeps the best {@code limit} in a bounded heap.
+     */
+    private List<Long> rank(Collection<Map<Long, Integer>> matches, int limit) {
+        if (matches.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        int taskCount = documents.size();
+        double averageLength = (double) totalLength / taskCount;
+        Map<Long, Double> scores = new HashMap<>();
+        for (Map<Long, Integer> tasks : matches) {
+            double idf = Math.log(1 + (taskCount - tasks.size() + 0.5) / (tasks.size() + 0.5));
+            tasks.forEach((taskId, frequency) -> {
+                double norm = K1 * (1 - B + B * documents.get(taskId).length() / averageLength);
+                scores.merge(taskId, idf * frequency * (K1 + 1) / (frequency + norm), Double::sum);
+            });
+        }
+
+        PriorityQueue<Hit> best = new PriorityQueue<>(Math.min(limit, scores.size()) + 1, BY_RANK);
+        scores.forEach((taskId, score) -> {
+            best.add(new Hit(taskId, score));
+            if (best.size() > limit) {
+                best.poll();
+            }
+        });
+        List<Hit> hits = new ArrayList<>(best);
+        hits.sort(BY_RANK.reversed());
+        return hits.stream().map(Hit::taskId).toList();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.application.taskmanagement.domain;
+
+import com.example.application.base.domain.AfterCommitQueue;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.Optional;
+
+/**
+ * JPA entity listener that forwards task changes to the {@link TaskSearchIndex}.
+ * <p>
+ * Changes are held in an {@link AfterCommitQueue} and applied after the transaction commits, so a rolled back write
+ * never becomes searchable. Within a transaction only the last change of each task is kept.
+ * </p>
+ * <p>
+ * Hibernate creates entity listeners through Spring while the {@code EntityManagerFactory} is being built, before the
+ * index's repository can exist, so the index is looked up on first use.
+ * </p>
+ */
+public class TaskSearchIndexListener {
+
+    private record Change(Long taskId, Optional<String> description) {
+    }
+
+    private final ObjectProvider<TaskSearchIndex> index;
+    private final AfterCommitQueue<Change> pending = AfterCommitQueue.latestBy(Change::taskId, this::apply);
+
+    public TaskSearchIndexListener(ObjectProvider<TaskSearchIndex> index) {
+        this.index = index;
+    }
+
+    @PostPersist
+    @PostUpdate
+    void onSave(Task task) {
+        pending.add(new Change(task.getId(), Optional.of(task.getDescription())));
+    }
+
+    @PostRemove
+    void onRemove(Task task) {
+        pending.add(new Change(task.getId(), Optional.empty()));
+    }
+
+    private void apply(Change change) {
+        index.ifAvailable(searchIndex -> change.description().ifPresentOrElse(
+                text -> searchIndex.index(change.taskId(), text), () -> searchIndex.remove(change.taskId())));
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.application.taskmanagement.domain;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * In-memory daily rollup of task counts: how many tasks were created and how many are due on each day.
+ * <p>
+ * The rollup holds one entry per day rather than per task, so statistics over a date range cost time in proportion to
+ * the number of days, however many tasks there are. A task counts as overdue on every day after its due date, so the
+ * overdue total of a day is the sum of the due counts of all earlier days. Creation days are UTC days. Tasks moved to
+ * the archive are still counted as created and due, but not as overdue, which matches the dashboard's
+ * {@code TaskService.countDue}.
+ * </p>
+ * <p>
+ * Like the {@link TaskSearchIndex}, the rollup is loaded from the database when the application starts,
+ * and afterwards follows committed task changes through {@link TaskStatisticsListener}. It only sees changes made by
+ * this node. It remembers which tasks it has counted, so a change the rebuild already saw is not counted again.
+ * </p>
+ */
+@Component
+public class TaskStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskStatistics.class);
+
+    private static final int CREATED = 0;
+    private static final int DUE = 1;
+    private static final int OPEN_DUE = 2;
+    private static final int COLUMNS = 3;
+
+    private final TaskRepository repository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<LocalDate, long[]> days = new TreeMap<>();
+    private final Map<Long, TaskDates> openTasks = new HashMap<>();
+    private final Map<Long, TaskDates> archivedTasks = new HashMap<>();
+    private long total;
+
+    public TaskStatistics(TaskRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Replaces the rollup with the counts currently in the database.
+     * <p>
+     * Changes committed while the rebuild runs wait for it and are applied afterwards. Adding a task that is already
+     * counted, or removing one that is not, has no effect, so it does not matter whether the rebuild already saw the
+     * change.
+     * </p>
+     */
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long start = System.nanoTime();
+        lock.writeLock().lock();
+        try {
+            days.clear();
+            openTasks.clear();
+            archivedTasks.clear();
+            total = 0;
+            try (Stream<TaskDates> tasks = repository.streamDates()) {
+                tasks.forEach(task -> add(openTasks, task));
+            }
+            try (Stream<TaskDates> tasks = repository.streamArchivedDates()) {
+                tasks.forEach(task -> add(archivedTasks, task));
+            }
+            log.info("Task statistics rebuilt: {} tasks over {} days in {} ms", total, days.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * Counts a new task. Does nothing if the task is already counted.
+     *
+     * @param task the dates of the task
+     * @param archived whether the task was added to the archive rather than to the task list
+     */
+    public void add(TaskDates task, boolean archived) {
+        lock.writeLock().lock();
+        try {
+            add(archived ? archivedTasks : openTasks, task);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Stops counting a deleted task. Does nothing if the task is not counted.
+     *
+     * @param taskId the ID of the task
+     * @param archived whether the task was deleted from the archive rather than from the task list
+     */
+    public void remove(Long taskId, boolean archived) {
+        lock.writeLock().lock();
+        try {
+            Map<Long, TaskDates> tasks = archived ? archivedTasks : openTasks;
+            TaskDates task = tasks.remove(taskId);
+            if (task != null) {
+                count(task, tasks == openTasks, -1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the statistics of every day in the range, both inclusive, including days without tasks.
+     *
+     * @param from the first day
+     * @param to the last day
+     * @return one entry per day, in order
+     */
+    public List<TaskDayStatistics> daily(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Date range ends before it starts");
+        }
+        lock.readLock().lock();
+        try {
+            long overdue = sumDue(days.headMap(from, false));
+            List<TaskDayStatistics> result = new ArrayList<>();
+            for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+                long[] counts = days.getOrDefault(day, new long[COLUMNS]);
+                result.add(new TaskDayStatistics(day, counts[CREATED], counts[DUE], overdue));
+                overdue += counts[OPEN_DUE];
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of tasks due before the given day, not counting archived ones.
+     */
+    public long overdue(LocalDate today) {
+        lock.readLock().lock();
+        try {
+            return sumDue(days.headMap(today, false));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of tasks, including archived ones.
+     */
+    public long total() {
+        lock.readLock().lock();
+        try {
+            return total;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void add(Map<Long, TaskDates> tasks, TaskDates task) {
+        if (tasks.putIfAbsent(task.id(), task) == null) {
+            count(task, tasks == openTasks, 1);
+        }
+    }
+
+    private void count(TaskDates task, boolean open, int delta) {
+        adjust(creationDay(task.creationDate()), CREATED, delta);
+        LocalDate dueDate = task.dueDate();
+        if (dueDate != null) {
+            adjust(dueDate, DUE, delta);
+            if (open) {
+                adjust(dueDate, OPEN_DUE, delta);
+            }
+        }
+        total += delta;
+    }
+
+    private void adjust(LocalDate day, int column, int delta) {
+        long[] counts = days.computeIfAbsent(day, d -> new long[COLUMNS]);
+        counts[column] += delta;
+        if (counts[CREATED] == 0 && counts[DUE] == 0) {
+            days.remove(day);
+        }
+    }
+
+    /**
+     * Returns the UTC day of a creation date. Both the rebuild and the incremental updates go through here, so a task
+     * is counted on the same day either way.
+     */
+    private static LocalDate creationDay(Instant creationDate) {
+        return LocalDate.ofInstant(creationDate, ZoneOffset.UTC);
+    }
+
+    private static long sumDue(NavigableMap<LocalDate, long[]> range) {
+        long sum = 0;
+        for (long[] counts : range.values()) {
+            sum += counts[OPEN_DUE];
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.application.taskmanagement.domain;
+
+import com.example.application.base.domain.AfterCommitQueue;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * JPA entity listener that forwards created and deleted tasks to the {@link TaskStatistics}.
+ * <p>
+ * It listens to both {@link Task} and {@link ArchivedTask}, because the statistics count archived tasks too: moving a
+ * task to the archive removes it from one table and adds it to the other, which leaves the counts unchanged except
+ * for the overdue ones.
+ * </p>
+ * <p>
+ * Changes are held in an {@link AfterCommitQueue} and applied after the transaction commits, so a rolled back write
+ * is never counted. Updates are not forwarded: the application never changes the dates of a stored task, and the
+ * rollup would need the previous dates to move a task between days.
+ * </p>
+ * <p>
+ * As with {@link TaskSearchIndexListener}, the statistics are looked up on first use because Hibernate creates the
+ * listener before their repository exists.
+ * </p>
+ */
+public class TaskStatisticsListener {
+
+    private record Change(TaskDates task, boolean archived, boolean added) {
+    }
+
+    private final ObjectProvider<TaskStatistics> statistics;
+    private final AfterCommitQueue<Change> pending = AfterCommitQueue.of(this::apply);
+
+    public TaskStatisticsListener(ObjectProvider<TaskStatistics> statistics) {
+        this.statistics = statistics;
+    }
+
+    @PostPersist
+    void onPersist(Object entity) {
+        changed(entity, true);
+    }
+
+    @PostRemove
+    void onRemove(Object entity) {
+        changed(entity, false);
+    }
+
+    private void changed(Object entity, boolean added) {
+        switch (entity) {
+            case Task task -> pending.add(
+                    new Change(new TaskDates(task.getId(), task.getCreationDate(), task.getDueDate()), false, added));
+            case ArchivedTask task -> pending.add(
+                    new Change(new TaskDates(task.getId(), task.getCreationDate(), task.getDueDate()), true, added));
+            default -> throw new IllegalArgumentException("Not a task: " + entity.getClass().getName());
+        }
+    }
+
+    private void apply(Change change) {
+        statistics.ifAvailable(rollup -> {
+            if (change.added()) {
+                rollup.add(change.task(), change.archived());
+            } else {
+                rollup.remove(change.task().id(), change.archived());
+            }
+        });
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.application.taskmanagement.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Hashed timing wheel: a ring of buckets, one per tick, holding keyed timeouts.
+ * <p>
+ * A timeout goes into the bucket of the tick its deadline falls in, modulo the wheel size, so scheduling and cancelling
+ * are O(1) however many timeouts are pending. Advancing the clock visits one bucket per elapsed tick and expires the
+ * entries whose tick has come; entries more than one revolution away stay in their bucket until a later visit. The
+ * cost of a visit is the size of the bucket, so the wheel should be sized so that a revolution covers the usual
+ * scheduling horizon.
+ * </p>
+ * <p>
+ * Deadlines are rounded up to the next tick, so a timeout never fires early. Not thread-safe.
+ * </p>
+ *
+ * @param <T> the type of the scheduled values
+ */
+final class HashedTimingWheel<T> {
+
+    private static final class Entry<T> {
+
+        private final long key;
+        private final T value;
+        private final long tick;
+        private final int bucket;
+        private Entry<T> previous;
+        private Entry<T> next;
+
+        private Entry(long key, T value, long tick, int bucket) {
+            this.key = key;
+            this.value = value;
+            this.tick = tick;
+            this.bucket = bucket;
+        }
+    }
+
+    private final long tickMillis;
+    private final long startMillis;
+    private final int mask;
+    private final Entry<T>[] heads;
+    private final Map<Long, Entry<T>> entries = new HashMap<>();
+    /** The next tick to process; every earlier tick has expired. */
+    private long nextTick;
+
+    /**
+     * @param tickMillis the length of a tick
+     * @param wheelSize the number of buckets; rounded up to a power of two
+     * @param startMillis the time of tick 0
+     */
+    @SuppressWarnings("unchecked")
+    HashedTimingWheel(long tickMillis, int wheelSize, long startMillis) {
+        if (tickMillis < 1 || wheelSize < 1 || wheelSize > 1 << 30) {
+            throw new IllegalArgumentException("Invalid timing wheel configuration");
+        }
+        int size = wheelSize == 1 ? 1 : Integer.highestOneBit(wheelSize - 1) << 1;
+        this.tickMillis = tickMillis;
+        this.startMillis = startMillis;
+        this.mask = size - 1;
+        this.heads = new Entry[size];
+    }
+
+    /**
+     * Schedules a value to expire at the deadline, replacing any timeout with the same key. A deadline that has
+     * already passed expires on the next advance.
+     */
+    void schedule(long key, T value, long deadlineMillis) {
+        cancel(key);
+        long tick = Math.max(ceilDiv(deadlineMillis - startMillis, tickMillis), nextTick);
+        var entry = new Entry<>(key, value, tick, (int) (tick & mask));
+        Entry<T> head = heads[entry.bucket];
+        entry.next = head;
+        if (head != null) {
+            head.previous = entry;
+        }
+        heads[entry.bucket] = entry;
+        entries.put(key, entry);
+    }
+
+    /**
+     * Removes the timeout with the given key.
+     *
+     * @return whether there was one
+     */
+    boolean cancel(long key) {
+        Entry<T> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        unlink(entry);
+        return true;
+    }
+
+    /**
+     * Expires every timeout whose deadline is at or before the given time, in deadline tick order.
+     *
+     * @param nowMillis the current time
+     * @param expired receives the key and value of each expired timeout
+     * @return the number of expired timeouts
+     */
+    int advance(long nowMillis, BiConsumer<Long, T> expired) {
+        int count = 0;
+        List<Entry<T>> due = new ArrayList<>();
+        while (startMillis + nextTick * tickMillis <= nowMillis) {
+            long tick = nextTick++;
+            for (Entry<T> entry = heads[(int) (tick & mask)]; entry != null; entry = entry.next) {
+                if (entry.tick <= tick) {
+                    due.add(entry);
+                }
+            }
+            for (Entry<T> entry : due) {
+                unlink(entry);
+                entries.remove(entry.key);
+                expired.accept(entry.key, entry.value);
+            }
+            count += due.size();
+            due.clear();
+        }
+        return count;
+    }
+
+    /**
+     * Removes all timeouts.
+     */
+    void clear() {
+        Arrays.fill(heads, null);
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    boolean contains(long key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Returns the time up to which timeouts have expired.
+     */
+    long expiredUntilMillis() {
+        return startMillis + (nextTick - 1) * tickMillis;
+    }
+
+    private void unlink(Entry<T> entry) {
+        if (entry.previous != null) {
+            entry.previous.next = entry.next;
+        } else {
+            heads[entry.bucket] = entry.next;
+        }
+        if (entry.next != null) {
+            entry.next.previous = entry.previous;
+        }
+        entry.previous = null;
+        entry.next = null;
+    }
+
+    private static long ceilDiv(long dividend, long divisor) {
+        return -Math.floorDiv(-dividend, divisor);
+    }
+}
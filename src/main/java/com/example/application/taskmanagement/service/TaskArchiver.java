@@ -0,0 +1,95 @@
+package com.example.application.taskmanagement.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Background job that keeps the {@code task} table small by moving tasks older than a configured age to the
+ * {@code task_archive} table.
+ * <p>
+ * Tasks are moved oldest first in chunks, each in its own short transaction, so the job never holds locks on many rows
+ * or rolls back much work. A run stops after a fixed number of chunks, so a large backlog is worked off over several
+ * runs instead of occupying the shared scheduler thread. Archived tasks are still listed by
+ * {@link TaskService#listAfter} when the caller asks for them.
+ * </p>
+ * <ul>
+ * <li>{@code app.tasks.archive.enabled} - turns the job on, default {@code false}</li>
+ * <li>{@code app.tasks.archive.max-age-days} - age by creation date after which a task is archived, default 365</li>
+ * <li>{@code app.tasks.archive.chunk-size} - tasks moved per transaction, default 500</li>
+ * <li>{@code app.tasks.archive.chunks-per-run} - maximum chunks per run, default 20</li>
+ * <li>{@code app.tasks.archive.interval-ms} - pause between runs, default one hour</li>
+ * </ul>
+ */
+@Component
+class TaskArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private final TaskBatchWriter writer;
+    private final Clock clock;
+    private final boolean enabled;
+    private final Duration maxAge;
+    private final int chunkSize;
+    private final int chunksPerRun;
+
+    TaskArchiver(TaskBatchWriter writer, Clock clock, @Value("${app.tasks.archive.enabled:false}") boolean enabled,
+            @Value("${app.tasks.archive.max-age-days:365}") int maxAgeDays,
+            @Value("${app.tasks.archive.chunk-size:500}") int chunkSize,
+            @Value("${app.tasks.archive.chunks-per-run:20}") int chunksPerRun) {
+        if (maxAgeDays < 1 || chunkSize < 1 || chunksPerRun < 1) {
+            throw new IllegalArgumentException("Invalid task archive configuration");
+        }
+        this.writer = writer;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.maxAge = Duration.ofDays(maxAgeDays);
+        this.chunkSize = chunkSize;
+        this.chunksPerRun = chunksPerRun;
+    }
+
+    @Scheduled(fixedDelayString = "${app.tasks.archive.interval-ms:3600000}",
+            initialDelayString = "${app.tasks.archive.interval-ms:3600000}")
+    public void run() {
+        if (enabled) {
+            archive();
+        }
+    }
+
+    /**
+     * Archives up to {@code chunks-per-run} chunks of tasks older than the maximum age.
+     *
+     * @return the number of archived tasks
+     */
+    int archive() {
+        long start = System.nanoTime();
+        Instant now = clock.instant();
+        Instant cutoff = now.minus(maxAge);
+        int archived = 0;
+        for (int chunk = 0; chunk < chunksPerRun; chunk++) {
+            int moved;
+            try {
+                moved = writer.archive(cutoff, chunkSize, now);
+            } catch (RuntimeException e) {
+                // Typically another node archiving the same chunk; whatever is left is retried on the next run
+                log.warn("Task archive chunk failed", e);
+                break;
+            }
+            archived += moved;
+            if (moved < chunkSize) {
+                break;
+            }
+        }
+        if (archived > 0) {
+            log.info("Archived {} tasks created before {} in {} ms", archived, cutoff,
+                    (System.nanoTime() - start) / 1_000_000);
+        }
+        return archived;
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.application.taskmanagement.service;
+
+import com.example.application.taskmanagement.domain.ArchivedTask;
+import com.example.application.taskmanagement.domain.Task;
+import com.example.application.taskmanagement.domain.TaskRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Writes a batch of tasks in one transaction: inserts for the bulk import and for group-committed {@code createTask}
+ * calls, and moves to the archive for the {@link TaskArchiver}. A failing batch does not roll back the ones before it.
+ */
+@Component
+class TaskBatchWriter {
+
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final TaskEventBroadcaster events;
+
+    TaskBatchWriter(TaskRepository taskRepository, EntityManager entityManager, TaskEventBroadcaster events) {
+        this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.events = events;
+    }
+
+    /**
+     * Persists imported tasks as JDBC batches of the given size. IDs come from the pooled task sequence, so the
+     * database is asked for a new ID block only once per allocation size. The persistence context ends with the
+     * transaction, which keeps memory use independent of the number of batches.
+     *
+     * @return the number of inserted tasks
+     */
+    @Transactional
+    public int insertImported(List<Task> tasks, int jdbcBatchSize) {
+        insert(tasks, jdbcBatchSize);
+        // One event per batch instead of per task; subscribers reload what they show
+        events.publishAfterCommit(TaskEvent.reload());
+        return tasks.size();
+    }
+
+    /**
+     * Persists tasks created by separate callers in a single JDBC batch and commit, and announces each of them.
+     * On return, every task has its generated ID.
+     */
+    @Transactional
+    public void insertCreated(List<Task> tasks) {
+        insert(tasks, tasks.size());
+        for (Task task : tasks) {
+            events.publishAfterCommit(TaskEvent.created(task));
+        }
+    }
+
+    /**
+     * Moves up to {@code chunkSize} of the oldest tasks created before the cutoff to the archive. The archive rows are
+     * inserted and the task rows deleted in the same transaction, so a task is never lost or in both tables once it
+     * commits. The deletes go through the persistence context, so the search index drops the archived tasks as well,
+     * while the statistics keep counting them through their archive rows.
+     *
+     * @return the number of archived tasks; less than {@code chunkSize} once nothing is left to archive
+     */
+    @Transactional
+    public int archive(Instant cutoff, int chunkSize, Instant archivedDate) {
+        List<Task> tasks = taskRepository.findByCreationDateBefore(cutoff, Task.KEYSET_SORT, Limit.of(chunkSize));
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+        entityManager.unwrap(Session.class).setJdbcBatchSize(chunkSize);
+        for (Task task : tasks) {
+            // Persisted directly: the assigned ID would make the repository merge, which selects every row first
+            entityManager.persist(new ArchivedTask(task, archivedDate));
+        }
+        taskRepository.deleteAll(tasks);
+        taskRepository.flush();
+        events.publishAfterCommit(TaskEvent.reload());
+        return tasks.size();
+    }
+
+    private void insert(List<Task> tasks, int jdbcBatchSize) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(jdbcBatchSize);
+        taskRepository.saveAll(tasks);
+        taskRepository.flush();
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.application.taskmanagement.service;
+
+import java.time.Instant;
+
+/**
+ * Keyset position in the task list: the creation date and ID of the last task the client has received.
+ */
+public record TaskCursor(Instant creationDate, Long id) {
+}
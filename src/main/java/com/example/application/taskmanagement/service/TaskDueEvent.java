@@ -0,0 +1,10 @@
+package com.example.application.taskmanagement.service;
+
+import java.time.LocalDate;
+
+/**
+ * Application event published by the {@link TaskReminderScheduler} when a task reaches its reminder time on its due
+ * date. Handle it with an {@link org.springframework.context.event.EventListener}.
+ */
+public record TaskDueEvent(long taskId, LocalDate dueDate) {
+}
@@ -0,0 +1,18 @@
+package com.example.application.taskmanagement.service;
+
+import com.example.application.taskmanagement.domain.Task;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * A committed change to the task list, pushed to clients subscribed through {@link TaskService#subscribe()}.
+ */
+public record TaskEvent(TaskEventType type, @Nullable Task task) {
+
+    public static TaskEvent created(Task task) {
+        return new TaskEvent(TaskEventType.CREATED, task);
+    }
+
+    public static TaskEvent reload() {
+        return new TaskEvent(TaskEventType.RELOAD, null);
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.application.taskmanagement.service;
+
+import com.example.application.base.domain.AfterCommitQueue;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fans committed {@link TaskEvent}s out to every subscribed client.
+ * <p>
+ * Each subscriber has its own queue, so a slow client never holds up the others or the writing transaction. Events
+ * are delivered at most once per coalescing window and only as far as the subscriber has requested them. While they
+ * wait, events for the same task replace each other, and a queue that grows beyond {@link #MAX_PENDING} tasks is
+ * replaced by a single {@link TaskEventType#RELOAD}.
+ * </p>
+ */
+@Component
+class TaskEventBroadcaster {
+
+    static final int MAX_PENDING = 256;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AfterCommitQueue<TaskEvent> committed = AfterCommitQueue.of(this::publish);
+    private final long windowMillis;
+    private final Scheduler scheduler;
+
+    @Autowired
+    TaskEventBroadcaster(@Value("${app.tasks.events.coalesce-window-ms:200}") long windowMillis) {
+        this(Duration.ofMillis(windowMillis), Schedulers.parallel());
+    }
+
+    TaskEventBroadcaster(Duration window, Scheduler scheduler) {
+        this.windowMillis = window.toMillis();
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Publishes the event once the current transaction commits, or immediately if there is no transaction. Events of
+     * a rolled back transaction are dropped.
+     */
+    void publishAfterCommit(TaskEvent event) {
+        committed.add(event);
+    }
+
+    /**
+     * Returns a stream of the events committed from now on. The subscriber is removed when the stream is cancelled.
+     */
+    Flux<TaskEvent> subscribe() {
+        return Flux.create(sink -> {
+            var subscriber = new Subscriber(sink);
+            subscribers.add(subscriber);
+            sink.onRequest(requested -> subscriber.scheduleDrain());
+            sink.onDispose(() -> subscribers.remove(subscriber));
+        });
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void publish(TaskEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(event);
+        }
+    }
+
+    private final class Subscriber {
+
+        private final FluxSink<TaskEvent> sink;
+        private final Map<Long, TaskEvent> pending = new LinkedHashMap<>();
+        private boolean reload;
+        private boolean drainScheduled;
+
+        private Subscriber(FluxSink<TaskEvent> sink) {
+            this.sink = sink;
+        }
+
+        private synchronized void offer(TaskEvent event) {
+            if (reload) {
+                // The client reloads everything anyway, including this change
+                return;
+            }
+            if (event.task() == null || event.task().getId() == null || event.type() == TaskEventType.RELOAD) {
+                reload = true;
+                pending.clear();
+            } else {
+                pending.remove(event.task().getId());
+                pending.put(event.task().getId(), event);
+                if (pending.size() > MAX_PENDING) {
+                    reload = true;
+                    pending.clear();
+                }
+            }
+            scheduleDrain();
+        }
+
+        private synchronized void scheduleDrain() {
+            if (!drainScheduled && (reload || !pending.isEmpty())) {
+                drainScheduled = true;
+                scheduler.schedule(this::drain, windowMillis, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void drain() {
+            List<TaskEvent> ready = new ArrayList<>();
+            synchronized (this) {
+                drainScheduled = false;
+                long demand = sink.requestedFromDownstream();
+                if (reload && demand > 0) {
+                    ready.add(TaskEvent.reload());
+                    reload = false;
+                    demand--;
+                }
+                Iterator<TaskEvent> events = pending.values().iterator();
+                while (demand > 0 && events.hasNext()) {
+                    ready.add(events.next());
+                    events.remove();
+                    demand--;
+                }
+            }
+            // Whatever is left waits for the subscriber's next request
+            ready.forEach(sink::next);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.application.taskmanagement.service;
+
+/**
+ * Kinds of {@link TaskEvent}.
+ */
+public enum TaskEventType {
+
+    /**
+     * A task was created; {@link TaskEvent#task()} holds it.
+     */
+    CREATED,
+
+    /**
+     * Too many changes to send individually, e.g. after a bulk import or when the client fell behind. The client
+     * should reload what it shows; {@link TaskEvent#task()} is {@code null}.
+     */
+    RELOAD
+}
@@ -0,0 +1,137 @@
+package com.example.application.taskmanagement.service;
+
+import com.example.application.permissions.service.RequiresScreen;
+import com.example.application.taskmanagement.domain.Task;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import jakarta.persistence.EntityManager;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes all tasks to a stream as CSV or NDJSON.
+ * <p>
+ * Tasks are read through a forward-only, read-only Hibernate cursor and written out one at a time, so no result list
+ * is ever built. The JDBC fetch size bounds how many rows the driver buffers, and the persistence context is cleared
+ * after every fetch, which keeps memory use constant however many tasks there are.
+ * </p>
+ */
+@Service
+public class TaskExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskExportService.class);
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final EntityManager entityManager;
+    private final int fetchSize;
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    TaskExportService(EntityManager entityManager, @Value("${app.tasks.export.fetch-size:1000}") int fetchSize) {
+        if (fetchSize < 1) {
+            throw new IllegalArgumentException("Export fetch size must be positive");
+        }
+        this.entityManager = entityManager;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Writes every task, ordered by ID, to the stream.
+     *
+     * @param output the stream to write to; it is flushed but not closed
+     * @param format the format to write
+     * @return the number of exported tasks
+     */
+    @Transactional(readOnly = true)
+    @RequiresScreen(name = "Task List")
+    public long exportTasks(OutputStream output, TaskFileFormat format) {
+        long start = System.nanoTime();
+        long count = 0;
+        Session session = entityManager.unwrap(Session.class);
+        // Not closed, so the caller's stream stays open
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8), BUFFER_SIZE);
+        try (ScrollableResults<Task> tasks = session.createSelectionQuery("FROM Task t ORDER BY t.id", Task.class)
+            .setReadOnly(true)
+            .setFetchSize(fetchSize)
+            .scroll(ScrollMode.FORWARD_ONLY);
+                JsonGenerator json = jsonFactory.createGenerator(writer)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Objects are separated by the line breaks written after each one, not by Jackson's default space
+            json.setRootValueSeparator(null);
+            if (format == TaskFileFormat.CSV) {
+                writer.write("id,description,dueDate,creationDate\n");
+            }
+            while (tasks.next()) {
+                Task task = tasks.get();
+                if (format == TaskFileFormat.CSV) {
+                    writeCsv(writer, task);
+                } else {
+                    writeJson(json, task);
+                }
+                if (++count % fetchSize == 0) {
+                    session.clear();
+                }
+            }
+            json.flush();
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write task export", e);
+        }
+        log.info("Exported {} tasks as {} in {} ms", count, format, (System.nanoTime() - start) / 1_000_000);
+        return count;
+    }
+
+    private static void writeCsv(Writer writer, Task task) throws IOException {
+        writer.write(String.valueOf(task.getId()));
+        writer.write(',');
+        writer.write(csvField(task.getDescription()));
+        writer.write(',');
+        writer.write(toString(task.getDueDate()));
+        writer.write(',');
+        writer.write(toString(task.getCreationDate()));
+        writer.write('\n');
+    }
+
+    private static void writeJson(JsonGenerator json, Task task) throws IOException {
+        json.writeStartObject();
+        json.writeNumberField("id", task.getId());
+        json.writeStringField("description", task.getDescription());
+        if (task.getDueDate() != null) {
+            json.writeStringField("dueDate", task.getDueDate().toString());
+        }
+        json.writeStringField("creationDate", task.getCreationDate().toString());
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    /**
+     * Quotes a field if it contains a separator, a quote or a line break, doubling any quotes inside it.
+     */
+    static String csvField(String value) {
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return needsQuotes ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+
+    private static String toString(@Nullable Object value) {
+        return value == null ? "" : value.toString();
+    }
+}
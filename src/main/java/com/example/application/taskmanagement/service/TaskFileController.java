@@ -0,0 +1,72 @@
+package com.example.application.taskmanagement.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.IOException;
+
+/**
+ * Bulk task import and export over plain HTTP. Both directions work on the raw request and response streams, so files
+ * are processed while they are transferred instead of being buffered by a multipart or JSON message converter.
+ * <p>
+ * Both need the session of a signed-in user, and the import is a POST outside Vaadin's endpoints, so Spring Security
+ * also requires the session's CSRF token in the header named by the page's {@code _csrf_header} meta tag. The task
+ * list's Import button sends both, and its Export link the session. The import takes the file as the raw body, with
+ * {@code Content-Type: text/csv} or {@code application/x-ndjson}; the export takes {@code ?format=csv} or
+ * {@code ?format=ndjson}.
+ * </p>
+ */
+@RestController
+@RequestMapping("/api/tasks")
+class TaskFileController {
+
+    static final String CSV = "text/csv";
+    static final String NDJSON = "application/x-ndjson";
+
+    private final TaskImportService importService;
+    private final TaskExportService exportService;
+
+    TaskFileController(TaskImportService importService, TaskExportService exportService) {
+        this.importService = importService;
+        this.exportService = exportService;
+    }
+
+    @PostMapping(path = "/import", consumes = CSV, produces = MediaType.APPLICATION_JSON_VALUE)
+    TaskImportReport importCsv(HttpServletRequest request) throws IOException {
+        return importService.importTasks(request.getInputStream(), TaskFileFormat.CSV);
+    }
+
+    @PostMapping(path = "/import", consumes = NDJSON, produces = MediaType.APPLICATION_JSON_VALUE)
+    TaskImportReport importNdjson(HttpServletRequest request) throws IOException {
+        return importService.importTasks(request.getInputStream(), TaskFileFormat.NDJSON);
+    }
+
+    @GetMapping("/export")
+    void export(@RequestParam(defaultValue = "csv") String format, HttpServletResponse response) throws IOException {
+        TaskFileFormat fileFormat = formatOf(format);
+        response.setContentType(fileFormat.contentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks." + fileFormat.extension()
+                + "\"");
+        exportService.exportTasks(response.getOutputStream(), fileFormat);
+    }
+
+    private static TaskFileFormat formatOf(String format) {
+        for (TaskFileFormat candidate : TaskFileFormat.values()) {
+            if (candidate.extension().equalsIgnoreCase(format)) {
+                return candidate;
+            }
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                "Unsupported export format '" + format + "', expected csv or ndjson");
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.application.taskmanagement.service;
+
+/**
+ * File formats of the bulk task import and export.
+ */
+public enum TaskFileFormat {
+
+    /**
+     * One task per record, with fields quoted as in RFC 4180 when they contain commas, quotes or line breaks. A
+     * record takes one line unless a quoted field contains a line break.
+     * <p>
+     * {@link TaskExportService} writes a header followed by {@code id,description,dueDate,creationDate}.
+     * {@link TaskImportService} reads {@code description,dueDate}, where the due date is optional and uses ISO format.
+     * A first line made of column names only is taken as a header that sets the column order, so an exported file can
+     * be imported again; its {@code id} and {@code creationDate} columns are ignored.
+     * </p>
+     */
+    CSV("text/csv", "csv"),
+
+    /**
+     * One JSON object per line with a {@code description} and an optional {@code dueDate} property. Exported objects
+     * also have {@code id} and {@code creationDate}.
+     */
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    TaskFileFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+}
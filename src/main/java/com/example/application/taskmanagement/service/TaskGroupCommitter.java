@@ -0,0 +1,197 @@
+package com.example.application.taskmanagement.service;
+
+import com.example.application.taskmanagement.domain.Task;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Opt-in write-behind for {@link TaskService#createTask}: tasks from concurrent callers are queued and persisted
+ * together, so a burst of creations costs one flush and one commit per batch instead of one per task.
+ * <p>
+ * A single worker thread takes the first queued task, then waits up to the linger time for more until the batch is
+ * full, and inserts the batch through {@link TaskBatchWriter}. If the batch fails, its tasks are retried one by one so
+ * only the offending task's caller sees the error. The queue is bounded; when it is full, {@link #submit(Task)} fails
+ * fast instead of letting callers pile up. Once the worker has stopped, whether by {@link #stop()} or by an
+ * unexpected error, every task still queued is failed, so no caller waits for a batch that is never written.
+ * </p>
+ * <ul>
+ * <li>{@code app.tasks.group-commit.enabled} - turns the mode on, default {@code false}</li>
+ * <li>{@code app.tasks.group-commit.batch-size} - maximum tasks per commit, default 100</li>
+ * <li>{@code app.tasks.group-commit.linger-ms} - how long a batch waits to fill up, default 5</li>
+ * <li>{@code app.tasks.group-commit.queue-capacity} - maximum queued tasks, default 10000</li>
+ * </ul>
+ */
+@Component
+public class TaskGroupCommitter {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskGroupCommitter.class);
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    /** How long {@link TaskService#createTask} waits for the batch of its task to commit. */
+    static final long COMMIT_TIMEOUT_SECONDS = 30;
+
+    private record Request(Task task, CompletableFuture<Long> result) {
+    }
+
+    private final TaskBatchWriter writer;
+    private final boolean enabled;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final BlockingQueue<Request> queue;
+    private volatile boolean running;
+    private Thread worker;
+
+    TaskGroupCommitter(TaskBatchWriter writer, @Value("${app.tasks.group-commit.enabled:false}") boolean enabled,
+            @Value("${app.tasks.group-commit.batch-size:100}") int batchSize,
+            @Value("${app.tasks.group-commit.linger-ms:5}") long lingerMillis,
+            @Value("${app.tasks.group-commit.queue-capacity:10000}") int queueCapacity) {
+        if (batchSize < 1 || lingerMillis < 0 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Invalid group commit configuration");
+        }
+        this.writer = writer;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues a task for the next batch.
+     *
+     * @param task a new task
+     * @return a future completed with the generated ID once the batch has committed, or exceptionally if the task
+     *         could not be stored
+     * @throws RejectedExecutionException if the mode is disabled or stopped, or the queue is full
+     */
+    public CompletableFuture<Long> submit(Task task) {
+        if (!running) {
+            throw new RejectedExecutionException("Task group commit is not running");
+        }
+        var request = new Request(task, new CompletableFuture<>());
+        if (!queue.offer(request)) {
+            throw new RejectedExecutionException("Task group commit queue is full");
+        }
+        // Stopped between the check and the offer: the worker may already be gone, so nothing would take the task
+        if (!running && queue.remove(request)) {
+            throw new RejectedExecutionException("Task group commit is not running");
+        }
+        return request.result();
+    }
+
+    @PostConstruct
+    synchronized void start() {
+        if (!enabled || running) {
+            return;
+        }
+        running = true;
+        worker = Thread.ofPlatform().name("task-group-commit").daemon().start(this::run);
+        log.info("Task group commit enabled: batches of up to {} tasks, {} ms linger", batchSize,
+                TimeUnit.NANOSECONDS.toMillis(lingerNanos));
+    }
+
+    /**
+     * Stops accepting tasks and waits for the queued ones to be written.
+     */
+    @PreDestroy
+    synchronized void stop() throws InterruptedException {
+        if (!running) {
+            return;
+        }
+        running = false;
+        // Not interrupted: an interrupt during a JDBC call can break the connection
+        worker.join(TimeUnit.SECONDS.toMillis(30));
+    }
+
+    private void run() {
+        List<Request> batch = new ArrayList<>(batchSize);
+        Throwable failure = null;
+        try {
+            while (running || !queue.isEmpty()) {
+                collect(batch);
+                if (!batch.isEmpty()) {
+                    write(batch);
+                    batch.clear();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failure = e;
+        } catch (RuntimeException | Error e) {
+            log.error("Task group commit worker failed", e);
+            failure = e;
+            throw e;
+        } finally {
+            running = false;
+            var stopped = new RejectedExecutionException("Task group commit stopped", failure);
+            batch.forEach(request -> request.result().completeExceptionally(stopped));
+            Request left;
+            while ((left = queue.poll()) != null) {
+                left.result().completeExceptionally(stopped);
+            }
+        }
+    }
+
+    private void collect(List<Request> batch) throws InterruptedException {
+        // Polled rather than taken, so the worker notices when it is stopped
+        Request first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            Request next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<Request> batch) {
+        try {
+            writer.insertCreated(batch.stream().map(Request::task).toList());
+            batch.forEach(request -> request.result().complete(request.task().getId()));
+        } catch (RuntimeException batchFailure) {
+            if (batch.size() == 1) {
+                batch.getFirst().result().completeExceptionally(batchFailure);
+                return;
+            }
+            log.debug("Task group commit batch of {} failed, retrying tasks individually", batch.size(), batchFailure);
+            for (Request request : batch) {
+                // The failed persist may have assigned an ID to the task already, so retry with a fresh copy
+                write(List.of(new Request(copyOf(request.task()), request.result())));
+            }
+        }
+    }
+
+    private static Task copyOf(Task task) {
+        var copy = new Task();
+        copy.setDescription(task.getDescription());
+        copy.setCreationDate(task.getCreationDate());
+        copy.setDueDate(task.getDueDate());
+        return copy;
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.application.taskmanagement.service;
+
+import com.example.application.base.service.ImportBatches;
+import com.example.application.base.service.ImportError;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Outcome of one batch of a task import that did not go through cleanly.
+ * <p>
+ * Rejected lines are listed in {@code errors}, up to {@link ImportBatches#MAX_ERRORS_PER_BATCH} per batch. If the
+ * insert itself failed, {@code failure} holds the reason and none of the batch's tasks were stored.
+ * </p>
+ */
+public record TaskImportBatchReport(int batch, long firstLine, long lastLine, int imported, int rejected,
+        List<ImportError> errors, @Nullable String failure) {
+}
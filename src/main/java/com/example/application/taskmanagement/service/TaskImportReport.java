@@ -0,0 +1,9 @@
+package com.example.application.taskmanagement.service;
+
+import java.util.List;
+
+/**
+ * Result of a task import: totals plus a report for each batch that had rejected lines or failed.
+ */
+public record TaskImportReport(long imported, long rejected, int batchCount, List<TaskImportBatchReport> batches) {
+}
@@ -0,0 +1,221 @@
+package com.example.application.taskmanagement.service;
+
+import com.example.application.base.service.CsvLines;
+import com.example.application.base.service.ImportBatchResult;
+import com.example.application.base.service.ImportBatches;
+import com.example.application.permissions.service.RequiresScreen;
+import com.example.application.permissions.service.ScreenAccess;
+import com.example.application.taskmanagement.domain.Task;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Imports tasks from a CSV or NDJSON stream.
+ * <p>
+ * The input is read in batches by {@link ImportBatches}, so only one batch of tasks is held in memory at a time.
+ * Lines are validated before they are inserted; invalid lines are rejected individually and reported, and the
+ * remaining lines of the batch are still stored. Each batch is inserted in its own transaction by
+ * {@link TaskBatchWriter}.
+ * </p>
+ */
+@Service
+public class TaskImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskImportService.class);
+
+    private final ImportBatches<Task, Integer> batches;
+    private final Clock clock;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    TaskImportService(TaskBatchWriter writer, Clock clock, @Value("${app.tasks.import.batch-size:1000}") int batchSize) {
+        this.batches = new ImportBatches<>("Task import", batchSize,
+                tasks -> writer.insertImported(tasks, batchSize));
+        this.clock = clock;
+    }
+
+    /**
+     * Reads tasks from the stream until it ends and stores them in batches.
+     *
+     * @param input the UTF-8 encoded upload; it is not closed
+     * @param format the format of the upload
+     * @return the totals and a report of every batch with rejected lines or a failed insert
+     */
+    @RequiresScreen(name = "Task List", access = ScreenAccess.WRITE)
+    public TaskImportReport importTasks(InputStream input, TaskFileFormat format) {
+        Totals totals = new Totals();
+        batches.read(input, new TaskLines(format, clock.instant()), totals::add);
+        log.info("Imported {} tasks in {} batches, {} lines rejected", totals.imported, totals.batchCount,
+                totals.rejected);
+        return new TaskImportReport(totals.imported, totals.rejected, totals.batchCount, totals.reports);
+    }
+
+    /**
+     * Parser of one upload. A CSV header may name the columns, which then apply to the following records.
+     */
+    private final class TaskLines implements ImportBatches.LineParser<Task> {
+
+        private final TaskFileFormat format;
+        private final Instant creationDate;
+        private CsvColumns columns = CsvColumns.DEFAULT;
+
+        private TaskLines(TaskFileFormat format, Instant creationDate) {
+            this.format = format;
+            this.creationDate = creationDate;
+        }
+
+        @Override
+        public boolean isHeader(String line) {
+            CsvColumns header = format == TaskFileFormat.CSV ? CsvColumns.ofHeader(line) : null;
+            if (header == null) {
+                return false;
+            }
+            columns = header;
+            return true;
+        }
+
+        @Override
+        public boolean continues(String record) {
+            return format == TaskFileFormat.CSV && CsvLines.isOpen(record);
+        }
+
+        @Override
+        public Task parse(String line) {
+            return TaskImportService.this.parse(line, format, columns, creationDate);
+        }
+    }
+
+    private Task parse(String line, TaskFileFormat format, CsvColumns columns, Instant creationDate) {
+        String description;
+        String dueDate;
+        if (format == TaskFileFormat.CSV) {
+            List<String> fields = parseCsvLine(line);
+            if (fields.size() > columns.count()) {
+                throw new IllegalArgumentException("Expected at most " + columns.count() + " fields but found "
+                        + fields.size());
+            }
+            description = columns.descriptionOf(fields);
+            dueDate = columns.dueDateOf(fields);
+        } else {
+            JsonNode node;
+            try {
+                node = objectMapper.readTree(line);
+            } catch (JsonProcessingException e) {
+                throw new IllegalArgumentException("Invalid JSON: " + e.getOriginalMessage());
+            }
+            if (!node.isObject()) {
+                throw new IllegalArgumentException("Expected a JSON object");
+            }
+            description = textOf(node, "description");
+            dueDate = textOf(node, "dueDate");
+        }
+
+        if (description == null || description.isBlank()) {
+            throw new IllegalArgumentException("Description is required");
+        }
+        if (description.length() > Task.DESCRIPTION_MAX_LENGTH) {
+            throw new IllegalArgumentException("Description exceeds " + Task.DESCRIPTION_MAX_LENGTH + " characters");
+        }
+        var task = new Task();
+        task.setDescription(description);
+        task.setCreationDate(creationDate);
+        task.setDueDate(parseDueDate(dueDate));
+        return task;
+    }
+
+    private static @Nullable LocalDate parseDueDate(@Nullable String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value.strip());
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid due date '" + value + "', expected yyyy-MM-dd");
+        }
+    }
+
+    private static @Nullable String textOf(JsonNode node, String property) {
+        JsonNode value = node.get(property);
+        return value == null || value.isNull() ? null : value.asText();
+    }
+
+    /**
+     * Positions of the imported fields in a CSV record. Without a header, records are {@code description,dueDate};
+     * a header may name the columns in any order, so files written by {@link TaskExportService} can be imported as
+     * they are. Columns other than {@code description} and {@code dueDate} are ignored.
+     */
+    private record CsvColumns(int count, int description, int dueDate) {
+
+        static final CsvColumns DEFAULT = new CsvColumns(2, 0, 1);
+        private static final Set<String> NAMES = Set.of("id", "description", "duedate", "creationdate");
+
+        /**
+         * Reads a header line, or returns {@code null} if the line is a record: a header consists of known column
+         * names only and includes {@code description}.
+         */
+        static @Nullable CsvColumns ofHeader(String line) {
+            List<String> fields;
+            try {
+                fields = parseCsvLine(line);
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+            List<String> names = fields.stream().map(field -> field.strip().toLowerCase(Locale.ROOT)).toList();
+            if (!NAMES.containsAll(names) || !names.contains("description")
+                    || names.stream().distinct().count() != names.size()) {
+                return null;
+            }
+            return new CsvColumns(names.size(), names.indexOf("description"), names.indexOf("duedate"));
+        }
+
+        @Nullable String descriptionOf(List<String> fields) {
+            return field(fields, description);
+        }
+
+        @Nullable String dueDateOf(List<String> fields) {
+            return field(fields, dueDate);
+        }
+
+        private static @Nullable String field(List<String> fields, int index) {
+            return index >= 0 && index < fields.size() ? fields.get(index) : null;
+        }
+    }
+
+    static List<String> parseCsvLine(String line) {
+        return CsvLines.split(line);
+    }
+
+    private static final class Totals {
+
+        private long imported;
+        private long rejected;
+        private int batchCount;
+        private final List<TaskImportBatchReport> reports = new ArrayList<>();
+
+        private void add(ImportBatchResult<Integer> result) {
+            int batchImported = result.written() == null ? 0 : result.written();
+            imported += batchImported;
+            rejected += result.rejected();
+            batchCount++;
+            if (result.rejected() > 0) {
+                reports.add(new TaskImportBatchReport(result.batch(), result.firstLine(), result.lastLine(),
+                        batchImported, result.rejected(), result.errors(), result.failure()));
+            }
+        }
+    }
+}
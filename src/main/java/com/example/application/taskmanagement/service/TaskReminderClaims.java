@@ -0,0 +1,41 @@
+package com.example.application.taskmanagement.service;
+
+import com.example.application.taskmanagement.domain.TaskRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Claims task reminders in the database for {@link TaskReminderScheduler}, so that of several nodes ticking the same
+ * reminder only one publishes it. A separate bean, so the claims run in a transaction of their own.
+ */
+@Component
+@ConditionalOnProperty(name = "app.tasks.reminders.enabled", havingValue = "true")
+class TaskReminderClaims {
+
+    private final TaskRepository repository;
+
+    TaskReminderClaims(TaskRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Claims the given reminders.
+     *
+     * @param due the reminders whose time has come
+     * @return the reminders claimed by this call, in the given order
+     */
+    @Transactional
+    public List<TaskDueEvent> claim(List<TaskDueEvent> due) {
+        List<TaskDueEvent> claimed = new ArrayList<>(due.size());
+        for (TaskDueEvent event : due) {
+            if (repository.claimReminder(event.taskId(), event.dueDate()) == 1) {
+                claimed.add(event);
+            }
+        }
+        return claimed;
+    }
+}
@@ -0,0 +1,180 @@
+package com.example.application.taskmanagement.service;
+
+import com.example.application.taskmanagement.domain.TaskDueDate;
+import com.example.application.taskmanagement.domain.TaskRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.Disposable;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Publishes a {@link TaskDueEvent} for every task when its due date reaches the configured time of day.
+ * <p>
+ * The tasks due within the next few days are loaded into a {@link HashedTimingWheel}, so each tick only looks at the
+ * reminders of that tick instead of querying the database. The window moves forward one day at a time as the date
+ * changes. Tasks created afterwards are added from the committed {@link TaskEvent}s of {@link TaskEventBroadcaster};
+ * when that stream asks for a reload, for example after an import or an archive run, the window is loaded again on the
+ * next sync. Reminders whose time has passed before they were loaded, such as while the application was down, are not
+ * published.
+ * </p>
+ * <p>
+ * Every node of a cluster loads and ticks the same reminders, but only the node that claims a reminder in the database
+ * through {@link TaskReminderClaims} publishes it, so each reminder is published once.
+ * </p>
+ * <ul>
+ * <li>{@code app.tasks.reminders.enabled} - creates the scheduler, default {@code false}</li>
+ * <li>{@code app.tasks.reminders.time-of-day} - local time of the reminder on the due date, default {@code 09:00}</li>
+ * <li>{@code app.tasks.reminders.window-days} - days after today whose tasks are kept loaded, default 1</li>
+ * <li>{@code app.tasks.reminders.tick-ms} - resolution of the reminder times, default one second</li>
+ * <li>{@code app.tasks.reminders.wheel-size} - buckets of the timing wheel, default 262144, about three days of one
+ * second ticks; reminders further ahead than one revolution slow down every visit of their bucket</li>
+ * <li>{@code app.tasks.reminders.sync-interval-ms} - how often the window is moved or reloaded, default 10 seconds</li>
+ * </ul>
+ */
+@Component
+@ConditionalOnProperty(name = "app.tasks.reminders.enabled", havingValue = "true")
+class TaskReminderScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskReminderScheduler.class);
+
+    private final TaskRepository repository;
+    private final TaskEventBroadcaster events;
+    private final TaskReminderClaims claims;
+    private final ApplicationEventPublisher publisher;
+    private final Clock clock;
+    private final LocalTime timeOfDay;
+    private final int windowDays;
+    private final HashedTimingWheel<LocalDate> wheel;
+    /** The first due date that is not loaded, or {@code null} before the first load. Guarded by {@link #wheel}. */
+    private @Nullable LocalDate loadedUntil;
+    private volatile boolean reloadRequested;
+    private @Nullable Disposable subscription;
+
+    TaskReminderScheduler(TaskRepository repository, TaskEventBroadcaster events, TaskReminderClaims claims,
+            ApplicationEventPublisher publisher, Clock clock, @Value("${app.tasks.reminders.time-of-day:09:00}") String timeOfDay,
+            @Value("${app.tasks.reminders.window-days:1}") int windowDays,
+            @Value("${app.tasks.reminders.tick-ms:1000}") long tickMillis,
+            @Value("${app.tasks.reminders.wheel-size:262144}") int wheelSize) {
+        if (windowDays < 0) {
+            throw new IllegalArgumentException("Invalid task reminder configuration");
+        }
+        this.repository = repository;
+        this.events = events;
+        this.claims = claims;
+        this.publisher = publisher;
+        this.clock = clock;
+        this.timeOfDay = LocalTime.parse(timeOfDay);
+        this.windowDays = windowDays;
+        this.wheel = new HashedTimingWheel<>(tickMillis, wheelSize, clock.millis());
+    }
+
+    @PostConstruct
+    void subscribe() {
+        subscription = events.subscribe().subscribe(this::onTaskEvent);
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    /**
+     * Loads the tasks that became due within the window since the last sync, or the whole window again after a
+     * reload was requested.
+     */
+    @Scheduled(fixedDelayString = "${app.tasks.reminders.sync-interval-ms:10000}")
+    @Transactional(readOnly = true)
+    public void sync() {
+        LocalDate today = LocalDate.now(clock);
+        LocalDate until = today.plusDays(windowDays + 1L);
+        LocalDate from;
+        synchronized (wheel) {
+            if (reloadRequested || loadedUntil == null) {
+                reloadRequested = false;
+                wheel.clear();
+                from = today;
+            } else if (loadedUntil.isBefore(until)) {
+                from = loadedUntil.isBefore(today) ? today : loadedUntil;
+            } else {
+                return;
+            }
+            // Tasks created while the window is read are scheduled by onTaskEvent; scheduling one twice is harmless
+            loadedUntil = until;
+        }
+        long start = System.nanoTime();
+        int loaded = 0;
+        try (Stream<TaskDueDate> dueDates = repository.streamDueDates(from, until)) {
+            Iterator<TaskDueDate> iterator = dueDates.iterator();
+            while (iterator.hasNext()) {
+                var dueDate = iterator.next();
+                schedule(dueDate.id(), dueDate.dueDate());
+                loaded++;
+            }
+        }
+        log.debug("Loaded {} task reminders due from {} until {} in {} ms", loaded, from, until,
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * Publishes the reminders whose time has come and that no other node has published.
+     */
+    @Scheduled(fixedRateString = "${app.tasks.reminders.tick-ms:1000}")
+    public void tick() {
+        List<TaskDueEvent> due = new ArrayList<>();
+        synchronized (wheel) {
+            wheel.advance(clock.millis(), (taskId, dueDate) -> due.add(new TaskDueEvent(taskId, dueDate)));
+        }
+        if (!due.isEmpty()) {
+            claims.claim(due).forEach(publisher::publishEvent);
+        }
+    }
+
+    int pendingCount() {
+        synchronized (wheel) {
+            return wheel.size();
+        }
+    }
+
+    void onTaskEvent(TaskEvent event) {
+        if (event.type() == TaskEventType.RELOAD || event.task() == null) {
+            reloadRequested = true;
+            return;
+        }
+        var task = event.task();
+        if (task.getId() == null || task.getDueDate() == null) {
+            return;
+        }
+        synchronized (wheel) {
+            if (loadedUntil != null && task.getDueDate().isBefore(loadedUntil)) {
+                schedule(task.getId(), task.getDueDate());
+            }
+        }
+    }
+
+    private void schedule(long taskId, LocalDate dueDate) {
+        long deadline = dueDate.atTime(timeOfDay).atZone(clock.getZone()).toInstant().toEpochMilli();
+        synchronized (wheel) {
+            if (deadline > wheel.expiredUntilMillis()) {
+                wheel.schedule(taskId, dueDate, deadline);
+            }
+        }
+    }
+}
@@ -1,17 +1,37 @@
 package com.example.application.taskmanagement.service;
 
+import com.example.application.permissions.service.RequiresScreen;
+import com.example.application.permissions.service.ScreenAccess;
+import com.example.application.taskmanagement.domain.ArchivedTask;
+import com.example.application.taskmanagement.domain.ArchivedTaskRepository;
 import com.example.application.taskmanagement.domain.Task;
+import com.example.application.taskmanagement.domain.TaskDueCounts;
 import com.example.application.taskmanagement.domain.TaskRepository;
+import com.example.application.taskmanagement.domain.TaskSearchIndex;
 import com.vaadin.hilla.BrowserCallable;
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import jakarta.annotation.security.PermitAll;
+import reactor.core.publisher.Flux;
 
 import java.time.Clock;
 import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 class TaskCreationException extends RuntimeException {
     public TaskCreationException(String message) {
@@ -24,18 +44,45 @@ class TaskCreationException extends RuntimeException {
 // TODO: Remove workaround when https://github.com/vaadin/hilla/issues/3271 is resolved
 public class TaskService {
 
+    static final int MAX_WINDOW_SIZE = 500;
+
+    private static final Comparator<Task> KEYSET_ORDER = Comparator.comparing(Task::getCreationDate)
+        .thenComparing(Task::getId);
+
     private final TaskRepository taskRepository;
 
+    private final ArchivedTaskRepository archivedTaskRepository;
+
+    private final TaskSearchIndex searchIndex;
+
+    private final TaskEventBroadcaster events;
+
+    private final TaskGroupCommitter groupCommitter;
+
     private final Clock clock;
 
-    TaskService(TaskRepository taskRepository, Clock clock) {
+    TaskService(TaskRepository taskRepository, ArchivedTaskRepository archivedTaskRepository,
+            TaskSearchIndex searchIndex, TaskEventBroadcaster events, TaskGroupCommitter groupCommitter, Clock clock) {
         this.taskRepository = taskRepository;
+        this.archivedTaskRepository = archivedTaskRepository;
+        this.searchIndex = searchIndex;
+        this.events = events;
+        this.groupCommitter = groupCommitter;
         this.clock = clock;
     }
 
-    @Transactional
+    /**
+     * Creates a task.
+     * <p>
+     * With {@code app.tasks.group-commit.enabled}, the task is handed to the {@link TaskGroupCommitter} and the call
+     * returns once the batch containing it has committed, or fails if that takes longer than 30 seconds. The method
+     * therefore only joins an existing transaction instead of starting one, so waiting callers do not hold a database
+     * connection each.
+     * </p>
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     @PermitAll
-    @PreAuthorize("@userPermissionService.hasWritePermission('Task List')")
+    @RequiresScreen(name = "Task List", access = ScreenAccess.WRITE)
     public void createTask(String description, @Nullable LocalDate dueDate) {
         if ("fail".equals(description)) {
             throw new TaskCreationException("Task creation failed for testing purposes");
@@ -44,14 +91,191 @@ public class TaskService {
         task.setDescription(description);
         task.setCreationDate(clock.instant());
         task.setDueDate(dueDate);
+        // Inside a caller's transaction the task has to be part of it, so it is written directly
+        if (groupCommitter.isEnabled() && !TransactionSynchronizationManager.isActualTransactionActive()) {
+            awaitGroupCommit(task);
+            return;
+        }
         taskRepository.saveAndFlush(task);
+        events.publishAfterCommit(TaskEvent.created(task));
+    }
+
+    /**
+     * Streams task changes as they are committed, so clients can update what they show without polling. Events that
+     * arrive faster than the client consumes them are coalesced, see {@link TaskEventBroadcaster}.
+     *
+     * @return an endless stream of task events
+     */
+    @PermitAll
+    @RequiresScreen(name = "Task List")
+    public Flux<TaskEvent> subscribe() {
+        return events.subscribe();
     }
 
     @Transactional(readOnly = true)
     @PermitAll
-    @PreAuthorize("@userPermissionService.hasReadPermission('Task List')")
+    @RequiresScreen(name = "Task List")
     public List<Task> list(Pageable pageable) {
         return taskRepository.findAllBy(pageable).getContent();
     }
 
+    /**
+     * Returns the tasks following the given cursor, ordered by creation date and ID.
+     * <p>
+     * Unlike {@link #list(Pageable)}, which skips rows with {@code OFFSET}, this seeks directly to the cursor, so
+     * scrolling deep into the task list costs the same as loading its first window.
+     * </p>
+     * <p>
+     * Tasks moved to the archive by the {@link TaskArchiver} are only included on request. The archive is then read
+     * with the same cursor and merged in, so a window of the combined list costs two index seeks instead of one.
+     * </p>
+     *
+     * @param after the cursor returned with the previous window, or {@code null} for the first window
+     * @param limit the maximum number of tasks to return, capped at {@value #MAX_WINDOW_SIZE}
+     * @param includeArchived whether to include archived tasks
+     * @return the tasks and the cursor of the next window
+     */
+    @Transactional(readOnly = true)
+    @PermitAll
+    @RequiresScreen(name = "Task List")
+    public TaskWindow listAfter(@Nullable TaskCursor after, int limit, boolean includeArchived) {
+        ScrollPosition position = after == null ? ScrollPosition.keyset()
+                : ScrollPosition.forward(Map.of("creationDate", after.creationDate(), "id", after.id()));
+        Limit windowLimit = windowLimit(limit);
+        Window<Task> window = taskRepository.findAllBy(position, Task.KEYSET_SORT, windowLimit);
+        List<Task> items = window.getContent();
+        boolean hasNext = window.hasNext();
+        if (includeArchived) {
+            Window<ArchivedTask> archived = archivedTaskRepository.findAllBy(position, Task.KEYSET_SORT,
+                    windowLimit);
+            // A task archived between the two queries can show up in both
+            Map<Long, Task> merged = new LinkedHashMap<>();
+            for (Task task : items) {
+                merged.put(task.getId(), task);
+            }
+            for (ArchivedTask task : archived) {
+                merged.putIfAbsent(task.getId(), task.toTask());
+            }
+            List<Task> sorted = merged.values().stream().sorted(KEYSET_ORDER).toList();
+            hasNext = hasNext || archived.hasNext() || sorted.size() > windowLimit.max();
+            items = sorted.subList(0, Math.min(sorted.size(), windowLimit.max()));
+        }
+        TaskCursor next = null;
+        if (hasNext && !items.isEmpty()) {
+            Task last = items.getLast();
+            next = new TaskCursor(last.getCreationDate(), last.getId());
+        }
+        return new TaskWindow(items, next);
+    }
+
+    /**
+     * Searches task descriptions for any of the words of the query, best matches first. The last word also matches
+     * longer words it is the start of, so results can be shown while the user is typing.
+     *
+     * @param query free text; case and punctuation are ignored
+     * @param limit the maximum number of tasks to return, capped at {@value #MAX_WINDOW_SIZE}
+     * @return the matching tasks
+     */
+    @Transactional(readOnly = true)
+    @PermitAll
+    @RequiresScreen(name = "Task List")
+    public List<Task> search(String query, int limit) {
+        return findInOrder(searchIndex.search(query, Math.min(limit, MAX_WINDOW_SIZE)));
+    }
+
+    /**
+     * Returns the tasks whose description contains the given word, best matches first.
+     */
+    @Transactional(readOnly = true)
+    @PermitAll
+    @RequiresScreen(name = "Task List")
+    public List<Task> findByTerm(String term, int limit) {
+        return findInOrder(searchIndex.findByTerm(term, Math.min(limit, MAX_WINDOW_SIZE)));
+    }
+
+    /**
+     * Returns the tasks whose description contains a word starting with the given prefix, best matches first.
+     */
+    @Transactional(readOnly = true)
+    @PermitAll
+    @RequiresScreen(name = "Task List")
+    public List<Task> findByPrefix(String prefix, int limit) {
+        return findInOrder(searchIndex.findByPrefix(prefix, Math.min(limit, MAX_WINDOW_SIZE)));
+    }
+
+    /**
+     * Returns the tasks due between the given dates, both inclusive, ordered by due date and creation date.
+     *
+     * @param from the first due date
+     * @param to the last due date
+     * @param limit the maximum number of tasks to return, capped at {@value #MAX_WINDOW_SIZE}
+     * @return the tasks due in the range
+     */
+    @Transactional(readOnly = true)
+    @PermitAll
+    @RequiresScreen(name = "Task List")
+    public List<Task> listDueBetween(LocalDate from, LocalDate to, int limit) {
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Due date range ends before it starts");
+        }
+        return taskRepository.findByDueDateBetween(from, to, Task.DUE_DATE_SORT, windowLimit(limit));
+    }
+
+    /**
+     * Returns the tasks due before today, the longest overdue first.
+     *
+     * @param limit the maximum number of tasks to return, capped at {@value #MAX_WINDOW_SIZE}
+     * @return the overdue tasks
+     */
+    @Transactional(readOnly = true)
+    @PermitAll
+    @RequiresScreen(name = "Task List")
+    public List<Task> listOverdue(int limit) {
+        return taskRepository.findByDueDateBefore(LocalDate.now(clock), Task.DUE_DATE_SORT, windowLimit(limit));
+    }
+
+    /**
+     * Returns how many tasks are overdue, due today and due later this week, for the dashboard.
+     */
+    @Transactional(readOnly = true)
+    @PermitAll
+    @RequiresScreen(name = "Task List")
+    public TaskDueCounts countDue() {
+        LocalDate today = LocalDate.now(clock);
+        return taskRepository.countDue(today, today.plusDays(7));
+    }
+
+    private static Limit windowLimit(int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        return Limit.of(Math.min(limit, MAX_WINDOW_SIZE));
+    }
+
+    private List<Task> findInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Task> byId = new HashMap<>();
+        for (Task task : taskRepository.findAllById(ids)) {
+            byId.put(task.getId(), task);
+        }
+        // A task deleted by another node is still indexed here until the next restart
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    private void awaitGroupCommit(Task task) {
+        try {
+            groupCommitter.submit(task).orTimeout(TaskGroupCommitter.COMMIT_TIMEOUT_SECONDS, TimeUnit.SECONDS).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof TimeoutException) {
+                // The batch may still commit later, so the task is not necessarily lost
+                throw new TaskCreationException("Task creation timed out waiting for the group commit");
+            }
+            throw new TaskCreationException("Task creation failed: " + e.getCause());
+        }
+    }
 }
@@ -0,0 +1,12 @@
+package com.example.application.taskmanagement.service;
+
+import com.example.application.taskmanagement.domain.Task;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * A window of the task list, with the cursor to pass for the following window or {@code null} if this is the last one.
+ */
+public record TaskWindow(List<Task> items, @Nullable TaskCursor next) {
+}
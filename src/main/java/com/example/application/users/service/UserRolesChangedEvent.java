@@ -0,0 +1,9 @@
+package com.example.application.users.service;
+
+/**
+ * Published when a user is saved or deleted, since either may change which roles the user holds.
+ *
+ * @param userId the ID of the affected user
+ */
+public record UserRolesChangedEvent(Long userId) {
+}
@@ -1,10 +1,13 @@
 package com.example.application.users.service;
 
+import com.example.application.base.service.CacheRegion;
+import com.example.application.base.service.CacheVersionService;
 import com.example.application.users.domain.User;
 import com.example.application.users.repository.UserRepository;
 import com.vaadin.flow.server.auth.AnonymousAllowed;
 import com.vaadin.hilla.BrowserCallable;
 import com.vaadin.hilla.crud.CrudRepositoryService;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,9 +17,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService extends CrudRepositoryService<User, Long, UserRepository> {
 
     private final UserRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheVersionService cacheVersionService;
 
-    public UserService(UserRepository repository) {
+    public UserService(UserRepository repository, ApplicationEventPublisher eventPublisher,
+            CacheVersionService cacheVersionService) {
         this.repository = repository;
+        this.eventPublisher = eventPublisher;
+        this.cacheVersionService = cacheVersionService;
     }
 
     @Override
@@ -29,6 +37,23 @@ public class UserService extends CrudRepositoryService<User, Long, UserRepositor
         return repository.findByUsername(username);
     }
 
+    @Override
+    @Transactional
+    public User save(User user) {
+        User saved = super.save(user);
+        cacheVersionService.bump(CacheRegion.USERS);
+        eventPublisher.publishEvent(new UserRolesChangedEvent(saved.getId()));
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public void delete(Long id) {
+        super.delete(id);
+        cacheVersionService.bump(CacheRegion.USERS);
+        eventPublisher.publishEvent(new UserRolesChangedEvent(id));
+    }
+
     @Transactional
     public long count() {
         return repository.count();
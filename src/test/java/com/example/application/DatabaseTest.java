@@ -0,0 +1,32 @@
+package com.example.application;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs a test class against an in-memory H2 database with the JPA slice of the application: every entity and the
+ * repositories of the {@code h2} profile, plus the beans the class adds with {@code @Import}.
+ * <p>
+ * Test methods do not run in a test-managed transaction, so the code under test commits as it does in production and
+ * after-commit listeners fire. Classes sharing the same imports share the application context and database, so each
+ * class clears the tables it writes before every test.
+ * </p>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@DataJpaTest
+@ContextConfiguration(classes = DatabaseTestConfiguration.class)
+@ActiveProfiles("h2")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public @interface DatabaseTest {
+}
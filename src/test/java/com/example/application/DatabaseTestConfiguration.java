@@ -0,0 +1,14 @@
+package com.example.application;
+
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration of the {@link DatabaseTest} classes. Entities and repositories are found from this package, like
+ * they are from {@link Application}, which is not used itself so that no scheduled jobs run during the tests. It is
+ * not a {@code @TestConfiguration}, because Spring Boot only accepts those in addition to a primary configuration.
+ */
+@Configuration(proxyBeanMethods = false)
+@AutoConfigurationPackage
+public class DatabaseTestConfiguration {
+}
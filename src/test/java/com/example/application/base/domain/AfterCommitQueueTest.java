@@ -0,0 +1,94 @@
+package com.example.application.base.domain;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AfterCommitQueueTest {
+
+    private final List<String> handedOver = new ArrayList<>();
+    private final AfterCommitQueue<String> queue = AfterCommitQueue.of(handedOver::add);
+    private final TransactionTemplate outer = new TransactionTemplate(new InMemoryTransactionManager());
+
+    @Test
+    void changes_are_handed_over_on_commit_and_dropped_on_rollback() {
+        outer.executeWithoutResult(status -> {
+            queue.add("kept");
+            assertThat(handedOver).isEmpty();
+        });
+        outer.executeWithoutResult(status -> {
+            queue.add("dropped");
+            status.setRollbackOnly();
+        });
+
+        assertThat(handedOver).containsExactly("kept");
+    }
+
+    @Test
+    void inner_transaction_hands_over_its_own_changes() {
+        var inner = new TransactionTemplate(outer.getTransactionManager());
+        inner.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        outer.executeWithoutResult(status -> {
+            queue.add("outer");
+            inner.executeWithoutResult(innerStatus -> queue.add("inner"));
+            assertThat(handedOver).containsExactly("inner");
+            inner.executeWithoutResult(innerStatus -> {
+                queue.add("rolled back");
+                innerStatus.setRollbackOnly();
+            });
+            queue.add("outer again");
+        });
+
+        assertThat(handedOver).containsExactly("inner", "outer", "outer again");
+    }
+
+    /**
+     * Drives transaction synchronization, suspension included, without a database.
+     */
+    private static final class InMemoryTransactionManager extends AbstractPlatformTransactionManager {
+
+        private int active;
+
+        @Override
+        protected Object doGetTransaction() {
+            return active;
+        }
+
+        @Override
+        protected boolean isExistingTransaction(Object transaction) {
+            return (Integer) transaction > 0;
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            active++;
+        }
+
+        @Override
+        protected Object doSuspend(Object transaction) {
+            return transaction;
+        }
+
+        @Override
+        protected void doResume(Object transaction, Object suspendedResources) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            active--;
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            active--;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.application.base.service;
+
+import com.example.application.base.domain.CacheVersion;
+import com.example.application.base.domain.CacheVersionRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs two application contexts against one in-memory H2 database, the way two nodes share one database in
+ * production.
+ */
+class CacheVersionServiceTest {
+
+    private static final String DATABASE_URL = "jdbc:h2:mem:cache-version-test;DB_CLOSE_DELAY=-1";
+
+    private Node first;
+    private Node second;
+
+    @BeforeEach
+    void startNodes() {
+        first = new Node();
+        second = new Node();
+    }
+
+    @AfterEach
+    void stopNodes() {
+        first.context.close();
+        second.context.close();
+    }
+
+    @Test
+    void committed_bump_is_reported_to_the_other_node_only() {
+        first.inTransaction(() -> first.service.bump(CacheRegion.PERMISSIONS));
+
+        second.service.poll();
+        first.service.poll();
+
+        assertThat(second.events).extracting(CacheRegionChangedEvent::region).containsExactly(CacheRegion.PERMISSIONS);
+        assertThat(first.events).isEmpty();
+    }
+
+    @Test
+    void change_is_reported_once() {
+        first.inTransaction(() -> first.service.bump(CacheRegion.ROLES));
+
+        second.service.poll();
+        second.service.poll();
+
+        assertThat(second.events).hasSize(1);
+    }
+
+    @Test
+    void rolled_back_bump_is_not_reported() {
+        var template = new TransactionTemplate(first.context.getBean(PlatformTransactionManager.class));
+        template.executeWithoutResult(status -> {
+            first.service.bump(CacheRegion.USERS);
+            status.setRollbackOnly();
+        });
+
+        second.service.poll();
+
+        assertThat(second.events).isEmpty();
+    }
+
+    @Test
+    void own_bump_does_not_hide_an_earlier_bump_by_the_other_node() {
+        first.inTransaction(() -> first.service.bump(CacheRegion.ROLES));
+        second.inTransaction(() -> second.service.bump(CacheRegion.ROLES));
+
+        first.service.poll();
+        second.service.poll();
+
+        assertThat(first.events).extracting(CacheRegionChangedEvent::region)
+            .containsExactly(CacheRegion.ROLES);
+        assertThat(second.events).extracting(CacheRegionChangedEvent::region)
+            .containsExactly(CacheRegion.ROLES);
+    }
+
+    @Test
+    void every_region_has_a_row_from_startup_and_a_removed_row_is_recreated() {
+        var repository = first.context.getBean(CacheVersionRepository.class);
+        assertThat(repository.findAll()).extracting(CacheVersion::getRegion)
+            .containsExactlyInAnyOrder(Arrays.stream(CacheRegion.values()).map(Enum::name).toArray(String[]::new));
+
+        repository.deleteById(CacheRegion.REFERENCES.name());
+        first.inTransaction(() -> first.service.bump(CacheRegion.REFERENCES));
+
+        assertThat(repository.findById(CacheRegion.REFERENCES.name())).get()
+            .extracting(CacheVersion::getVersion)
+            .isEqualTo(1L);
+    }
+
+    private static final class Node {
+
+        final ConfigurableApplicationContext context;
+        final CacheVersionService service;
+        final List<CacheRegionChangedEvent> events = new CopyOnWriteArrayList<>();
+
+        Node() {
+            context = new SpringApplicationBuilder(NodeConfiguration.class)
+                .listeners(event -> {
+                    if (event instanceof PayloadApplicationEvent<?> payload
+                            && payload.getPayload() instanceof CacheRegionChangedEvent changed) {
+                        events.add(changed);
+                    }
+                })
+                .run("--spring.main.web-application-type=none", "--spring.main.banner-mode=off",
+                        "--spring.datasource.url=" + DATABASE_URL, "--spring.datasource.username=sa",
+                        "--spring.datasource.password=", "--spring.jpa.hibernate.ddl-auto=update",
+                        "--spring.jpa.show-sql=false", "--spring.sql.init.mode=never");
+            service = context.getBean(CacheVersionService.class);
+        }
+
+        void inTransaction(Runnable action) {
+            new TransactionTemplate(context.getBean(PlatformTransactionManager.class))
+                .executeWithoutResult(status -> action.run());
+        }
+    }
+
+    @SpringBootConfiguration
+    @ImportAutoConfiguration({ DataSourceAutoConfiguration.class, HibernateJpaAutoConfiguration.class,
+            TransactionAutoConfiguration.class })
+    @EntityScan(basePackageClasses = CacheVersion.class)
+    @EnableJpaRepositories(basePackageClasses = CacheVersion.class)
+    @Import({ CacheVersionService.class, CacheVersionRows.class })
+    static class NodeConfiguration {
+    }
+}
@@ -55,7 +55,7 @@ class DataInitializerTest {
 
         verify(roleService, times(2)).save(any());
         verify(userService, times(2)).save(any());
-        verify(functionalAreaService, times(10)).save(any(FunctionalArea.class));
+        verify(functionalAreaService, times(10)).saveInitial(any(FunctionalArea.class));
         // Permissions won't be created because no admin role is found
         verify(permissionService, never()).save(any());
     }
@@ -71,7 +71,7 @@ class DataInitializerTest {
 
         verify(roleService, never()).save(any());
         verify(userService, never()).save(any());
-        verify(functionalAreaService, never()).save(any(FunctionalArea.class));
+        verify(functionalAreaService, never()).saveInitial(any(FunctionalArea.class));
         verify(permissionService, never()).save(any());
     }
 
@@ -86,7 +86,7 @@ class DataInitializerTest {
 
         dataInitializer.run();
 
-        verify(functionalAreaService, times(10)).save(captor.capture());
+        verify(functionalAreaService, times(10)).saveInitial(captor.capture());
         
         var savedAreas = captor.getAllValues();
         assertThat(savedAreas).hasSize(10);
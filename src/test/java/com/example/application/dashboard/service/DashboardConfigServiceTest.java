@@ -0,0 +1,95 @@
+package com.example.application.dashboard.service;
+
+import com.example.application.config.ScreensConfigService;
+import com.example.application.config.ScreensConfigService.PermissionConfig;
+import com.example.application.config.ScreensConfigService.ScreenConfig;
+import com.example.application.dashboard.domain.DashboardTile;
+import com.example.application.security.CurrentUser;
+import com.example.application.security.ScreenPermissions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DashboardConfigServiceTest {
+
+    private static final Map<String, Integer> SCREEN_IDS = Map.of("Task List", 0, "Reference", 1, "Reports", 2);
+
+    @Mock
+    private CurrentUser currentUser;
+
+    @Mock
+    private ScreensConfigService screensConfigService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private DashboardConfigService service;
+
+    @BeforeEach
+    void setUp() {
+        when(screensConfigService.getScreens()).thenReturn(List.of(
+            createScreen(1, "Reports", 3),
+            createScreen(2, "Reference", 2),
+            createScreen(3, "Task List", 1)));
+        service = new DashboardConfigService(currentUser, screensConfigService, meterRegistry);
+        ReflectionTestUtils.invokeMethod(service, "loadConfiguration");
+    }
+
+    @Test
+    void returns_readable_tiles_sorted_by_order() {
+        when(currentUser.getScreenPermissions()).thenReturn(snapshot(1, 0, 2));
+
+        var result = service.getTilesForDashboard();
+
+        assertThat(result).extracting(DashboardTile::getTitle).containsExactly("Task List", "Reports");
+    }
+
+    @Test
+    void reuses_result_for_equal_rights_until_version_changes() {
+        when(currentUser.getScreenPermissions()).thenReturn(snapshot(1, 0), snapshot(1, 0), snapshot(2, 0, 1));
+
+        var first = service.getTilesForMenu();
+        var second = service.getTilesForMenu();
+        var afterChange = service.getTilesForMenu();
+
+        assertThat(second).isSameAs(first);
+        assertThat(afterChange).extracting(DashboardTile::getTitle).containsExactly("Task List", "Reference");
+        assertThat(meterRegistry.get("dashboard.tiles.requests").tags("view", "menu", "cache", "hit").counter().count())
+            .isEqualTo(1);
+        assertThat(meterRegistry.get("dashboard.tiles.requests").tags("view", "menu", "cache", "miss").counter().count())
+            .isEqualTo(2);
+    }
+
+    private ScreenPermissions snapshot(long version, int... readable) {
+        var read = new BitSet();
+        for (int screenId : readable) {
+            read.set(screenId);
+        }
+        return ScreenPermissions.of(version, SCREEN_IDS, read, new BitSet());
+    }
+
+    private ScreenConfig createScreen(int id, String title, int order) {
+        var userPermission = new PermissionConfig();
+        userPermission.setCanRead(true);
+        var screen = new ScreenConfig();
+        screen.setId(id);
+        screen.setTitle(title);
+        screen.setEnabled(true);
+        screen.setShowInMenu(true);
+        screen.setShowInDashboard(true);
+        screen.setOrder(order);
+        screen.setDefaultPermissions(Map.of("USER", userPermission));
+        return screen;
+    }
+}
@@ -2,7 +2,6 @@ package com.example.application.functionalarea.service;
 
 import com.example.application.functionalarea.domain.FunctionalArea;
 import com.example.application.functionalarea.domain.FunctionalAreaRepository;
-import com.example.application.permissions.service.UserPermissionService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,15 +20,12 @@ class FunctionalAreaServiceTest {
 
     @Mock
     private FunctionalAreaRepository repository;
-    
-    @Mock
-    private UserPermissionService userPermissionService;
 
     private FunctionalAreaService service;
 
     @BeforeEach
     void setUp() {
-        service = new FunctionalAreaService(repository, userPermissionService);
+        service = new FunctionalAreaService(repository);
     }
 
     @Test
@@ -0,0 +1,68 @@
+package com.example.application.permissions.repository;
+
+import com.example.application.permissions.dto.PermissionChange;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks the upsert statement of each database and how batch counts are added up. The statement H2 runs is executed
+ * for real in {@code PermissionUpsertTest}.
+ */
+@ExtendWith(MockitoExtension.class)
+class PermissionUpsertRepositoryImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void upsert_statement_matches_the_database() {
+        var repository = new PermissionUpsertRepositoryImpl(jdbcTemplate, "DB2INST1");
+
+        assertThat(repository.upsertSqlFor("H2")).startsWith("MERGE INTO DB2INST1.permissions").contains("KEY (role_id, screen_name)");
+        assertThat(repository.upsertSqlFor("DB2/LINUXX8664")).contains("USING (VALUES").contains("WHEN NOT MATCHED THEN INSERT");
+        assertThat(repository.upsertSqlFor("PostgreSQL")).contains("ON CONFLICT (role_id, screen_name)");
+        assertThatThrownBy(() -> repository.upsertSqlFor("Oracle")).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void table_is_unqualified_without_schema() {
+        var repository = new PermissionUpsertRepositoryImpl(jdbcTemplate, "");
+
+        assertThat(repository.upsertSqlFor("PostgreSQL")).startsWith("INSERT INTO permissions ");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void writes_all_changes_in_batches() {
+        var repository = new PermissionUpsertRepositoryImpl(jdbcTemplate, "");
+        var changes = List.of(new PermissionChange("Users", true, true), new PermissionChange("Roles", true, false));
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+        when(jdbcTemplate.batchUpdate(anyString(), eq(changes), anyInt(), any()))
+            .thenReturn(new int[][] { { 1, -2 } });
+
+        assertThat(repository.upsertAll(7L, changes)).isEqualTo(2);
+    }
+
+    @Test
+    void empty_change_list_does_not_touch_the_database() {
+        var repository = new PermissionUpsertRepositoryImpl(jdbcTemplate, "");
+
+        assertThat(repository.upsertAll(7L, List.of())).isZero();
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
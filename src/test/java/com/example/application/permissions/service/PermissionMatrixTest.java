@@ -0,0 +1,96 @@
+package com.example.application.permissions.service;
+
+import com.example.application.permissions.dto.PermissionDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PermissionMatrixTest {
+
+    @Test
+    void grants_rights_of_any_assigned_role() {
+        var matrix = PermissionMatrix.of(1, List.of(
+            new PermissionDto(1L, 1L, "ADMINISTRATOR", "Users", true, true),
+            new PermissionDto(2L, 2L, "USER", "Task List", true, false),
+            new PermissionDto(3L, 1L, "ADMINISTRATOR", "Task List", true, true)));
+
+        assertThat(matrix.canRead(List.of(2L), "Task List")).isTrue();
+        assertThat(matrix.canWrite(List.of(2L), "Task List")).isFalse();
+        assertThat(matrix.canWrite(List.of(2L, 1L), "Task List")).isTrue();
+        assertThat(matrix.canRead(List.of(2L), "Users")).isFalse();
+        assertThat(matrix.screenCount()).isEqualTo(2);
+    }
+
+    @Test
+    void unknown_screens_and_roles_are_denied() {
+        var matrix = PermissionMatrix.of(1, List.of(new PermissionDto(1L, 1L, "USER", "Task List", true, true)));
+
+        assertThat(matrix.screenId("Reports")).isEqualTo(-1);
+        assertThat(matrix.canRead(List.of(1L), "Reports")).isFalse();
+        assertThat(matrix.canRead(List.of(9L), "Task List")).isFalse();
+        assertThat(matrix.canRead(List.of(1L), null)).isFalse();
+    }
+
+    @Test
+    void roles_inherit_all_rights_of_their_ancestors() {
+        // 3 (SUPERVISOR) -> 2 (USER) -> 1 (GUEST)
+        var matrix = PermissionMatrix.of(1, List.of(
+            new PermissionDto(1L, 1L, "GUEST", "Reference", true, false),
+            new PermissionDto(2L, 2L, "USER", "Task List", true, false),
+            new PermissionDto(3L, 3L, "SUPERVISOR", "Task List", true, true)), Map.of(3L, 2L, 2L, 1L));
+
+        assertThat(matrix.canRead(List.of(3L), "Reference")).isTrue();
+        assertThat(matrix.canWrite(List.of(3L), "Task List")).isTrue();
+        assertThat(matrix.canRead(List.of(2L), "Reference")).isTrue();
+        assertThat(matrix.canWrite(List.of(2L), "Task List")).isFalse();
+        assertThat(matrix.canRead(List.of(1L), "Task List")).isFalse();
+    }
+
+    @Test
+    void hierarchy_change_reuses_stored_rights() {
+        var matrix = PermissionMatrix.of(1, List.of(
+            new PermissionDto(1L, 1L, "USER", "Task List", true, false),
+            new PermissionDto(2L, 2L, "SUPERVISOR", "Reports", true, false)));
+
+        var inherited = matrix.withParents(2, Map.of(2L, 1L));
+        var detached = inherited.withParents(3, Map.of());
+
+        assertThat(matrix.canRead(List.of(2L), "Task List")).isFalse();
+        assertThat(inherited.version()).isEqualTo(2);
+        assertThat(inherited.canRead(List.of(2L), "Task List")).isTrue();
+        assertThat(detached.canRead(List.of(2L), "Task List")).isFalse();
+        assertThat(detached.canRead(List.of(2L), "Reports")).isTrue();
+    }
+
+    @Test
+    void role_refresh_replaces_only_the_given_roles() {
+        var matrix = PermissionMatrix.of(1, List.of(
+            new PermissionDto(1L, 1L, "USER", "Task List", true, true),
+            new PermissionDto(2L, 2L, "SUPERVISOR", "Reports", true, false)), Map.of(2L, 1L));
+
+        var refreshed = matrix.withRoles(2, List.of(1L, 3L), List.of(
+            new PermissionDto(1L, 1L, "USER", "Task List", true, false),
+            new PermissionDto(3L, 3L, "AUDITOR", "Audit", true, false)));
+
+        assertThat(refreshed.version()).isEqualTo(2);
+        assertThat(refreshed.canWrite(List.of(1L), "Task List")).isFalse();
+        assertThat(refreshed.canRead(List.of(2L), "Task List")).isTrue();
+        assertThat(refreshed.canRead(List.of(2L), "Reports")).isTrue();
+        assertThat(refreshed.canRead(List.of(3L), "Audit")).isTrue();
+        assertThat(refreshed.screenCount()).isEqualTo(3);
+        assertThat(matrix.canWrite(List.of(1L), "Task List")).isTrue();
+    }
+
+    @Test
+    void cyclic_hierarchy_keeps_own_rights() {
+        var matrix = PermissionMatrix.of(1, List.of(
+            new PermissionDto(1L, 1L, "A", "Users", true, false),
+            new PermissionDto(2L, 2L, "B", "Roles", true, false)), Map.of(1L, 2L, 2L, 1L));
+
+        assertThat(matrix.canRead(List.of(1L), "Users")).isTrue();
+        assertThat(matrix.canRead(List.of(2L), "Roles")).isTrue();
+    }
+}
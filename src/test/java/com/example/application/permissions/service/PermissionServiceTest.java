@@ -1,14 +1,17 @@
 package com.example.application.permissions.service;
 
+import com.example.application.permissions.dto.PermissionChange;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class PermissionServiceTest {
 
     @Test
     void savePermission_validation_test() {
-        PermissionService service = new PermissionService(null, null);
+        PermissionService service = new PermissionService(null, null, null, null);
         
         assertThatThrownBy(() -> service.savePermission(null, "Dashboard", true, false))
             .isInstanceOf(IllegalArgumentException.class)
@@ -22,4 +25,21 @@ class PermissionServiceTest {
             .isInstanceOf(IllegalArgumentException.class)
             .hasMessage("Screen name cannot be null or empty");
     }
-}
\ No newline at end of file
+
+    @Test
+    void savePermissions_validation_test() {
+        PermissionService service = new PermissionService(null, null, null, null);
+
+        assertThatThrownBy(() -> service.savePermissions(null, List.of()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Role ID cannot be null");
+
+        assertThatThrownBy(() -> service.savePermissions(1L, null))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Permission changes cannot be null");
+
+        assertThatThrownBy(() -> service.savePermissions(1L, List.of(new PermissionChange(" ", true, false))))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Screen name cannot be null or empty");
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.application.permissions.service;
+
+import com.example.application.DatabaseTest;
+import com.example.application.permissions.domain.Permission;
+import com.example.application.permissions.dto.PermissionChange;
+import com.example.application.permissions.repository.PermissionRepository;
+import com.example.application.roles.domain.Role;
+import com.example.application.roles.repository.RoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Runs the native permission upsert behind {@link PermissionService#savePermissions} against an in-memory H2 database.
+ */
+@DatabaseTest
+class PermissionUpsertTest {
+
+    @Autowired
+    PermissionRepository repository;
+
+    @Autowired
+    RoleRepository roleRepository;
+
+    private Role editor;
+    private Role viewer;
+
+    @BeforeEach
+    void createRoles() {
+        repository.deleteAllInBatch();
+        roleRepository.deleteAllInBatch();
+        editor = roleRepository.saveAndFlush(new Role("EDITOR", "Edits tasks"));
+        viewer = roleRepository.saveAndFlush(new Role("VIEWER", "Reads tasks"));
+    }
+
+    @Test
+    void merge_updates_existing_screens_and_inserts_new_ones() {
+        var users = repository.saveAndFlush(new Permission(editor, "Users", true, false));
+        repository.saveAndFlush(new Permission(viewer, "Users", true, false));
+
+        int written = repository.upsertAll(editor.getId(), List.of(new PermissionChange("Users", true, true),
+                new PermissionChange("Roles", true, false)));
+
+        assertThat(written).isEqualTo(2);
+        assertThat(repository.findAll())
+            .extracting(permission -> permission.getRole().getId(), Permission::getScreenName, Permission::isCanRead,
+                    Permission::isCanWrite)
+            .containsExactlyInAnyOrder(tuple(editor.getId(), "Users", true, true),
+                    tuple(editor.getId(), "Roles", true, false), tuple(viewer.getId(), "Users", true, false));
+        assertThat(repository.findById(users.getId())).hasValueSatisfying(row -> assertThat(row.isCanWrite()).isTrue());
+    }
+
+    @Test
+    void changes_beyond_one_batch_are_all_written() {
+        // Batches of 100 statements, the last one partial
+        var changes = IntStream.range(0, 205)
+            .mapToObj(i -> new PermissionChange("Screen " + i, true, i % 2 == 0))
+            .toList();
+
+        assertThat(repository.upsertAll(editor.getId(), changes)).isEqualTo(changes.size());
+        assertThat(repository.upsertAll(editor.getId(), changes)).isEqualTo(changes.size());
+
+        assertThat(repository.count()).isEqualTo(changes.size());
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.application.permissions.service;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScreenAuthorizationManagerTest {
+
+    @Mock
+    private ObjectProvider<UserPermissionService> userPermissionServiceProvider;
+
+    @Mock
+    private UserPermissionService userPermissionService;
+
+    @Mock
+    private MethodInvocation invocation;
+
+    private ScreenAuthorizationManager manager;
+
+    @BeforeEach
+    void setUp() {
+        when(userPermissionServiceProvider.getObject()).thenReturn(userPermissionService);
+        manager = new ScreenAuthorizationManager(userPermissionServiceProvider);
+    }
+
+    @Test
+    void write_requirement_checks_write_permission() throws Exception {
+        var target = new Endpoint();
+        when(invocation.getMethod()).thenReturn(Endpoint.class.getMethod("update"));
+        when(invocation.getThis()).thenReturn(target);
+        when(userPermissionService.hasWritePermission("Task List")).thenReturn(false);
+
+        assertThat(manager.authorize(() -> null, invocation).isGranted()).isFalse();
+        verify(userPermissionService, never()).hasReadPermission(anyString());
+    }
+
+    @Test
+    void read_requirement_is_resolved_once_per_method() throws Exception {
+        var target = new Endpoint();
+        when(invocation.getMethod()).thenReturn(Endpoint.class.getMethod("list"));
+        when(invocation.getThis()).thenReturn(target);
+        when(userPermissionService.hasReadPermission("Task List")).thenReturn(true);
+
+        assertThat(manager.authorize(() -> null, invocation).isGranted()).isTrue();
+        assertThat(manager.authorize(() -> null, invocation).isGranted()).isTrue();
+        verify(invocation, times(1)).getThis();
+    }
+
+    static class Endpoint {
+
+        @RequiresScreen(name = "Task List")
+        public void list() {
+        }
+
+        @RequiresScreen(name = "Task List", access = ScreenAccess.WRITE)
+        public void update() {
+        }
+    }
+}
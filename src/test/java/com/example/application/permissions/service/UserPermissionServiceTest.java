@@ -0,0 +1,62 @@
+package com.example.application.permissions.service;
+
+import com.example.application.security.CurrentUser;
+import com.example.application.security.ScreenPermissions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.BitSet;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class UserPermissionServiceTest {
+
+    @Mock
+    private CurrentUser currentUser;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private UserPermissionService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new UserPermissionService(currentUser, new PermissionMetrics(meterRegistry));
+    }
+
+    @Test
+    void records_checks_by_screen_access_and_outcome() {
+        var read = new BitSet();
+        read.set(0);
+        when(currentUser.getScreenPermissions())
+            .thenReturn(ScreenPermissions.of(1, Map.of("Task List", 0), read, new BitSet()));
+
+        assertThat(service.hasReadPermission("Task List")).isTrue();
+        assertThat(service.hasWritePermission("Task List")).isFalse();
+
+        assertThat(checks("Task List", "read", "granted")).isEqualTo(1);
+        assertThat(checks("Task List", "write", "denied")).isEqualTo(1);
+    }
+
+    @Test
+    void counts_swallowed_exceptions() {
+        when(currentUser.getScreenPermissions()).thenThrow(new IllegalStateException("no session"));
+
+        assertThat(service.hasReadPermission("Users")).isFalse();
+
+        assertThat(checks("Users", "read", "error")).isEqualTo(1);
+        assertThat(meterRegistry.get(PermissionMetrics.CHECK_ERRORS)
+            .tags("screen", "Users", "exception", "IllegalStateException").counter().count()).isEqualTo(1);
+    }
+
+    private long checks(String screen, String access, String outcome) {
+        return meterRegistry.get(PermissionMetrics.CHECKS)
+            .tags("screen", screen, "access", access, "outcome", outcome).timer().count();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.application.reference.service;
+
+import com.example.application.base.service.CacheRegion;
+import com.example.application.base.service.CacheRegionChangedEvent;
+import com.example.application.reference.domain.ReferenceTable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReferenceCacheTest {
+
+    private final ReferenceCache cache = new ReferenceCache(2);
+    private final List<String> loads = new ArrayList<>();
+    private final Function<String, List<ReferenceTable>> loader = category -> {
+        loads.add(category);
+        return List.of(row(1L, category, "A", category + " a"), row(2L, category, "B", category + " b"),
+                row(3L, category, "A", "duplicate"));
+    };
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void categories_are_loaded_once_until_invalidated() {
+        var first = cache.get("colors", loader);
+        var second = cache.get("colors", loader);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.entries()).hasSize(3);
+        assertThat(first.lookup().describe("colors", "B")).isEqualTo("colors b");
+        assertThat(loads).containsExactly("colors");
+
+        cache.invalidate();
+        cache.get("colors", loader);
+
+        assertThat(loads).containsExactly("colors", "colors");
+    }
+
+    @Test
+    void least_recently_used_category_is_evicted() {
+        cache.get("colors", loader);
+        cache.get("sizes", loader);
+        cache.get("colors", loader);
+        cache.get("shapes", loader);
+
+        assertThat(cache.size()).isEqualTo(2);
+        cache.get("colors", loader);
+        cache.get("sizes", loader);
+        assertThat(loads).containsExactly("colors", "sizes", "shapes", "sizes");
+    }
+
+    @Test
+    void snapshot_loaded_during_a_write_is_not_served_afterwards() {
+        Function<String, List<ReferenceTable>> racingLoader = category -> {
+            cache.invalidate();
+            return loader.apply(category);
+        };
+
+        cache.get("colors", racingLoader);
+        cache.get("colors", loader);
+
+        assertThat(loads).containsExactly("colors", "colors");
+    }
+
+    @Test
+    void write_invalidates_only_once_committed() {
+        var before = cache.get("colors", loader);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.invalidateAfterCommit();
+        assertThat(cache.get("colors", loader)).isSameAs(before);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.get("colors", loader)).isNotSameAs(before);
+    }
+
+    @Test
+    void other_nodes_changes_invalidate_the_cache() {
+        long version = cache.version();
+
+        cache.onCacheRegionChanged(new CacheRegionChangedEvent(CacheRegion.ROLES, 3));
+        assertThat(cache.version()).isEqualTo(version);
+
+        cache.onCacheRegionChanged(new CacheRegionChangedEvent(CacheRegion.REFERENCES, 3));
+        assertThat(cache.version()).isEqualTo(version + 1);
+    }
+
+    private static ReferenceTable row(Long id, String category, String code, String description) {
+        var row = new ReferenceTable(code, description);
+        row.setId(id);
+        row.setCategory(category);
+        return row;
+    }
+}
@@ -0,0 +1,165 @@
+package com.example.application.reference.service;
+
+import com.example.application.DatabaseTest;
+import com.example.application.base.service.CacheVersionRows;
+import com.example.application.base.service.CacheVersionService;
+import com.example.application.base.service.ImportError;
+import com.example.application.reference.domain.H2ReferenceRepository;
+import com.example.application.reference.domain.ReferenceTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Imports reference rows into an in-memory H2 database through the {@code MERGE} upsert.
+ */
+@DatabaseTest
+@Import({ ReferenceService.class, ReferenceCategoryLoader.class, ReferenceBatchWriter.class, ReferenceCache.class,
+        CacheVersionService.class, CacheVersionRows.class })
+class ReferenceImportServiceTest {
+
+    @Autowired
+    ReferenceBatchWriter writer;
+
+    @Autowired
+    ReferenceService service;
+
+    @Autowired
+    H2ReferenceRepository repository;
+
+    private ReferenceImportService importService;
+
+    @BeforeEach
+    void clearTable() {
+        repository.deleteAllInBatch();
+        importService = new ReferenceImportService(writer, 3);
+    }
+
+    @Test
+    void new_keys_are_inserted_in_batches() {
+        var report = importCsv("""
+                category,code,description
+                color,R,Red
+                color,G,Green
+                size,L,"Large, very"
+                size,S,Small
+                """);
+
+        assertThat(report.inserted()).isEqualTo(4);
+        assertThat(report.updated()).isZero();
+        assertThat(report.rejected()).isZero();
+        assertThat(report.batchCount()).isEqualTo(2);
+        assertThat(service.list(PageRequest.of(0, 100), null)).extracting(ReferenceTable::getCategory, ReferenceTable::getCode,
+                ReferenceTable::getDescription)
+            .containsExactlyInAnyOrder(tuple("color", "R", "Red"), tuple("color", "G", "Green"),
+                    tuple("size", "L", "Large, very"), tuple("size", "S", "Small"));
+        assertThat(service.resolveAll("size", List.of("L", "S"))).containsExactly("Large, very", "Small");
+    }
+
+    @Test
+    void first_line_is_a_header_only_if_it_names_the_columns() {
+        var report = importCsv("""
+                categoryA,X,Starts like the header
+                category,code,description
+                """);
+
+        assertThat(report.inserted()).isEqualTo(2);
+        assertThat(service.describe("categoryA", "X")).isEqualTo("Starts like the header");
+        assertThat(importCsv("""
+                Category, Code ,Description
+                categoryA,X,Changed
+                """).updated()).isEqualTo(1);
+    }
+
+    @Test
+    void reimport_counts_updates_and_only_changed_rows_get_a_new_version() {
+        importCsv("""
+                color,R,Red
+                color,G,Green
+                color,B,Blue
+                """);
+        var blue = service.list(PageRequest.of(0, 100), null).stream()
+            .filter(row -> row.getCode().equals("B"))
+            .findFirst()
+            .orElseThrow();
+        service.delete(blue.getId());
+        var cursor = service.changesSince(null).cursor();
+
+        var report = importCsv("""
+                color,R,Red
+                color,G,Lime
+                color,B,Blue
+                color,Y,Yellow
+                color,,Nothing
+                """);
+
+        assertThat(report.inserted()).isEqualTo(1);
+        assertThat(report.updated()).isEqualTo(2);
+        assertThat(report.unchanged()).isEqualTo(1);
+        assertThat(report.rejected()).isEqualTo(1);
+        assertThat(report.batches()).singleElement()
+            .satisfies(batch -> assertThat(batch.errors()).extracting(ImportError::line,
+                    ImportError::message)
+                .containsExactly(tuple(5L, "Code is required")));
+        assertThat(service.changesSince(cursor).changes()).extracting(ReferenceChange::code,
+                ReferenceChange::description, ReferenceChange::deleted)
+            .containsExactlyInAnyOrder(tuple("G", "Lime", false), tuple("B", "Blue", false),
+                    tuple("Y", "Yellow", false));
+        assertThat(repository.count()).isEqualTo(4);
+    }
+
+    @Test
+    void a_code_deleted_and_created_again_is_imported_onto_its_one_row() {
+        var blue = service.save(row("color", "B", "Blue"));
+        service.delete(blue.getId());
+        service.save(row("color", "B", "Navy"));
+
+        var report = importCsv("""
+                color,B,Cobalt
+                """);
+
+        assertThat(report.updated()).isEqualTo(1);
+        assertThat(report.rejected()).isZero();
+        assertThat(service.describe("color", "B")).isEqualTo("Cobalt");
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void ndjson_rows_are_upserted_and_the_last_duplicate_wins() {
+        var report = importReferences("""
+                {"category":"unit","code":"KG","description":"Kilo"}
+                {"category":"unit","code":"KG","description":"Kilogram"}
+                {"category":"unit","code":"M"}
+                """, ReferenceFileFormat.NDJSON);
+
+        assertThat(report.inserted()).isEqualTo(1);
+        assertThat(report.updated()).isEqualTo(1);
+        assertThat(report.rejected()).isEqualTo(1);
+        assertThat(service.describe("unit", "KG")).isEqualTo("Kilogram");
+        assertThat(repository.count()).isEqualTo(1);
+    }
+
+    private static ReferenceTable row(String category, String code, String description) {
+        var row = new ReferenceTable(code, description);
+        row.setCategory(category);
+        return row;
+    }
+
+    private ReferenceImportReport importCsv(String content) {
+        return importReferences(content, ReferenceFileFormat.CSV);
+    }
+
+    private ReferenceImportReport importReferences(String content, ReferenceFileFormat format) {
+        return importService.importReferences(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)),
+                format);
+    }
+}
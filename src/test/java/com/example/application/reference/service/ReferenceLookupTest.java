@@ -0,0 +1,65 @@
+package com.example.application.reference.service;
+
+import com.example.application.reference.domain.ReferenceTable;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReferenceLookupTest {
+
+    private final ReferenceLookup lookup = ReferenceLookup.of(List.of(row("country", "DE", "Germany"),
+            row("country", "FR", "France"), row("currency", "EUR", "Euro"), row("country", "DE", "Duplicate"),
+            row(null, "X", "Uncategorized")));
+
+    @Test
+    void codes_are_resolved_within_their_category() {
+        assertThat(lookup.describe("country", "DE")).isEqualTo("Germany");
+        assertThat(lookup.describe("currency", "EUR")).isEqualTo("Euro");
+        assertThat(lookup.describe("country", "EUR")).isNull();
+        assertThat(lookup.describe("language", "DE")).isNull();
+        assertThat(lookup.describe("", "X")).isEqualTo("Uncategorized");
+        assertThat(lookup.size()).isEqualTo(4);
+    }
+
+    @Test
+    void codes_are_resolved_in_bulk_in_their_order() {
+        assertThat(lookup.resolveAll("country", List.of("FR", "XX", "DE", "FR")))
+            .containsExactly("France", null, "Germany", "France");
+        assertThat(lookup.resolveAll("language", List.of("DE", "EN"))).containsExactly(null, null);
+        assertThat(lookup.resolveAll("country", List.of())).isEmpty();
+    }
+
+    @Test
+    void large_categories_resolve_every_code() {
+        List<ReferenceTable> rows = new ArrayList<>();
+        for (int i = 0; i < 10_000; i++) {
+            rows.add(row("item", "C" + i, "Item " + (i % 100)));
+        }
+        var large = ReferenceLookup.of(rows);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(large.describe("item", new String("C" + i))).isEqualTo("Item " + (i % 100));
+        }
+        assertThat(large.describe("item", "C10000")).isNull();
+        // Equal descriptions are shared
+        assertThat(large.describe("item", "C1")).isSameAs(large.describe("item", "C101"));
+    }
+
+    @Test
+    void empty_lookup_resolves_nothing() {
+        var empty = ReferenceLookup.of(List.of());
+
+        assertThat(empty.size()).isZero();
+        assertThat(empty.resolveAll("country", Arrays.asList("DE"))).containsExactly((String) null);
+    }
+
+    private static ReferenceTable row(String category, String code, String description) {
+        var row = new ReferenceTable(code, description);
+        row.setCategory(category);
+        return row;
+    }
+}
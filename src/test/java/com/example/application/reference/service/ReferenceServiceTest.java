@@ -0,0 +1,195 @@
+package com.example.application.reference.service;
+
+import com.example.application.DatabaseTest;
+import com.example.application.base.service.CacheVersionRows;
+import com.example.application.base.service.CacheVersionService;
+import com.example.application.reference.domain.H2ReferenceRepository;
+import com.example.application.reference.domain.ReferenceTable;
+import com.vaadin.hilla.crud.filter.AndFilter;
+import com.vaadin.hilla.crud.filter.PropertyStringFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Runs {@link ReferenceService} against an in-memory H2 database.
+ */
+@DatabaseTest
+@Import({ ReferenceService.class, ReferenceCategoryLoader.class, ReferenceCache.class, CacheVersionService.class,
+        CacheVersionRows.class })
+class ReferenceServiceTest {
+
+    @Autowired
+    ReferenceService service;
+
+    @Autowired
+    H2ReferenceRepository repository;
+
+    @BeforeEach
+    void clearTable() {
+        repository.deleteAllInBatch();
+    }
+
+    @Test
+    void changes_since_a_cursor_include_updates_and_deletions() {
+        var red = service.save(row("color", "R", "Red"));
+        var green = service.save(row("color", "G", "Green"));
+        service.save(row("size", "L", "Large"));
+
+        var initial = service.changesSince(null);
+        assertThat(initial.changes()).extracting(ReferenceChange::code).containsExactly("R", "G", "L");
+        assertThat(initial.changes()).extracting(ReferenceChange::version).isSorted().doesNotHaveDuplicates();
+        assertThat(initial.more()).isFalse();
+        assertThat(service.changesSince(initial.cursor()).changes()).isEmpty();
+
+        red.setDescription("Crimson");
+        service.save(red);
+        service.delete(green.getId());
+
+        var delta = service.changesSince(initial.cursor());
+        assertThat(delta.changes()).extracting(ReferenceChange::code, ReferenceChange::description,
+                ReferenceChange::deleted)
+            .containsExactly(tuple("R", "Crimson", false),
+                    tuple("G", "Green", true));
+        assertThat(service.list(PageRequest.of(0, 100), null)).extracting(ReferenceTable::getCode).containsExactlyInAnyOrder("R", "L");
+        assertThat(service.getTotalCount()).isEqualTo(2);
+    }
+
+    @Test
+    void rows_sharing_a_version_are_paged_by_id() {
+        List<ReferenceTable> rows = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            // As left behind by rows written before change versions existed
+            rows.add(row("legacy", "C" + i, "Legacy " + i));
+        }
+        repository.saveAllAndFlush(rows);
+
+        List<String> codes = new ArrayList<>();
+        ReferenceSyncCursor cursor = null;
+        ReferenceChanges batch;
+        do {
+            batch = service.changesSince(cursor, 3);
+            assertThat(batch.changes()).hasSizeLessThanOrEqualTo(3);
+            batch.changes().forEach(change -> codes.add(change.code()));
+            cursor = batch.cursor();
+        } while (batch.more());
+
+        assertThat(codes).containsExactly("C0", "C1", "C2", "C3", "C4", "C5", "C6");
+    }
+
+    @Test
+    void cursor_ahead_of_the_table_starts_over() {
+        service.save(row("color", "R", "Red"));
+
+        var changes = service.changesSince(new ReferenceSyncCursor(Long.MAX_VALUE, 1));
+
+        assertThat(changes.reset()).isTrue();
+        assertThat(changes.changes()).extracting(ReferenceChange::code).containsExactly("R");
+        assertThat(service.changesSince(changes.cursor()).reset()).isFalse();
+    }
+
+    @Test
+    void cached_categories_follow_committed_writes() {
+        var small = service.save(row("size", "S", "Small"));
+        service.save(row("size", "M", "Medium"));
+        assertThat(service.resolveAll("size", List.of("S", "M", "L"))).containsExactly("Small", "Medium", null);
+
+        service.save(row("size", "L", "Large"));
+        service.delete(small.getId());
+
+        assertThat(service.resolveAll("size", List.of("S", "M", "L"))).containsExactly(null, "Medium", "Large");
+        assertThat(service.listByCategory("size")).extracting(ReferenceEntry::code)
+            .containsExactlyInAnyOrder("M", "L");
+    }
+
+    @Test
+    void deleting_a_missing_or_deleted_row_is_rejected() {
+        var row = service.save(row("color", "B", "Blue"));
+        service.delete(row.getId());
+
+        assertThatThrownBy(() -> service.delete(row.getId())).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.delete(-1L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void saving_a_deleted_code_again_brings_its_row_back() {
+        var blue = service.save(row("color", "B", "Blue"));
+        service.delete(blue.getId());
+
+        var again = service.save(row("color", "B", "Navy"));
+
+        assertThat(again.getId()).isEqualTo(blue.getId());
+        assertThat(again.isDeleted()).isFalse();
+        assertThat(service.describe("color", "B")).isEqualTo("Navy");
+        assertThat(repository.count()).isEqualTo(1);
+        assertThatThrownBy(() -> service.save(row("color", "B", "Cyan")))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Reference 'B' already exists in category 'color'");
+    }
+
+    @Test
+    void grid_pages_are_filtered_and_sorted_as_slices() {
+        service.save(row("color", "R", "Red"));
+        service.save(row("color", "G", "Green"));
+        service.save(row("color", "B", "Brown"));
+        service.save(row("color", "W", "White"));
+        var grey = service.save(row("color", "Y", "Grey"));
+        service.save(row("size", "R", "Regular"));
+        service.delete(grey.getId());
+
+        var filter = new AndFilter();
+        filter.setChildren(List.of(property("category", PropertyStringFilter.Matcher.EQUALS, "color"),
+                property("description", PropertyStringFilter.Matcher.CONTAINS, "R")));
+        Slice<ReferenceTable> first = service.slice(PageRequest.of(0, 2, Sort.by(Sort.Order.desc("code"))), filter);
+        Slice<ReferenceTable> second = service.slice(first.nextPageable(), filter);
+
+        assertThat(first).isNotInstanceOf(Page.class);
+        assertThat(first.getContent()).extracting(ReferenceTable::getCode).containsExactly("R", "G");
+        assertThat(first.hasNext()).isTrue();
+        assertThat(second.getContent()).extracting(ReferenceTable::getCode).containsExactly("B");
+        assertThat(second.hasNext()).isFalse();
+        assertThat(service.list(PageRequest.of(0, 10), null)).extracting(ReferenceTable::getCategory,
+                ReferenceTable::getCode)
+            .containsExactly(tuple("color", "B"), tuple("color", "G"), tuple("color", "R"), tuple("color", "W"),
+                    tuple("size", "R"));
+    }
+
+    @Test
+    void grid_requests_outside_the_listed_columns_or_page_size_are_rejected() {
+        var byVersion = property("changeVersion", PropertyStringFilter.Matcher.EQUALS, "1");
+
+        assertThatThrownBy(() -> service.list(PageRequest.of(0, 10), byVersion))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.list(PageRequest.of(0, 10, Sort.by("deleted")), null))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.list(PageRequest.of(0, ReferenceService.MAX_PAGE_SIZE + 1), null))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static PropertyStringFilter property(String property, PropertyStringFilter.Matcher matcher,
+            String value) {
+        var filter = new PropertyStringFilter();
+        filter.setPropertyId(property);
+        filter.setMatcher(matcher);
+        filter.setFilterValue(value);
+        return filter;
+    }
+
+    private static ReferenceTable row(String category, String code, String description) {
+        var row = new ReferenceTable(code, description);
+        row.setCategory(category);
+        return row;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.application.roles.service;
+
+import com.example.application.base.service.CacheVersionService;
+import com.example.application.roles.domain.Role;
+import com.example.application.roles.repository.RoleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RoleServiceTest {
+
+    @Mock
+    private RoleRepository repository;
+
+    @Mock
+    private CacheVersionService cacheVersionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private RoleService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new RoleService(repository, cacheVersionService, eventPublisher);
+    }
+
+    @Test
+    void rejects_role_as_its_own_parent() {
+        var role = createRole(1L, "SUPERVISOR", 1L);
+
+        assertThatThrownBy(() -> service.save(role))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Role 'SUPERVISOR' cannot inherit from itself");
+    }
+
+    @Test
+    void rejects_parent_that_inherits_from_the_role() {
+        var role = createRole(1L, "SUPERVISOR", 2L);
+        when(repository.findById(2L)).thenReturn(Optional.of(createRole(2L, "USER", 1L)));
+
+        assertThatThrownBy(() -> service.save(role))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Role 'SUPERVISOR' cannot inherit from role 'USER': inheritance cycle at role 'USER'");
+    }
+
+    @Test
+    void reports_a_cycle_over_several_roles_at_the_role_closing_it() {
+        var role = createRole(1L, "SUPERVISOR", 2L);
+        when(repository.findById(2L)).thenReturn(Optional.of(createRole(2L, "MANAGER", 3L)));
+        when(repository.findById(3L)).thenReturn(Optional.of(createRole(3L, "USER", 1L)));
+
+        assertThatThrownBy(() -> service.save(role))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Role 'SUPERVISOR' cannot inherit from role 'MANAGER': inheritance cycle at role 'USER'");
+    }
+
+    @Test
+    void reports_a_cycle_among_the_ancestors() {
+        var role = createRole(null, "SUPERVISOR", 2L);
+        when(repository.findById(2L)).thenReturn(Optional.of(createRole(2L, "MANAGER", 3L)));
+        when(repository.findById(3L)).thenReturn(Optional.of(createRole(3L, "USER", 2L)));
+
+        assertThatThrownBy(() -> service.save(role))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Role 'SUPERVISOR' cannot inherit from role 'MANAGER': inheritance cycle at role 'USER'");
+    }
+
+    @Test
+    void rejects_unknown_parent() {
+        var role = createRole(null, "SUPERVISOR", 7L);
+        when(repository.findById(7L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.save(role))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Parent role not found with ID: 7");
+    }
+
+    private Role createRole(Long id, String name, Long parentId) {
+        var role = new Role(name, name);
+        role.setId(id);
+        role.setParentId(parentId);
+        return role;
+    }
+}
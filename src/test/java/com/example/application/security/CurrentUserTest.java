@@ -0,0 +1,61 @@
+package com.example.application.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+
+import java.util.BitSet;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CurrentUserTest {
+
+    @Mock
+    private ScreenPermissionsResolver resolver;
+
+    @Mock
+    private AppUserPrincipal principal;
+
+    @Mock
+    private SecurityContextHolderStrategy securityContextHolderStrategy;
+
+    private CurrentUser currentUser;
+
+    @BeforeEach
+    void setUp() {
+        currentUser = new CurrentUser(securityContextHolderStrategy, resolver);
+    }
+
+    @Test
+    void keeps_snapshot_while_version_is_current() {
+        var snapshot = snapshot(3);
+        when(principal.getScreenPermissions()).thenReturn(snapshot);
+        when(resolver.currentVersion()).thenReturn(3L);
+
+        assertThat(currentUser.getScreenPermissions(principal)).isSameAs(snapshot);
+        verify(resolver, never()).resolve(any());
+    }
+
+    @Test
+    void refreshes_missing_or_stale_snapshot() {
+        var fresh = snapshot(4);
+        when(principal.getScreenPermissions()).thenReturn(snapshot(3));
+        when(resolver.currentVersion()).thenReturn(4L);
+        when(resolver.resolve(principal)).thenReturn(fresh);
+
+        assertThat(currentUser.getScreenPermissions(principal)).isSameAs(fresh);
+        verify(principal).setScreenPermissions(fresh);
+    }
+
+    private ScreenPermissions snapshot(long version) {
+        var bits = new BitSet();
+        bits.set(0);
+        return ScreenPermissions.of(version, Map.of("Task List", 0), bits, new BitSet());
+    }
+}
@@ -3,6 +3,7 @@ package com.example.application.security.hilla;
 import com.example.application.security.AppUserInfo;
 import com.example.application.security.AppUserPrincipal;
 import com.example.application.security.CurrentUser;
+import com.example.application.security.ScreenPermissions;
 import com.example.application.security.domain.UserId;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,8 +13,10 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationCredentialsNotFoundException;
 
 import java.time.ZoneId;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -53,6 +56,13 @@ class CurrentUserServiceTest {
         when(userInfo.getEmail()).thenReturn("john@example.com");
         when(userInfo.getZoneId()).thenReturn(ZoneId.of("Europe/Helsinki"));
         when(userInfo.getLocale()).thenReturn(Locale.US);
+        var read = new BitSet();
+        read.set(0);
+        read.set(1);
+        var write = new BitSet();
+        write.set(0);
+        when(currentUser.getScreenPermissions(principal)).thenReturn(
+                ScreenPermissions.of(1, Map.of("Task List", 0, "Reference", 1), read, write));
 
         var result = service.getUserInfo();
 
@@ -65,6 +75,8 @@ class CurrentUserServiceTest {
         assertThat(result.zoneId()).isEqualTo("Europe/Helsinki");
         assertThat(result.locale()).isEqualTo("en_US");
         assertThat(result.authorities()).isEmpty();
+        assertThat(result.readableScreens()).containsExactly("Reference", "Task List");
+        assertThat(result.writableScreens()).containsExactly("Task List");
     }
 
     @Test
@@ -82,6 +94,7 @@ class CurrentUserServiceTest {
         when(userInfo.getEmail()).thenReturn(null);
         when(userInfo.getZoneId()).thenReturn(ZoneId.of("UTC"));
         when(userInfo.getLocale()).thenReturn(Locale.ENGLISH);
+        when(currentUser.getScreenPermissions(principal)).thenReturn(ScreenPermissions.NONE);
 
         var result = service.getUserInfo();
 
@@ -90,6 +103,7 @@ class CurrentUserServiceTest {
         assertThat(result.email()).isNull();
         assertThat(result.zoneId()).isEqualTo("UTC");
         assertThat(result.locale()).isEqualTo("en");
+        assertThat(result.readableScreens()).isEmpty();
     }
 
     @Test
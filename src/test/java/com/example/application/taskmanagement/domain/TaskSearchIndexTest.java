@@ -0,0 +1,88 @@
+package com.example.application.taskmanagement.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSearchIndexTest {
+
+    @Mock
+    private TaskRepository repository;
+
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TaskSearchIndex(repository);
+        index.index(1L, "Write the quarterly report");
+        index.index(2L, "Review report draft, then report back");
+        index.index(3L, "Book flights to Berlin");
+        index.index(4L, "Reply to Bob");
+    }
+
+    @Test
+    void words_are_lower_cased_and_split_at_punctuation() {
+        assertThat(TaskSearchIndex.tokenize("Fix BUG-42: crash (again)")).containsExactly("fix", "bug", "42", "crash",
+                "again");
+    }
+
+    @Test
+    void term_query_matches_whole_words_only() {
+        assertThat(index.findByTerm("Report", 10)).containsExactly(2L, 1L);
+        assertThat(index.findByTerm("rep", 10)).isEmpty();
+    }
+
+    @Test
+    void prefix_query_matches_the_start_of_words() {
+        assertThat(index.findByPrefix("re", 10)).containsExactlyInAnyOrder(1L, 2L, 4L);
+        assertThatThrownBy(() -> index.findByPrefix("two words", 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void ranked_query_prefers_tasks_matching_more_and_rarer_words() {
+        assertThat(index.search("report berl", 10)).containsExactly(3L, 2L, 1L);
+        assertThat(index.search("quarterly report", 1)).containsExactly(1L);
+        assertThat(index.search("  ", 10)).isEmpty();
+    }
+
+    @Test
+    void reindexing_replaces_the_old_words() {
+        index.index(3L, "Book trains to Paris");
+
+        assertThat(index.findByTerm("berlin", 10)).isEmpty();
+        assertThat(index.findByTerm("paris", 10)).containsExactly(3L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    void removed_tasks_are_not_found() {
+        index.remove(1L);
+        index.remove(99L);
+
+        assertThat(index.findByTerm("report", 10)).containsExactly(2L);
+        assertThat(index.findByTerm("quarterly", 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @Transactional
+    void rebuild_replaces_the_contents_with_the_database_state() {
+        when(repository.streamDescriptions()).thenReturn(Stream.of(new TaskDescription(7L, "Water the plants")));
+
+        index.rebuild();
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("plant", 10)).containsExactly(7L);
+        assertThat(index.findByTerm("report", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.application.taskmanagement.domain;
+
+import com.example.application.DatabaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs {@link TaskStatistics} against an in-memory H2 database, so both the incremental updates through
+ * {@link TaskStatisticsListener} and the rebuild query are exercised for real.
+ */
+@DatabaseTest
+@Import(TaskStatistics.class)
+class TaskStatisticsTest {
+
+    private static final LocalDate MONDAY = LocalDate.parse("2025-03-10");
+
+    @Autowired
+    TaskRepository repository;
+
+    @Autowired
+    ArchivedTaskRepository archivedRepository;
+
+    @Autowired
+    TaskStatistics statistics;
+
+    @BeforeEach
+    void createTasks() {
+        repository.deleteAllInBatch();
+        archivedRepository.deleteAllInBatch();
+        statistics.rebuild();
+        repository.saveAllAndFlush(List.of(task("2025-03-10T08:00:00Z", MONDAY.plusDays(2)),
+                task("2025-03-10T23:30:00Z", MONDAY.plusDays(2)), task("2025-03-11T09:00:00Z", MONDAY),
+                task("2025-03-12T09:00:00Z", null)));
+    }
+
+    @Test
+    void committed_tasks_are_counted_per_day() {
+        assertThat(statistics.daily(MONDAY, MONDAY.plusDays(3))).containsExactly(
+                new TaskDayStatistics(MONDAY, 2, 1, 0), new TaskDayStatistics(MONDAY.plusDays(1), 1, 0, 1),
+                new TaskDayStatistics(MONDAY.plusDays(2), 1, 2, 1), new TaskDayStatistics(MONDAY.plusDays(3), 0, 0, 3));
+        assertThat(statistics.total()).isEqualTo(4);
+        assertThat(statistics.overdue(MONDAY.plusDays(30))).isEqualTo(3);
+    }
+
+    @Test
+    void rebuild_matches_the_incremental_counts() {
+        var incremental = statistics.daily(MONDAY.minusDays(5), MONDAY.plusDays(5));
+
+        statistics.rebuild();
+
+        assertThat(statistics.daily(MONDAY.minusDays(5), MONDAY.plusDays(5))).isEqualTo(incremental);
+        assertThat(statistics.total()).isEqualTo(4);
+    }
+
+    @Test
+    void changes_the_rebuild_already_saw_are_not_counted_twice() {
+        var saved = repository.saveAndFlush(task("2025-04-01T12:00:00Z", LocalDate.parse("2025-04-02")));
+        var dates = new TaskDates(saved.getId(), saved.getCreationDate(), saved.getDueDate());
+        statistics.rebuild();
+
+        // As if the listener applied the commit only after the rebuild had read the task
+        statistics.add(dates, false);
+        statistics.remove(-1L, false);
+
+        assertThat(statistics.total()).isEqualTo(5);
+        assertThat(statistics.daily(saved.getDueDate(), saved.getDueDate()).getFirst().due()).isEqualTo(1);
+    }
+
+    @Test
+    void archived_tasks_are_counted_but_not_overdue() {
+        var task = repository.findAll().stream().filter(candidate -> MONDAY.equals(candidate.getDueDate())).findFirst()
+            .orElseThrow();
+        archivedRepository.saveAndFlush(new ArchivedTask(task, Instant.parse("2025-03-20T00:00:00Z")));
+        repository.delete(task);
+
+        assertThat(statistics.total()).isEqualTo(4);
+        assertThat(statistics.daily(MONDAY, MONDAY).getFirst().due()).isEqualTo(1);
+        assertThat(statistics.overdue(MONDAY.plusDays(30))).isEqualTo(2);
+
+        statistics.rebuild();
+
+        assertThat(statistics.total()).isEqualTo(4);
+        assertThat(statistics.overdue(MONDAY.plusDays(30))).isEqualTo(2);
+    }
+
+    @Test
+    void deleted_and_rolled_back_tasks_are_not_counted() {
+        var saved = repository.saveAndFlush(task("2025-04-01T12:00:00Z", LocalDate.parse("2025-04-02")));
+        assertThat(statistics.daily(saved.getDueDate(), saved.getDueDate()).getFirst().due()).isEqualTo(1);
+
+        repository.delete(saved);
+        assertThatThrownBy(() -> repository.saveAndFlush(task("2025-04-01T12:00:00Z", null, "x".repeat(300))))
+            .isInstanceOf(RuntimeException.class);
+
+        assertThat(statistics.daily(LocalDate.parse("2025-04-01"), LocalDate.parse("2025-04-02")))
+            .allSatisfy(day -> assertThat(day.created() + day.due()).isZero());
+        assertThat(statistics.total()).isEqualTo(4);
+    }
+
+    @Test
+    void reversed_range_is_rejected() {
+        assertThatThrownBy(() -> statistics.daily(MONDAY, MONDAY.minusDays(1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static Task task(String creationDate, LocalDate dueDate) {
+        return task(creationDate, dueDate, "Task created " + creationDate);
+    }
+
+    private static Task task(String creationDate, LocalDate dueDate, String description) {
+        var task = new Task();
+        task.setDescription(description);
+        task.setCreationDate(Instant.parse(creationDate));
+        task.setDueDate(dueDate);
+        return task;
+    }
+}
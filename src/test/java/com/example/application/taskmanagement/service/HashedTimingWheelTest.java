@@ -0,0 +1,94 @@
+package com.example.application.taskmanagement.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HashedTimingWheelTest {
+
+    private static final long START = 1_000_000;
+
+    private final HashedTimingWheel<String> wheel = new HashedTimingWheel<>(10, 8, START);
+    private final List<String> expired = new ArrayList<>();
+
+    @Test
+    void timeouts_expire_in_deadline_order_and_never_early() {
+        wheel.schedule(1, "b", START + 25);
+        wheel.schedule(2, "a", START + 10);
+        wheel.schedule(3, "c", START + 40);
+
+        assertThat(advance(START + 29)).containsExactly("a");
+        assertThat(advance(START + 30)).containsExactly("b");
+        assertThat(advance(START + 100)).containsExactly("c");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void timeouts_more_than_one_revolution_ahead_wait_for_their_round() {
+        // 8 buckets of 10 ms: these three share a bucket
+        wheel.schedule(1, "first", START + 30);
+        wheel.schedule(2, "second", START + 110);
+        wheel.schedule(3, "third", START + 190);
+
+        assertThat(advance(START + 100)).containsExactly("first");
+        assertThat(advance(START + 189)).containsExactly("second");
+        assertThat(advance(START + 10_000)).containsExactly("third");
+    }
+
+    @Test
+    void scheduling_a_key_again_replaces_its_timeout() {
+        wheel.schedule(1, "early", START + 10);
+        wheel.schedule(1, "late", START + 50);
+
+        assertThat(advance(START + 40)).isEmpty();
+        assertThat(advance(START + 50)).containsExactly("late");
+    }
+
+    @Test
+    void cancelled_timeouts_do_not_expire() {
+        wheel.schedule(1, "a", START + 10);
+        wheel.schedule(2, "b", START + 10);
+        wheel.schedule(3, "c", START + 10);
+
+        assertThat(wheel.cancel(2)).isTrue();
+        assertThat(wheel.cancel(2)).isFalse();
+        assertThat(advance(START + 10)).containsExactlyInAnyOrder("a", "c");
+    }
+
+    @Test
+    void past_deadlines_expire_on_the_next_advance() {
+        advance(START + 50);
+        wheel.schedule(1, "late", START + 20);
+
+        assertThat(wheel.expiredUntilMillis()).isEqualTo(START + 50);
+        assertThat(advance(START + 50)).isEmpty();
+        assertThat(advance(START + 60)).containsExactly("late");
+    }
+
+    @Test
+    void clear_removes_all_timeouts() {
+        wheel.schedule(1, "a", START + 10);
+        wheel.schedule(2, "b", START + 500);
+
+        wheel.clear();
+
+        assertThat(wheel.size()).isZero();
+        assertThat(advance(START + 1_000)).isEmpty();
+    }
+
+    @Test
+    void invalid_configuration_is_rejected() {
+        assertThatThrownBy(() -> new HashedTimingWheel<>(0, 8, START)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HashedTimingWheel<>(10, 0, START)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private List<String> advance(long now) {
+        expired.clear();
+        wheel.advance(now, (key, value) -> expired.add(value));
+        return expired;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.application.taskmanagement.service;
+
+import com.example.application.DatabaseTest;
+import com.example.application.taskmanagement.domain.ArchivedTaskRepository;
+import com.example.application.taskmanagement.domain.Task;
+import com.example.application.taskmanagement.domain.TaskRepository;
+import com.example.application.taskmanagement.domain.TaskDayStatistics;
+import com.example.application.taskmanagement.domain.TaskSearchIndex;
+import com.example.application.taskmanagement.domain.TaskStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Archives tasks in an in-memory H2 database and reads them back through {@link TaskService#listAfter}.
+ */
+@DatabaseTest
+@Import({ TaskBatchWriter.class, TaskSearchIndex.class, TaskStatistics.class, TaskEventBroadcaster.class })
+class TaskArchiverTest {
+
+    private static final Instant NOW = Instant.parse("2025-06-01T12:00:00Z");
+    private static final LocalDate TODAY = LocalDate.parse("2025-06-01");
+    private static final int TASK_COUNT = 12;
+
+    @Autowired
+    TaskRepository repository;
+
+    @Autowired
+    ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    TaskBatchWriter writer;
+
+    @Autowired
+    TaskSearchIndex searchIndex;
+
+    @Autowired
+    TaskStatistics statistics;
+
+    @Autowired
+    TaskEventBroadcaster events;
+
+    private TaskService service;
+    private int archived;
+
+    @BeforeEach
+    void archiveTasks() {
+        archivedTaskRepository.deleteAllInBatch();
+        repository.deleteAllInBatch();
+        searchIndex.rebuild();
+        statistics.rebuild();
+        List<Task> tasks = new ArrayList<>();
+        // One task per 20 days back from now, so tasks 0 to 4 are younger than 90 days and 5 to 11 older
+        for (int i = 0; i < TASK_COUNT; i++) {
+            var task = new Task();
+            task.setDescription("Task " + i);
+            task.setCreationDate(NOW.minus(i * 20L, ChronoUnit.DAYS));
+            task.setDueDate(TODAY.minusDays(i * 20L - 1));
+            tasks.add(task);
+        }
+        repository.saveAllAndFlush(tasks);
+
+        var clock = Clock.fixed(NOW, ZoneOffset.UTC);
+        archived = new TaskArchiver(writer, clock, true, 90, 3, 10).archive();
+        service = new TaskService(repository, archivedTaskRepository, searchIndex, events,
+                new TaskGroupCommitter(null, false, 100, 5, 10_000), clock);
+    }
+
+    @Test
+    void tasks_older_than_the_maximum_age_are_moved_in_chunks() {
+        assertThat(archived).isEqualTo(7);
+        assertThat(repository.count()).isEqualTo(5);
+        assertThat(archivedTaskRepository.count()).isEqualTo(7);
+        assertThat(searchIndex.size()).isEqualTo(5);
+    }
+
+    @Test
+    void hot_list_excludes_archived_tasks() {
+        assertThat(service.listAfter(null, 100, false).items()).extracting(Task::getDescription)
+            .containsExactly("Task 4", "Task 3", "Task 2", "Task 1", "Task 0");
+    }
+
+    @Test
+    void unified_list_merges_the_archive_in_creation_order() {
+        List<Task> seen = new ArrayList<>();
+        TaskCursor cursor = null;
+        do {
+            TaskWindow window = service.listAfter(cursor, 4, true);
+            assertThat(window.items()).hasSizeLessThanOrEqualTo(4);
+            seen.addAll(window.items());
+            cursor = window.next();
+        } while (cursor != null);
+
+        assertThat(seen).hasSize(TASK_COUNT);
+        assertThat(seen).extracting(Task::getId).doesNotHaveDuplicates();
+        assertThat(seen).extracting(Task::getCreationDate).isSorted();
+    }
+
+    @Test
+    void archived_tasks_are_still_counted_in_the_statistics_but_not_overdue() {
+        var daily = statistics.daily(TODAY.minusYears(1), TODAY);
+        assertThat(daily).extracting(TaskDayStatistics::created).containsOnly(0L, 1L);
+        assertThat(daily.stream().mapToLong(TaskDayStatistics::created).sum()).isEqualTo(TASK_COUNT);
+        assertThat(statistics.total()).isEqualTo(TASK_COUNT);
+        // Tasks 1 to 4 are overdue; the archived ones no longer count, as on the dashboard
+        assertThat(statistics.overdue(TODAY)).isEqualTo(4).isEqualTo(service.countDue().overdue());
+
+        statistics.rebuild();
+
+        assertThat(statistics.daily(TODAY.minusYears(1), TODAY)).isEqualTo(daily);
+        assertThat(statistics.total()).isEqualTo(TASK_COUNT);
+        assertThat(statistics.overdue(TODAY)).isEqualTo(4);
+    }
+
+    @Test
+    void nothing_is_left_to_archive_on_the_next_run() {
+        var archiver = new TaskArchiver(writer, Clock.fixed(NOW, ZoneOffset.UTC), true, 90, 3, 10);
+
+        assertThat(archiver.archive()).isZero();
+    }
+}
@@ -0,0 +1,190 @@
+package com.example.application.taskmanagement.service;
+
+import com.example.application.taskmanagement.domain.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TaskEventBroadcasterTest {
+
+    private final ManualScheduler scheduler = new ManualScheduler();
+    private TaskEventBroadcaster broadcaster;
+    private RecordingSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new TaskEventBroadcaster(Duration.ofMillis(100), scheduler);
+        subscriber = new RecordingSubscriber();
+    }
+
+    @AfterEach
+    void tearDown() {
+        subscriber.dispose();
+    }
+
+    @Test
+    void events_are_delivered_once_the_window_elapses() {
+        broadcaster.subscribe().subscribe(subscriber);
+        subscriber.request(10);
+
+        broadcaster.publishAfterCommit(TaskEvent.created(task(1L)));
+        broadcaster.publishAfterCommit(TaskEvent.created(task(2L)));
+        assertThat(subscriber.received).isEmpty();
+
+        scheduler.runPending();
+
+        assertThat(subscriber.received).extracting(event -> event.task().getId()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void events_for_the_same_task_are_coalesced() {
+        broadcaster.subscribe().subscribe(subscriber);
+        subscriber.request(10);
+        var first = task(1L);
+        var second = task(1L);
+
+        broadcaster.publishAfterCommit(TaskEvent.created(first));
+        broadcaster.publishAfterCommit(TaskEvent.created(second));
+        scheduler.runPending();
+
+        assertThat(subscriber.received).singleElement().extracting(TaskEvent::task).isSameAs(second);
+    }
+
+    @Test
+    void slow_subscriber_only_gets_what_it_requested() {
+        broadcaster.subscribe().subscribe(subscriber);
+        subscriber.request(1);
+
+        broadcaster.publishAfterCommit(TaskEvent.created(task(1L)));
+        broadcaster.publishAfterCommit(TaskEvent.created(task(2L)));
+        scheduler.runPending();
+        assertThat(subscriber.received).hasSize(1);
+
+        subscriber.request(1);
+        scheduler.runPending();
+        assertThat(subscriber.received).extracting(event -> event.task().getId()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void overflowing_queue_collapses_into_a_reload() {
+        broadcaster.subscribe().subscribe(subscriber);
+
+        for (long id = 1; id <= TaskEventBroadcaster.MAX_PENDING + 1; id++) {
+            broadcaster.publishAfterCommit(TaskEvent.created(task(id)));
+        }
+        subscriber.request(10);
+        scheduler.runPending();
+
+        assertThat(subscriber.received).extracting(TaskEvent::type).containsExactly(TaskEventType.RELOAD);
+    }
+
+    @Test
+    void events_are_published_only_when_the_transaction_commits() {
+        broadcaster.subscribe().subscribe(subscriber);
+        subscriber.request(10);
+
+        inTransaction(TransactionSynchronization.STATUS_ROLLED_BACK,
+                () -> broadcaster.publishAfterCommit(TaskEvent.created(task(1L))));
+        scheduler.runPending();
+        assertThat(subscriber.received).isEmpty();
+
+        inTransaction(TransactionSynchronization.STATUS_COMMITTED,
+                () -> broadcaster.publishAfterCommit(TaskEvent.created(task(2L))));
+        scheduler.runPending();
+        assertThat(subscriber.received).extracting(event -> event.task().getId()).containsExactly(2L);
+    }
+
+    @Test
+    void cancelled_subscriber_is_removed() {
+        broadcaster.subscribe().subscribe(subscriber);
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+
+        subscriber.dispose();
+
+        assertThat(broadcaster.subscriberCount()).isZero();
+    }
+
+    private static void inTransaction(int status, Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.run();
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronizations.forEach(TransactionSynchronization::afterCommit);
+            }
+            synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static Task task(Long id) {
+        var task = new Task();
+        ReflectionTestUtils.setField(task, "id", id);
+        task.setDescription("Task " + id);
+        return task;
+    }
+
+    private static final class RecordingSubscriber extends BaseSubscriber<TaskEvent> {
+
+        private final List<TaskEvent> received = new ArrayList<>();
+
+        @Override
+        protected void hookOnSubscribe(Subscription subscription) {
+            // Demand is requested explicitly by the tests
+        }
+
+        @Override
+        protected void hookOnNext(TaskEvent event) {
+            received.add(event);
+        }
+    }
+
+    /**
+     * Runs delayed tasks only when the test asks for it, so the coalescing window does not depend on timing.
+     */
+    private static final class ManualScheduler implements Scheduler {
+
+        private final List<Runnable> pending = new ArrayList<>();
+
+        @Override
+        public Disposable schedule(Runnable task) {
+            task.run();
+            return () -> {
+            };
+        }
+
+        @Override
+        public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+            pending.add(task);
+            return () -> {
+            };
+        }
+
+        @Override
+        public Worker createWorker() {
+            return Schedulers.immediate().createWorker();
+        }
+
+        void runPending() {
+            List<Runnable> tasks = new ArrayList<>(pending);
+            pending.clear();
+            tasks.forEach(Runnable::run);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.application.taskmanagement.service;
+
+import com.example.application.DatabaseTest;
+import com.example.application.taskmanagement.domain.Task;
+import com.example.application.taskmanagement.domain.TaskRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DatabaseTest
+@Import(TaskExportService.class)
+// A fetch size of 2 makes the export clear the persistence context in the middle of the rows
+@TestPropertySource(properties = "app.tasks.export.fetch-size=2")
+class TaskExportServiceTest {
+
+    private static final Instant CREATED = Instant.parse("2025-03-01T10:00:00Z");
+
+    @Autowired
+    TaskRepository repository;
+
+    @Autowired
+    TaskExportService service;
+
+    private List<Long> ids;
+
+    @BeforeEach
+    void createTasks() {
+        repository.deleteAllInBatch();
+        ids = repository
+            .saveAllAndFlush(List.of(task("Plain", null), task("Call Bob, then \"Alice\"", LocalDate.of(2025, 4, 1)),
+                    task("Third", null)))
+            .stream()
+            .map(Task::getId)
+            .toList();
+    }
+
+    @Test
+    void csv_export_has_a_header_and_quotes_special_characters() {
+        assertThat(export(TaskFileFormat.CSV).lines()).containsExactly("id,description,dueDate,creationDate",
+                ids.get(0) + ",Plain,," + CREATED,
+                ids.get(1) + ",\"Call Bob, then \"\"Alice\"\"\",2025-04-01," + CREATED,
+                ids.get(2) + ",Third,," + CREATED);
+    }
+
+    @Test
+    void ndjson_export_writes_one_object_per_line() throws Exception {
+        var lines = export(TaskFileFormat.NDJSON).lines().toList();
+        var mapper = new ObjectMapper();
+
+        assertThat(lines).hasSize(3);
+        var second = mapper.readTree(lines.get(1));
+        assertThat(second.get("id").asLong()).isEqualTo(ids.get(1));
+        assertThat(second.get("description").asText()).isEqualTo("Call Bob, then \"Alice\"");
+        assertThat(second.get("dueDate").asText()).isEqualTo("2025-04-01");
+        assertThat(mapper.readTree(lines.get(0)).has("dueDate")).isFalse();
+    }
+
+    private String export(TaskFileFormat format) {
+        var output = new ByteArrayOutputStream();
+        assertThat(service.exportTasks(output, format)).isEqualTo(3);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Task task(String description, LocalDate dueDate) {
+        var task = new Task();
+        task.setDescription(description);
+        task.setCreationDate(CREATED);
+        task.setDueDate(dueDate);
+        return task;
+    }
+}
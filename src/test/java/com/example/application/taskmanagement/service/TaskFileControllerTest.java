@@ -0,0 +1,47 @@
+package com.example.application.taskmanagement.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.server.ResponseStatusException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class TaskFileControllerTest {
+
+    @Mock
+    private TaskImportService importService;
+
+    @Mock
+    private TaskExportService exportService;
+
+    @InjectMocks
+    private TaskFileController controller;
+
+    @Test
+    void export_format_is_matched_case_insensitively() throws Exception {
+        var response = new MockHttpServletResponse();
+
+        controller.export("NDJSON", response);
+
+        verify(exportService).exportTasks(any(), eq(TaskFileFormat.NDJSON));
+    }
+
+    @Test
+    void unknown_export_format_is_a_bad_request() {
+        assertThatThrownBy(() -> controller.export("xml", new MockHttpServletResponse()))
+            .isInstanceOfSatisfying(ResponseStatusException.class,
+                    e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+        verifyNoInteractions(exportService);
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.application.taskmanagement.service;
+
+import com.example.application.taskmanagement.domain.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskGroupCommitterTest {
+
+    private final RecordingWriter writer = new RecordingWriter();
+    private TaskGroupCommitter committer;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        writer.release.countDown();
+        if (committer != null) {
+            committer.stop();
+        }
+    }
+
+    @Test
+    void concurrent_tasks_are_written_in_one_batch() {
+        committer = start(3, 10_000, 10);
+
+        var futures = List.of(committer.submit(task("a")), committer.submit(task("b")), committer.submit(task("c")));
+
+        assertThat(futures).allSatisfy(future -> assertThat(future).succeedsWithin(5, TimeUnit.SECONDS));
+        assertThat(writer.batches).containsExactly(List.of("a", "b", "c"));
+        assertThat(futures.stream().map(CompletableFuture::join)).containsExactly(1L, 2L, 3L);
+    }
+
+    @Test
+    void batch_is_written_when_linger_time_expires() {
+        committer = start(100, 5, 10);
+
+        var future = committer.submit(task("a"));
+
+        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).isEqualTo(1L);
+        assertThat(writer.batches).containsExactly(List.of("a"));
+    }
+
+    @Test
+    void failed_batch_is_retried_task_by_task() {
+        committer = start(3, 10_000, 10);
+
+        var good = committer.submit(task("a"));
+        var bad = committer.submit(task("fail"));
+        var other = committer.submit(task("c"));
+
+        assertThat(good).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(other).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(bad).failsWithin(5, TimeUnit.SECONDS)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(IllegalStateException.class);
+        assertThat(writer.batches).containsExactly(List.of("a", "fail", "c"), List.of("a"), List.of("fail"),
+                List.of("c"));
+    }
+
+    @Test
+    void submit_fails_fast_when_queue_is_full() throws InterruptedException {
+        writer.release = new CountDownLatch(1);
+        committer = start(1, 0, 1);
+
+        committer.submit(task("a"));
+        assertThat(writer.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        committer.submit(task("b"));
+
+        assertThatThrownBy(() -> committer.submit(task("c"))).isInstanceOf(RejectedExecutionException.class)
+            .hasMessage("Task group commit queue is full");
+    }
+
+    @Test
+    void submit_is_rejected_when_disabled() {
+        var disabled = new TaskGroupCommitter(writer, false, 100, 5, 10);
+        disabled.start();
+
+        assertThat(disabled.isEnabled()).isFalse();
+        assertThatThrownBy(() -> disabled.submit(task("a"))).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void stop_writes_queued_tasks_first() throws InterruptedException {
+        committer = start(100, 10_000, 10);
+
+        var future = committer.submit(task("a"));
+        committer.stop();
+
+        assertThat(future).isCompletedWithValue(1L);
+    }
+
+    @Test
+    void queued_tasks_fail_when_the_worker_dies() throws InterruptedException {
+        writer.release = new CountDownLatch(1);
+        committer = start(1, 0, 10);
+
+        var crashing = committer.submit(task("crash"));
+        assertThat(writer.entered.await(5, TimeUnit.SECONDS)).isTrue();
+        var queued = committer.submit(task("b"));
+        writer.release.countDown();
+
+        assertThat(crashing).failsWithin(5, TimeUnit.SECONDS)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(RejectedExecutionException.class);
+        assertThat(queued).failsWithin(5, TimeUnit.SECONDS)
+            .withThrowableOfType(ExecutionException.class)
+            .withCauseInstanceOf(RejectedExecutionException.class);
+        assertThatThrownBy(() -> committer.submit(task("c"))).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    private TaskGroupCommitter start(int batchSize, long lingerMillis, int queueCapacity) {
+        var started = new TaskGroupCommitter(writer, true, batchSize, lingerMillis, queueCapacity);
+        started.start();
+        return started;
+    }
+
+    private static Task task(String description) {
+        var task = new Task();
+        task.setDescription(description);
+        task.setCreationDate(Instant.parse("2025-01-01T00:00:00Z"));
+        return task;
+    }
+
+    private static final class RecordingWriter extends TaskBatchWriter {
+
+        private final List<List<String>> batches = Collections.synchronizedList(new ArrayList<>());
+        private final AtomicLong ids = new AtomicLong();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private CountDownLatch release = new CountDownLatch(0);
+
+        private RecordingWriter() {
+            super(null, null, null);
+        }
+
+        @Override
+        public void insertCreated(List<Task> tasks) {
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            var descriptions = tasks.stream().map(Task::getDescription).toList();
+            batches.add(descriptions);
+            if (descriptions.contains("crash")) {
+                throw new LinkageError("Writer crashed");
+            }
+            if (descriptions.contains("fail")) {
+                throw new IllegalStateException("Insert failed");
+            }
+            tasks.forEach(task -> ReflectionTestUtils.setField(task, "id", ids.incrementAndGet()));
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.application.taskmanagement.service;
+
+import com.example.application.DatabaseTest;
+import com.example.application.base.service.ImportError;
+import com.example.application.taskmanagement.domain.Task;
+import com.example.application.taskmanagement.domain.TaskRepository;
+import com.example.application.taskmanagement.domain.TaskSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DatabaseTest
+@Import({ TaskBatchWriter.class, TaskExportService.class, TaskSearchIndex.class, TaskEventBroadcaster.class })
+class TaskImportServiceTest {
+
+    private static final Instant NOW = Instant.parse("2025-03-01T10:00:00Z");
+
+    @Autowired
+    TaskRepository repository;
+
+    @Autowired
+    TaskBatchWriter writer;
+
+    @Autowired
+    TaskExportService exportService;
+
+    @Autowired
+    TaskSearchIndex index;
+
+    private TaskImportService service;
+
+    @BeforeEach
+    void clearTasks() {
+        repository.deleteAllInBatch();
+        index.rebuild();
+        service = new TaskImportService(writer, Clock.fixed(NOW, ZoneOffset.UTC), 3);
+    }
+
+    @Test
+    void csv_rows_are_stored_in_batches() {
+        var report = importCsv("""
+                description,dueDate
+                Write report,2025-04-01
+                "Call Bob, then Alice",
+                "Say \"\"hi\"\"",2025-04-02
+                Plan sprint
+                """);
+
+        assertThat(report.imported()).isEqualTo(4);
+        assertThat(report.rejected()).isZero();
+        assertThat(report.batchCount()).isEqualTo(2);
+        assertThat(report.batches()).isEmpty();
+        assertThat(repository.findAll()).extracting(Task::getDescription)
+            .containsExactlyInAnyOrder("Write report", "Call Bob, then Alice", "Say \"hi\"", "Plan sprint");
+        assertThat(repository.findAll()).allMatch(task -> task.getCreationDate().equals(NOW));
+    }
+
+    @Test
+    void invalid_lines_are_reported_per_batch_and_the_rest_is_stored() {
+        var report = importCsv("""
+                Valid one
+                %s
+                Valid two,not-a-date
+                Valid three,2025-05-05
+                """.formatted("X".repeat(Task.DESCRIPTION_MAX_LENGTH + 1)));
+
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.rejected()).isEqualTo(2);
+        assertThat(report.batches()).singleElement().satisfies(batch -> {
+            assertThat(batch.batch()).isEqualTo(1);
+            assertThat(batch.firstLine()).isEqualTo(1);
+            assertThat(batch.lastLine()).isEqualTo(3);
+            assertThat(batch.imported()).isEqualTo(1);
+            assertThat(batch.errors()).extracting(ImportError::line).containsExactly(2L, 3L);
+            assertThat(batch.failure()).isNull();
+        });
+        assertThat(repository.findAll()).filteredOn(task -> task.getDescription().equals("Valid three"))
+            .singleElement()
+            .extracting(Task::getDueDate)
+            .isEqualTo(LocalDate.of(2025, 5, 5));
+    }
+
+    @Test
+    void ndjson_lines_are_stored() {
+        var report = service.importTasks(stream("""
+                {"description": "First", "dueDate": "2025-06-01"}
+                {"description": "Second"}
+                {"dueDate": "2025-06-01"}
+                not json
+                """), TaskFileFormat.NDJSON);
+
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.rejected()).isEqualTo(2);
+        assertThat(report.batches()).flatExtracting(TaskImportBatchReport::errors)
+            .extracting(ImportError::line)
+            .containsExactly(3L, 4L);
+    }
+
+    @Test
+    void imported_tasks_become_searchable_after_commit() {
+        importCsv("""
+                Renew passport
+                Passport photos
+                """);
+
+        assertThat(index.findByTerm("passport", 10)).hasSize(2);
+        assertThat(index.findByPrefix("phot", 10)).hasSize(1);
+    }
+
+    @Test
+    void first_line_is_a_header_only_if_it_names_columns() {
+        var report = importCsv("""
+                Description of the release
+                description
+                """);
+
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(repository.findAll()).extracting(Task::getDescription)
+            .containsExactlyInAnyOrder("Description of the release", "description");
+    }
+
+    @Test
+    void exported_csv_is_imported_by_its_header() {
+        var report = importCsv("""
+                id,description,dueDate,creationDate
+                17,"Call Bob, then Alice",2025-04-01,2025-01-01T08:00:00Z
+                18,Plan sprint,,2025-01-02T08:00:00Z
+                19,Too,many,fields,here
+                """);
+
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.rejected()).isEqualTo(1);
+        assertThat(repository.findAll()).extracting(Task::getDescription, Task::getDueDate)
+            .containsExactlyInAnyOrder(tuple("Call Bob, then Alice", LocalDate.of(2025, 4, 1)),
+                    tuple("Plan sprint", null));
+        assertThat(repository.findAll()).allMatch(task -> task.getCreationDate().equals(NOW));
+    }
+
+    @Test
+    void exported_line_breaks_survive_the_round_trip() {
+        var task = new Task();
+        task.setDescription("Agenda:\n1. \"Budget\", review\n\n2. Hiring");
+        task.setCreationDate(NOW);
+        task.setDueDate(LocalDate.of(2025, 4, 1));
+        repository.saveAndFlush(task);
+        var export = new ByteArrayOutputStream();
+        exportService.exportTasks(export, TaskFileFormat.CSV);
+        repository.deleteAllInBatch();
+
+        var report = importCsv(export.toString(StandardCharsets.UTF_8));
+
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(repository.findAll()).extracting(Task::getDescription, Task::getDueDate)
+            .containsExactly(tuple("Agenda:\n1. \"Budget\", review\n\n2. Hiring", LocalDate.of(2025, 4, 1)));
+    }
+
+    @Test
+    void multi_line_records_are_reported_at_their_first_line() {
+        var report = importCsv("""
+                "First
+                line",2025-04-01
+                "Unterminated
+                """);
+
+        assertThat(report.imported()).isEqualTo(1);
+        assertThat(report.batches()).flatExtracting(TaskImportBatchReport::errors)
+            .extracting(ImportError::line, ImportError::message)
+            .containsExactly(tuple(3L, "Unterminated quoted field"));
+        assertThat(repository.findAll()).extracting(Task::getDescription).containsExactly("First\nline");
+    }
+
+    @Test
+    void quoted_csv_fields_are_unescaped() {
+        assertThat(TaskImportService.parseCsvLine("\"a, \"\"b\"\"\",2025-01-01")).containsExactly("a, \"b\"",
+                "2025-01-01");
+        assertThat(TaskImportService.parseCsvLine("plain")).containsExactly("plain");
+    }
+
+    private TaskImportReport importCsv(String content) {
+        return service.importTasks(stream(content), TaskFileFormat.CSV);
+    }
+
+    private static ByteArrayInputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
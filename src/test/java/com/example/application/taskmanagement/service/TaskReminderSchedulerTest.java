@@ -0,0 +1,219 @@
+package com.example.application.taskmanagement.service;
+
+import com.example.application.DatabaseTest;
+import com.example.application.taskmanagement.domain.Task;
+import com.example.application.taskmanagement.domain.TaskRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Scope;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Loads reminders from an in-memory H2 database into a {@link TaskReminderScheduler} driven by a manual clock.
+ */
+@DatabaseTest
+@Import({ TaskEventBroadcaster.class, TaskReminderSchedulerTest.SchedulerConfiguration.class })
+class TaskReminderSchedulerTest {
+
+    private static final LocalDate TODAY = LocalDate.parse("2025-06-15");
+    private static final Instant EARLY_MORNING = Instant.parse("2025-06-15T06:00:00Z");
+
+    @Autowired
+    TaskRepository repository;
+
+    @Autowired
+    ObjectProvider<TaskReminderScheduler> schedulers;
+
+    @Autowired
+    ManualClock clock;
+
+    @Autowired
+    DueEvents dueEvents;
+
+    private List<Task> tasks;
+
+    @BeforeEach
+    void createTasks() {
+        clock.now = EARLY_MORNING;
+        dueEvents.received.clear();
+        repository.deleteAllInBatch();
+        tasks = repository.saveAllAndFlush(List.of(task("Yesterday", TODAY.minusDays(1)), task("Today 1", TODAY),
+                task("Today 2", TODAY), task("Tomorrow", TODAY.plusDays(1)),
+                task("Day after tomorrow", TODAY.plusDays(2)), task("Someday", null)));
+    }
+
+    @Test
+    void reminders_are_published_at_the_time_of_day_on_the_due_date() {
+        var scheduler = newScheduler();
+        scheduler.sync();
+        assertThat(scheduler.pendingCount()).isEqualTo(3);
+
+        advanceTo("2025-06-15T08:59:59Z", scheduler);
+        assertThat(dueEvents.received).isEmpty();
+
+        advanceTo("2025-06-15T09:00:00Z", scheduler);
+        assertThat(dueEvents.received).containsExactlyInAnyOrder(new TaskDueEvent(id("Today 1"), TODAY),
+                new TaskDueEvent(id("Today 2"), TODAY));
+
+        advanceTo("2025-06-16T00:00:01Z", scheduler);
+        scheduler.sync();
+        assertThat(scheduler.pendingCount()).isEqualTo(2);
+
+        advanceTo("2025-06-17T09:00:00Z", scheduler);
+        assertThat(dueEvents.received).hasSize(4)
+            .contains(new TaskDueEvent(id("Tomorrow"), TODAY.plusDays(1)),
+                    new TaskDueEvent(id("Day after tomorrow"), TODAY.plusDays(2)));
+    }
+
+    @Test
+    void each_reminder_is_published_by_one_node_only() {
+        var node1 = newScheduler();
+        var node2 = newScheduler();
+        node1.sync();
+        node2.sync();
+
+        clock.now = Instant.parse("2025-06-15T09:00:00Z");
+        node1.tick();
+        node2.tick();
+        assertThat(dueEvents.received).containsExactlyInAnyOrder(new TaskDueEvent(id("Today 1"), TODAY),
+                new TaskDueEvent(id("Today 2"), TODAY));
+
+        var moved = repository.findById(id("Today 1")).orElseThrow();
+        moved.setDueDate(TODAY.plusDays(1));
+        repository.saveAndFlush(moved);
+        node1.onTaskEvent(TaskEvent.reload());
+        node2.onTaskEvent(TaskEvent.reload());
+        node1.sync();
+        node2.sync();
+        advanceTo("2025-06-16T09:00:00Z", node1);
+        advanceTo("2025-06-16T09:00:00Z", node2);
+        assertThat(dueEvents.received).hasSize(4).contains(new TaskDueEvent(id("Today 1"), TODAY.plusDays(1)));
+    }
+
+    @Test
+    void reminders_that_have_passed_are_not_loaded() {
+        clock.now = Instant.parse("2025-06-15T10:00:00Z");
+        var scheduler = newScheduler();
+
+        scheduler.sync();
+
+        assertThat(scheduler.pendingCount()).isEqualTo(1);
+    }
+
+    @Test
+    void created_tasks_within_the_window_are_added_until_a_reload() {
+        var scheduler = newScheduler();
+        scheduler.sync();
+
+        scheduler.onTaskEvent(TaskEvent.created(createdTask(100L, TODAY.plusDays(1))));
+        scheduler.onTaskEvent(TaskEvent.created(createdTask(101L, TODAY.plusDays(5))));
+        scheduler.onTaskEvent(TaskEvent.created(createdTask(102L, null)));
+        assertThat(scheduler.pendingCount()).isEqualTo(4);
+
+        scheduler.onTaskEvent(TaskEvent.reload());
+        scheduler.sync();
+        assertThat(scheduler.pendingCount()).isEqualTo(3);
+    }
+
+    private TaskReminderScheduler newScheduler() {
+        return schedulers.getObject();
+    }
+
+    private void advanceTo(String instant, TaskReminderScheduler scheduler) {
+        clock.now = Instant.parse(instant);
+        scheduler.tick();
+    }
+
+    private long id(String description) {
+        return tasks.stream().filter(task -> task.getDescription().equals(description)).findFirst().orElseThrow()
+            .getId();
+    }
+
+    private static Task task(String description, LocalDate dueDate) {
+        var task = new Task();
+        task.setDescription(description);
+        task.setCreationDate(EARLY_MORNING.minusSeconds(3600));
+        task.setDueDate(dueDate);
+        return task;
+    }
+
+    private static Task createdTask(long id, LocalDate dueDate) {
+        var task = task("Created " + id, dueDate);
+        ReflectionTestUtils.setField(task, "id", id);
+        return task;
+    }
+
+    static final class ManualClock extends Clock {
+
+        private volatile Instant now = EARLY_MORNING;
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    static final class DueEvents {
+
+        private final List<TaskDueEvent> received = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        void onTaskDue(TaskDueEvent event) {
+            received.add(event);
+        }
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class SchedulerConfiguration {
+
+        @Bean
+        ManualClock clock() {
+            return new ManualClock();
+        }
+
+        @Bean
+        DueEvents dueEvents() {
+            return new DueEvents();
+        }
+
+        @Bean
+        TaskReminderClaims taskReminderClaims(TaskRepository repository) {
+            return new TaskReminderClaims(repository);
+        }
+
+        /** A new scheduler per test, each starting its timing wheel at the current time of the manual clock. */
+        @Bean
+        @Scope("prototype")
+        TaskReminderScheduler taskReminderScheduler(TaskRepository repository, TaskEventBroadcaster events,
+                TaskReminderClaims claims, ApplicationEventPublisher publisher, ManualClock clock) {
+            return new TaskReminderScheduler(repository, events, claims, publisher, clock, "09:00", 1, 1000, 64);
+        }
+    }
+}
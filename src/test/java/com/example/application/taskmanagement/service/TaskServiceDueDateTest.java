@@ -0,0 +1,104 @@
+package com.example.application.taskmanagement.service;
+
+import com.example.application.DatabaseTest;
+import com.example.application.taskmanagement.domain.ArchivedTaskRepository;
+import com.example.application.taskmanagement.domain.Task;
+import com.example.application.taskmanagement.domain.TaskDueCounts;
+import com.example.application.taskmanagement.domain.TaskRepository;
+import com.example.application.taskmanagement.domain.TaskSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the due-date queries of {@link TaskService} against an in-memory H2 database, and checks that H2 answers them
+ * from the due-date index.
+ */
+@DatabaseTest
+class TaskServiceDueDateTest {
+
+    private static final LocalDate TODAY = LocalDate.parse("2025-03-12");
+
+    @Autowired
+    TaskRepository repository;
+
+    @Autowired
+    ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    private TaskService service;
+
+    @BeforeEach
+    void createTasks() {
+        repository.deleteAllInBatch();
+        var base = Instant.parse("2025-01-01T00:00:00Z");
+        List<Task> tasks = new ArrayList<>();
+        // One task due on each day from ten days ago to ten days ahead, and nine without a due date
+        for (int i = 0; i < 30; i++) {
+            var task = new Task();
+            task.setDescription("Task " + i);
+            task.setCreationDate(base.minusSeconds(i));
+            task.setDueDate(i < 21 ? TODAY.plusDays(i - 10) : null);
+            tasks.add(task);
+        }
+        repository.saveAllAndFlush(tasks);
+        var clock = Clock.fixed(TODAY.atTime(9, 0).toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        service = new TaskService(repository, archivedTaskRepository, new TaskSearchIndex(repository),
+                new TaskEventBroadcaster(0), new TaskGroupCommitter(null, false, 100, 5, 10_000), clock);
+    }
+
+    @Test
+    void due_range_is_inclusive_and_ordered_by_due_date() {
+        List<Task> tasks = service.listDueBetween(TODAY.minusDays(2), TODAY.plusDays(2), 100);
+
+        assertThat(tasks).extracting(Task::getDueDate)
+            .containsExactly(TODAY.minusDays(2), TODAY.minusDays(1), TODAY, TODAY.plusDays(1), TODAY.plusDays(2));
+        assertThat(service.listDueBetween(TODAY, TODAY.plusDays(100), 3)).hasSize(3);
+    }
+
+    @Test
+    void reversed_range_and_zero_limit_are_rejected() {
+        assertThatThrownBy(() -> service.listDueBetween(TODAY, TODAY.minusDays(1), 10))
+            .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.listOverdue(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void overdue_tasks_are_longest_overdue_first() {
+        List<Task> overdue = service.listOverdue(100);
+
+        assertThat(overdue).hasSize(10);
+        assertThat(overdue.getFirst().getDueDate()).isEqualTo(TODAY.minusDays(10));
+        assertThat(overdue).allSatisfy(task -> assertThat(task.getDueDate()).isBefore(TODAY));
+    }
+
+    @Test
+    void due_counts_split_overdue_today_and_rest_of_week() {
+        assertThat(service.countDue()).isEqualTo(new TaskDueCounts(10, 1, 6));
+    }
+
+    @Test
+    void due_date_queries_use_the_due_date_index() {
+        String rangePlan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT * FROM task WHERE due_date BETWEEN DATE '2025-03-10' AND DATE '2025-03-14'",
+                String.class);
+        String countPlan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT COUNT(*) FROM task WHERE due_date < DATE '2025-03-19'", String.class);
+
+        assertThat(rangePlan).containsIgnoringCase("idx_task_due_date_creation_date");
+        assertThat(countPlan).containsIgnoringCase("idx_task_due_date_creation_date");
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.application.taskmanagement.service;
+
+import com.example.application.DatabaseTest;
+import com.example.application.taskmanagement.domain.ArchivedTaskRepository;
+import com.example.application.taskmanagement.domain.Task;
+import com.example.application.taskmanagement.domain.TaskRepository;
+import com.example.application.taskmanagement.domain.TaskSearchIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs {@link TaskService#listAfter(TaskCursor, int, boolean)} against an in-memory H2 database, so the keyset query
+ * generated by Spring Data is exercised for real.
+ */
+@DatabaseTest
+class TaskServiceKeysetTest {
+
+    private static final int TASK_COUNT = 25;
+
+    @Autowired
+    TaskRepository repository;
+
+    @Autowired
+    ArchivedTaskRepository archivedTaskRepository;
+
+    private TaskService service;
+
+    @BeforeEach
+    void createTasks() {
+        repository.deleteAllInBatch();
+        var base = Instant.parse("2025-01-01T00:00:00Z");
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            var task = new Task();
+            task.setDescription("Task " + i);
+            // Groups of three share a creation date, so the ID has to break ties
+            task.setCreationDate(base.plusSeconds((TASK_COUNT - i) / 3));
+            tasks.add(task);
+        }
+        repository.saveAllAndFlush(tasks);
+        service = new TaskService(repository, archivedTaskRepository, new TaskSearchIndex(repository),
+                new TaskEventBroadcaster(0), new TaskGroupCommitter(null, false, 100, 5, 10_000), Clock.systemUTC());
+    }
+
+    @Test
+    void windows_cover_every_task_once_in_creation_order() {
+        List<Task> seen = new ArrayList<>();
+        TaskCursor cursor = null;
+        int windows = 0;
+        do {
+            TaskWindow window = service.listAfter(cursor, 4, false);
+            assertThat(window.items()).hasSizeLessThanOrEqualTo(4);
+            seen.addAll(window.items());
+            cursor = window.next();
+            windows++;
+        } while (cursor != null);
+
+        assertThat(windows).isEqualTo(7);
+        assertThat(seen).hasSize(TASK_COUNT);
+        assertThat(seen).extracting(Task::getId).doesNotHaveDuplicates();
+        for (int i = 1; i < seen.size(); i++) {
+            var previous = seen.get(i - 1);
+            var current = seen.get(i);
+            assertThat(current.getCreationDate()).isAfterOrEqualTo(previous.getCreationDate());
+            if (current.getCreationDate().equals(previous.getCreationDate())) {
+                assertThat(current.getId()).isGreaterThan(previous.getId());
+            }
+        }
+    }
+
+    @Test
+    void last_window_has_no_cursor() {
+        TaskWindow window = service.listAfter(null, TASK_COUNT, false);
+
+        assertThat(window.items()).hasSize(TASK_COUNT);
+        assertThat(window.next()).isNull();
+    }
+
+    @Test
+    void oversized_limit_is_capped_and_zero_is_rejected() {
+        assertThat(service.listAfter(null, Integer.MAX_VALUE, false).items()).hasSize(TASK_COUNT);
+        assertThatThrownBy(() -> service.listAfter(null, 0, false)).isInstanceOf(IllegalArgumentException.class);
+    }
+}